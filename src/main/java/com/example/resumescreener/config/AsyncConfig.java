@@ -0,0 +1,86 @@
+package com.example.resumescreener.config;
+
+import com.example.resumescreener.utils.PriorityTaskExecutor;
+import com.example.resumescreener.utils.WorkClass;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * Async configuration for background resume processing.
+ * All background work runs on one bounded worker pool that schedules by
+ * priority class, so slow documents never pin servlet threads and a bulk
+ * backfill cannot starve interactive uploads:
+ *
+ * - Asynchronous uploads run as INTERACTIVE. When their queue is full, new
+ *   submissions are rejected (HTTP 503) instead of piling up in memory.
+ * - Bulk imports fan out as BULK; when the queue is full the submitting request
+ *   thread runs the task itself, which throttles the reader.
+ * - Parse retries from the work queue run as MAINTENANCE.
+ *
+ * Free threads pick the next class by weight, with a maximum wait for starvation
+ * protection and optionally threads reserved for interactive work.
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    public static final String RESUME_PROCESSING_EXECUTOR = "resumeProcessingExecutor";
+    public static final String BULK_IMPORT_EXECUTOR = "bulkImportExecutor";
+    public static final String MAINTENANCE_EXECUTOR = "maintenanceExecutor";
+
+    @Value("${app.executor.threads:6}")
+    private int threads;
+
+    @Value("${app.executor.reserved-interactive-threads:1}")
+    private int reservedInteractiveThreads;
+
+    @Value("${app.executor.max-wait-ms:30000}")
+    private long maxWaitMs;
+
+    @Value("${app.executor.weights.interactive:8}")
+    private int interactiveWeight;
+
+    @Value("${app.executor.weights.bulk:3}")
+    private int bulkWeight;
+
+    @Value("${app.executor.weights.maintenance:1}")
+    private int maintenanceWeight;
+
+    @Value("${app.resume.processing.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Value("${app.resume.bulk.queue-capacity:16}")
+    private int bulkQueueCapacity;
+
+    @Value("${app.parse-queue.queue-capacity:16}")
+    private int maintenanceQueueCapacity;
+
+    @Bean
+    public PriorityTaskExecutor priorityTaskExecutor() {
+        PriorityTaskExecutor executor = new PriorityTaskExecutor("background-", threads);
+        executor.setReservedInteractiveThreads(reservedInteractiveThreads);
+        executor.setMaxWaitMs(maxWaitMs);
+        executor.configureClass(WorkClass.INTERACTIVE, interactiveWeight, queueCapacity, false);
+        executor.configureClass(WorkClass.BULK, bulkWeight, bulkQueueCapacity, true);
+        executor.configureClass(WorkClass.MAINTENANCE, maintenanceWeight, maintenanceQueueCapacity, true);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean(name = RESUME_PROCESSING_EXECUTOR)
+    public PriorityTaskExecutor.ClassExecutor resumeProcessingExecutor(PriorityTaskExecutor priorityTaskExecutor) {
+        return priorityTaskExecutor.forClass(WorkClass.INTERACTIVE);
+    }
+
+    @Bean(name = BULK_IMPORT_EXECUTOR)
+    public PriorityTaskExecutor.ClassExecutor bulkImportExecutor(PriorityTaskExecutor priorityTaskExecutor) {
+        return priorityTaskExecutor.forClass(WorkClass.BULK);
+    }
+
+    @Bean(name = MAINTENANCE_EXECUTOR)
+    public PriorityTaskExecutor.ClassExecutor maintenanceExecutor(PriorityTaskExecutor priorityTaskExecutor) {
+        return priorityTaskExecutor.forClass(WorkClass.MAINTENANCE);
+    }
+}
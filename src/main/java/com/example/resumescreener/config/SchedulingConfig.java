@@ -0,0 +1,13 @@
+package com.example.resumescreener.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling configuration for periodic background work,
+ * e.g. the parse work queue poller.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
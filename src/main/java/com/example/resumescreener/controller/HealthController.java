@@ -0,0 +1,47 @@
+package com.example.resumescreener.controller;
+
+import com.example.resumescreener.utils.TikaExtractor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * REST Controller for application readiness.
+ * 
+ * Endpoints:
+ * - GET /health/readiness - 200 once the text extractor has warmed up, 503 before
+ */
+@RestController
+@RequestMapping("/api/health")
+public class HealthController {
+
+    private final TikaExtractor tikaExtractor;
+
+    @Autowired
+    public HealthController(TikaExtractor tikaExtractor) {
+        this.tikaExtractor = tikaExtractor;
+    }
+
+    /**
+     * Report whether the application is ready to process uploads at full speed.
+     * 
+     * @return Readiness details with HTTP 200 status if ready, 503 otherwise
+     */
+    @GetMapping("/readiness")
+    public ResponseEntity<Map<String, Object>> getReadiness() {
+        boolean extractorReady = tikaExtractor.isReady();
+
+        Map<String, Object> readiness = new LinkedHashMap<>();
+        readiness.put("status", extractorReady ? "READY" : "WARMING_UP");
+        readiness.put("extractorReady", extractorReady);
+
+        HttpStatus status = extractorReady ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE;
+        return ResponseEntity.status(status).body(readiness);
+    }
+}
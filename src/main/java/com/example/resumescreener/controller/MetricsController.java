@@ -0,0 +1,112 @@
+package com.example.resumescreener.controller;
+
+import com.example.resumescreener.dto.AdmissionMetricsResponse;
+import com.example.resumescreener.dto.WorkClassMetricsResponse;
+import com.example.resumescreener.service.ParseQueueService;
+import com.example.resumescreener.utils.PriorityTaskExecutor;
+import com.example.resumescreener.utils.UploadAdmission;
+import com.example.resumescreener.utils.WorkClass;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * REST Controller for operational metrics.
+ * 
+ * Endpoints:
+ * - GET /metrics/admission - Upload admission control: in-flight work, queue depth and rejections
+ * - GET /metrics/parse-queue - Parse work queue: items by status
+ * - GET /metrics/executor - Background pool: queue depth, throughput and latency per priority class
+ */
+@RestController
+@RequestMapping("/api/metrics")
+public class MetricsController {
+
+    private final UploadAdmission uploadAdmission;
+    private final ParseQueueService parseQueueService;
+    private final PriorityTaskExecutor priorityTaskExecutor;
+
+    @Autowired
+    public MetricsController(UploadAdmission uploadAdmission, ParseQueueService parseQueueService,
+                             PriorityTaskExecutor priorityTaskExecutor) {
+        this.uploadAdmission = uploadAdmission;
+        this.parseQueueService = parseQueueService;
+        this.priorityTaskExecutor = priorityTaskExecutor;
+    }
+
+    /**
+     * Get upload admission control metrics.
+     * 
+     * @return Current admission metrics with HTTP 200 status
+     */
+    @GetMapping("/admission")
+    public ResponseEntity<AdmissionMetricsResponse> getAdmissionMetrics() {
+        AdmissionMetricsResponse metrics = new AdmissionMetricsResponse();
+        metrics.setEnabled(uploadAdmission.isEnabled());
+        metrics.setActiveExtractions(uploadAdmission.getActiveExtractions());
+        metrics.setMaxConcurrentExtractions(uploadAdmission.getMaxConcurrentExtractions());
+        metrics.setInFlightBytes(uploadAdmission.getInFlightBytes());
+        metrics.setMaxInFlightBytes(uploadAdmission.getMaxInFlightBytes());
+        metrics.setQueueDepth(uploadAdmission.getQueueDepth());
+        metrics.setPeakQueueDepth(uploadAdmission.getPeakQueueDepth());
+        metrics.setMaxQueued(uploadAdmission.getMaxQueued());
+        metrics.setAdmittedCount(uploadAdmission.getAdmittedCount());
+        metrics.setRejectedQueueFullCount(uploadAdmission.getRejectedQueueFullCount());
+        metrics.setRejectedTimeoutCount(uploadAdmission.getRejectedTimeoutCount());
+        return ResponseEntity.ok(metrics);
+    }
+
+    /**
+     * Get parse work queue metrics (shared by all instances).
+     * 
+     * @return Item counts by status and this instance's worker ID with HTTP 200 status
+     */
+    @GetMapping("/parse-queue")
+    public ResponseEntity<Map<String, Object>> getParseQueueMetrics() {
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("instanceId", parseQueueService.getInstanceId());
+        metrics.put("items", parseQueueService.countByStatus());
+        return ResponseEntity.ok(metrics);
+    }
+
+    /**
+     * Get background pool metrics per priority class (interactive, bulk, maintenance).
+     * Wait and run times are percentiles over each class's recent tasks.
+     * 
+     * @return Pool size and per-class metrics with HTTP 200 status
+     */
+    @GetMapping("/executor")
+    public ResponseEntity<Map<String, Object>> getExecutorMetrics() {
+        List<WorkClassMetricsResponse> classes = new ArrayList<>();
+        for (WorkClass workClass : WorkClass.values()) {
+            WorkClassMetricsResponse classMetrics = new WorkClassMetricsResponse(workClass.name());
+            classMetrics.setWeight(priorityTaskExecutor.getWeight(workClass));
+            classMetrics.setQueueCapacity(priorityTaskExecutor.getQueueCapacity(workClass));
+            classMetrics.setQueueDepth(priorityTaskExecutor.getQueueDepth(workClass));
+            classMetrics.setActiveCount(priorityTaskExecutor.getActiveCount(workClass));
+            classMetrics.setSubmittedCount(priorityTaskExecutor.getSubmittedCount(workClass));
+            classMetrics.setCompletedCount(priorityTaskExecutor.getCompletedCount(workClass));
+            classMetrics.setRejectedCount(priorityTaskExecutor.getRejectedCount(workClass));
+            classMetrics.setCallerRunsCount(priorityTaskExecutor.getCallerRunsCount(workClass));
+            classMetrics.setWaitP50Ms(priorityTaskExecutor.getWaitTimeMs(workClass, 0.50));
+            classMetrics.setWaitP95Ms(priorityTaskExecutor.getWaitTimeMs(workClass, 0.95));
+            classMetrics.setWaitP99Ms(priorityTaskExecutor.getWaitTimeMs(workClass, 0.99));
+            classMetrics.setRunP50Ms(priorityTaskExecutor.getRunTimeMs(workClass, 0.50));
+            classMetrics.setRunP99Ms(priorityTaskExecutor.getRunTimeMs(workClass, 0.99));
+            classes.add(classMetrics);
+        }
+
+        Map<String, Object> metrics = new LinkedHashMap<>();
+        metrics.put("threads", priorityTaskExecutor.getThreadCount());
+        metrics.put("reservedInteractiveThreads", priorityTaskExecutor.getReservedInteractiveThreads());
+        metrics.put("classes", classes);
+        return ResponseEntity.ok(metrics);
+    }
+}
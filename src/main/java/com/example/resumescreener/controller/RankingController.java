@@ -2,6 +2,8 @@ package com.example.resumescreener.controller;
 
 import com.example.resumescreener.dto.RankingResponse;
 import com.example.resumescreener.service.RankingService;
+import com.example.resumescreener.service.ScoringService;
+import com.example.resumescreener.utils.ScoringWeights;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -13,27 +15,52 @@ import java.util.List;
  * 
  * Endpoints:
  * - GET /ranking/{jobId} - Get ranked list of resumes for a job
+ *   (optional ?limit=&offset= to page through the top candidates, and
+ *   ?skillWeight=&experienceWeight=&educationWeight=&projectWeight= for a
+ *   what-if ranking with custom weights)
  */
 @RestController
 @RequestMapping("/api/ranking")
 public class RankingController {
 
     private final RankingService rankingService;
+    private final ScoringService scoringService;
 
     @Autowired
-    public RankingController(RankingService rankingService) {
+    public RankingController(RankingService rankingService, ScoringService scoringService) {
         this.rankingService = rankingService;
+        this.scoringService = scoringService;
     }
 
     /**
      * Get ranked list of resumes for a job posting.
      * 
      * @param jobId Job ID from path variable
+     * @param limit Optional maximum number of candidates to return (all if omitted)
+     * @param offset Number of top candidates to skip (default 0)
+     * @param skillWeight Optional skill weight for a what-if ranking
+     * @param experienceWeight Optional experience weight for a what-if ranking
+     * @param educationWeight Optional education weight for a what-if ranking
+     * @param projectWeight Optional project weight for a what-if ranking
      * @return Ranked list of resumes with HTTP 200 status
      */
     @GetMapping("/{jobId}")
-    public ResponseEntity<List<RankingResponse>> getRankedResumes(@PathVariable Long jobId) {
-        List<RankingResponse> rankings = rankingService.getRankedResumes(jobId);
+    public ResponseEntity<List<RankingResponse>> getRankedResumes(
+            @PathVariable Long jobId,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "offset", defaultValue = "0") int offset,
+            @RequestParam(value = "skillWeight", required = false) Double skillWeight,
+            @RequestParam(value = "experienceWeight", required = false) Double experienceWeight,
+            @RequestParam(value = "educationWeight", required = false) Double educationWeight,
+            @RequestParam(value = "projectWeight", required = false) Double projectWeight) {
+        // Any weight makes this a what-if ranking; omitted weights keep their configured value
+        if (skillWeight != null || experienceWeight != null || educationWeight != null || projectWeight != null) {
+            ScoringWeights weights = scoringService.weightsWith(
+                    skillWeight, experienceWeight, educationWeight, projectWeight);
+            return ResponseEntity.ok(rankingService.getRankedResumes(jobId, limit, offset, weights));
+        }
+
+        List<RankingResponse> rankings = rankingService.getRankedResumes(jobId, limit, offset);
         return ResponseEntity.ok(rankings);
     }
 }
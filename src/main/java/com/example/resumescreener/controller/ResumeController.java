@@ -1,21 +1,38 @@
 package com.example.resumescreener.controller;
 
+import com.example.resumescreener.dto.BulkImportResponse;
 import com.example.resumescreener.dto.ResumeResponse;
+import com.example.resumescreener.dto.ResumeStatusResponse;
+import com.example.resumescreener.service.BulkImportService;
 import com.example.resumescreener.service.ResumeParserService;
 import com.example.resumescreener.service.ResumeService;
+import com.example.resumescreener.utils.UploadAdmission;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.util.List;
+
 /**
  * REST Controller for resume upload and management.
  * 
  * Endpoints:
  * - POST /resumes/upload - Upload and extract text from resume
+ *   (?async=true returns 202 immediately and processes in the background)
+ * - POST /resumes/stream - Upload a resume sent as the raw request body (no multipart buffering)
+ * - POST /resumes/bulk - Import many resume files and/or ZIP archives in one request
  * - GET /resumes/{id} - Get resume by ID
+ * - GET /resumes/{id}/status - Get processing status of an uploaded resume
  * - POST /resumes/{id}/parse - Parse resume and extract structured data
+ * - POST /resumes/{id}/reextract - Extract text again from the stored original file and re-parse
+ * 
+ * Endpoints that extract text on the request thread (sync upload, stream, reextract)
+ * pass upload admission control first and answer 429 with Retry-After under load.
+ * Async uploads and bulk imports pass it when their extraction starts.
  */
 @RestController
 @RequestMapping("/api/resumes")
@@ -23,27 +40,92 @@ public class ResumeController {
 
     private final ResumeService resumeService;
     private final ResumeParserService resumeParserService;
+    private final BulkImportService bulkImportService;
+    private final UploadAdmission uploadAdmission;
 
     @Autowired
-    public ResumeController(ResumeService resumeService, ResumeParserService resumeParserService) {
+    public ResumeController(ResumeService resumeService, ResumeParserService resumeParserService,
+                            BulkImportService bulkImportService, UploadAdmission uploadAdmission) {
         this.resumeService = resumeService;
         this.resumeParserService = resumeParserService;
+        this.bulkImportService = bulkImportService;
+        this.uploadAdmission = uploadAdmission;
     }
 
     /**
      * Upload a resume file and extract text.
+     * In async mode the file is only stored and queued; poll GET /resumes/{id}/status
+     * until processing has completed.
      * 
      * @param file Multipart file (PDF, DOCX, DOC)
      * @param candidateName Optional candidate name (for bias control)
-     * @return Uploaded resume details with HTTP 201 status
+     * @param async Process in the background (default false)
+     * @return Uploaded resume details with HTTP 201 status, or processing status with HTTP 202 in async mode;
+     *         HTTP 200 with the existing resume if the same file was uploaded before
      */
     @PostMapping("/upload")
-    public ResponseEntity<ResumeResponse> uploadResume(
+    public ResponseEntity<?> uploadResume(
             @RequestParam("file") MultipartFile file,
-            @RequestParam(value = "candidateName", required = false) String candidateName) {
+            @RequestParam(value = "candidateName", required = false) String candidateName,
+            @RequestParam(value = "async", defaultValue = "false") boolean async) {
         
-        ResumeResponse resumeResponse = resumeService.uploadResume(file, candidateName);
-        return ResponseEntity.status(HttpStatus.CREATED).body(resumeResponse);
+        // Duplicates link to an existing record, so nothing new is created or queued
+        if (async) {
+            ResumeStatusResponse statusResponse = resumeService.submitResume(file, candidateName);
+            HttpStatus status = statusResponse.isDuplicate() ? HttpStatus.OK : HttpStatus.ACCEPTED;
+            return ResponseEntity.status(status).body(statusResponse);
+        }
+
+        ResumeResponse resumeResponse;
+        try (UploadAdmission.Permit ignored = uploadAdmission.admit(file.getSize())) {
+            resumeResponse = resumeService.uploadResume(file, candidateName);
+        }
+        HttpStatus status = resumeResponse.isDuplicate() ? HttpStatus.OK : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(resumeResponse);
+    }
+
+    /**
+     * Upload a resume sent as the raw request body.
+     * The body is read once: it is hashed, type-checked, extracted and stored in the
+     * same pass, without being buffered in memory or spooled by the multipart resolver.
+     * 
+     * @param request HTTP request whose body is the resume file (PDF, DOCX, DOC)
+     * @param fileName Original file name
+     * @param candidateName Optional candidate name (for bias control)
+     * @return Uploaded resume details with HTTP 201 status;
+     *         HTTP 200 with the existing resume if the same file was uploaded before
+     * @throws IOException if the request body cannot be opened
+     */
+    @PostMapping("/stream")
+    public ResponseEntity<ResumeResponse> uploadResumeStream(
+            HttpServletRequest request,
+            @RequestParam("fileName") String fileName,
+            @RequestParam(value = "candidateName", required = false) String candidateName) throws IOException {
+
+        // Without a declared length, budget for the largest allowed upload
+        long contentLength = request.getContentLengthLong();
+        ResumeResponse resumeResponse;
+        try (UploadAdmission.Permit ignored = uploadAdmission.admit(
+                contentLength >= 0 ? contentLength : resumeService.getMaxFileSizeBytes())) {
+            resumeResponse = resumeService.uploadResumeStream(
+                    request.getInputStream(), fileName, contentLength, candidateName);
+        }
+        HttpStatus status = resumeResponse.isDuplicate() ? HttpStatus.OK : HttpStatus.CREATED;
+        return ResponseEntity.status(status).body(resumeResponse);
+    }
+
+    /**
+     * Import many resumes at once. Accepts resume files and ZIP archives of resume files.
+     * Each part, archives included, is limited to the per-resume file size; larger
+     * collections are sent as several archives.
+     * 
+     * @param files Multipart files (PDF, DOCX, DOC or ZIP)
+     * @return Per-file import report with HTTP 200 status
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkImportResponse> importResumes(@RequestParam("files") List<MultipartFile> files) {
+        BulkImportResponse report = bulkImportService.importResumes(files);
+        return ResponseEntity.ok(report);
     }
 
     /**
@@ -69,6 +151,18 @@ public class ResumeController {
         return ResponseEntity.ok(resumeResponse);
     }
 
+    /**
+     * Get the processing status of an uploaded resume.
+     * 
+     * @param id Resume ID from path variable
+     * @return Processing status with HTTP 200 status
+     */
+    @GetMapping("/{id}/status")
+    public ResponseEntity<ResumeStatusResponse> getResumeStatus(@PathVariable Long id) {
+        ResumeStatusResponse statusResponse = resumeService.getResumeStatus(id);
+        return ResponseEntity.ok(statusResponse);
+    }
+
     /**
      * Parse a resume and extract structured data (skills, experience, education, projects).
      * 
@@ -81,4 +175,19 @@ public class ResumeController {
         ResumeResponse resumeResponse = resumeService.getResumeById(id);
         return ResponseEntity.ok(resumeResponse);
     }
+
+    /**
+     * Extract the text of a resume again from its stored original file and re-parse it.
+     * 
+     * @param id Resume ID from path variable
+     * @return Updated resume details with HTTP 200 status
+     */
+    @PostMapping("/{id}/reextract")
+    public ResponseEntity<ResumeResponse> reextractResume(@PathVariable Long id) {
+        ResumeResponse resumeResponse;
+        try (UploadAdmission.Permit ignored = uploadAdmission.admit(resumeService.getResumeFileSize(id))) {
+            resumeResponse = resumeService.reextractResume(id);
+        }
+        return ResponseEntity.ok(resumeResponse);
+    }
 }
@@ -0,0 +1,117 @@
+package com.example.resumescreener.dto;
+
+/**
+ * DTO for upload admission control metrics.
+ * Returned by GET /metrics/admission.
+ */
+public class AdmissionMetricsResponse {
+
+    private boolean enabled;
+    private int activeExtractions;
+    private int maxConcurrentExtractions;
+    private long inFlightBytes;
+    private long maxInFlightBytes;
+    private int queueDepth;
+    private int peakQueueDepth;
+    private int maxQueued;
+    private long admittedCount;
+    private long rejectedQueueFullCount;
+    private long rejectedTimeoutCount;
+
+    // Constructors
+    public AdmissionMetricsResponse() {
+    }
+
+    // Getters and Setters
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getActiveExtractions() {
+        return activeExtractions;
+    }
+
+    public void setActiveExtractions(int activeExtractions) {
+        this.activeExtractions = activeExtractions;
+    }
+
+    public int getMaxConcurrentExtractions() {
+        return maxConcurrentExtractions;
+    }
+
+    public void setMaxConcurrentExtractions(int maxConcurrentExtractions) {
+        this.maxConcurrentExtractions = maxConcurrentExtractions;
+    }
+
+    public long getInFlightBytes() {
+        return inFlightBytes;
+    }
+
+    public void setInFlightBytes(long inFlightBytes) {
+        this.inFlightBytes = inFlightBytes;
+    }
+
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes;
+    }
+
+    public void setMaxInFlightBytes(long maxInFlightBytes) {
+        this.maxInFlightBytes = maxInFlightBytes;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public int getPeakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    public void setPeakQueueDepth(int peakQueueDepth) {
+        this.peakQueueDepth = peakQueueDepth;
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public void setMaxQueued(int maxQueued) {
+        this.maxQueued = maxQueued;
+    }
+
+    public long getAdmittedCount() {
+        return admittedCount;
+    }
+
+    public void setAdmittedCount(long admittedCount) {
+        this.admittedCount = admittedCount;
+    }
+
+    public long getRejectedQueueFullCount() {
+        return rejectedQueueFullCount;
+    }
+
+    public void setRejectedQueueFullCount(long rejectedQueueFullCount) {
+        this.rejectedQueueFullCount = rejectedQueueFullCount;
+    }
+
+    public long getRejectedTimeoutCount() {
+        return rejectedTimeoutCount;
+    }
+
+    public void setRejectedTimeoutCount(long rejectedTimeoutCount) {
+        this.rejectedTimeoutCount = rejectedTimeoutCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedQueueFullCount + rejectedTimeoutCount;
+    }
+}
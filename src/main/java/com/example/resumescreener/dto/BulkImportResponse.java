@@ -0,0 +1,75 @@
+package com.example.resumescreener.dto;
+
+import java.util.List;
+
+/**
+ * DTO for a bulk import report.
+ * Used in POST /resumes/bulk responses; one result per file or ZIP entry, in upload order.
+ */
+public class BulkImportResponse {
+
+    private int total;
+    private int imported;
+    private int duplicates;
+    private int failed;
+    private List<BulkImportResult> results;
+
+    // Constructors
+    public BulkImportResponse() {
+    }
+
+    public BulkImportResponse(List<BulkImportResult> results) {
+        this.results = results;
+        this.total = results.size();
+        this.imported = countStatus(results, BulkImportResult.STATUS_IMPORTED);
+        this.duplicates = countStatus(results, BulkImportResult.STATUS_DUPLICATE);
+        this.failed = total - imported - duplicates;
+    }
+
+    private static int countStatus(List<BulkImportResult> results, String status) {
+        return (int) results.stream()
+                .filter(result -> status.equals(result.getStatus()))
+                .count();
+    }
+
+    // Getters and Setters
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public void setImported(int imported) {
+        this.imported = imported;
+    }
+
+    public int getDuplicates() {
+        return duplicates;
+    }
+
+    public void setDuplicates(int duplicates) {
+        this.duplicates = duplicates;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkImportResult> getResults() {
+        return results;
+    }
+
+    public void setResults(List<BulkImportResult> results) {
+        this.results = results;
+    }
+}
@@ -0,0 +1,73 @@
+package com.example.resumescreener.dto;
+
+/**
+ * DTO for the outcome of one file in a bulk import.
+ * Used in POST /resumes/bulk responses.
+ */
+public class BulkImportResult {
+
+    public static final String STATUS_IMPORTED = "IMPORTED";
+    public static final String STATUS_DUPLICATE = "DUPLICATE";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private String fileName;
+    private String status;
+    private Long resumeId;
+    private String error;
+
+    // Constructors
+    public BulkImportResult() {
+    }
+
+    public BulkImportResult(String fileName, String status, Long resumeId, String error) {
+        this.fileName = fileName;
+        this.status = status;
+        this.resumeId = resumeId;
+        this.error = error;
+    }
+
+    public static BulkImportResult imported(String fileName, Long resumeId) {
+        return new BulkImportResult(fileName, STATUS_IMPORTED, resumeId, null);
+    }
+
+    public static BulkImportResult duplicate(String fileName, Long resumeId) {
+        return new BulkImportResult(fileName, STATUS_DUPLICATE, resumeId, null);
+    }
+
+    public static BulkImportResult failed(String fileName, String error) {
+        return new BulkImportResult(fileName, STATUS_FAILED, null, error);
+    }
+
+    // Getters and Setters
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+}
@@ -14,6 +14,7 @@ public class ResumeResponse {
     private String fileType;
     private Long fileSize;
     private String extractedText;
+    private boolean textTruncated;
     private String parsedSkills;
     private Integer experienceYears;
     private String educationLevel;
@@ -21,6 +22,9 @@ public class ResumeResponse {
     private String projectsSummary;
     private LocalDateTime uploadedAt;
     private LocalDateTime parsedAt;
+    private String processingStatus;
+    private String processingError;
+    private boolean duplicate;
 
     // Constructors
     public ResumeResponse() {
@@ -83,6 +87,14 @@ public class ResumeResponse {
         this.extractedText = extractedText;
     }
 
+    public boolean isTextTruncated() {
+        return textTruncated;
+    }
+
+    public void setTextTruncated(boolean textTruncated) {
+        this.textTruncated = textTruncated;
+    }
+
     public String getParsedSkills() {
         return parsedSkills;
     }
@@ -138,4 +150,28 @@ public class ResumeResponse {
     public void setParsedAt(LocalDateTime parsedAt) {
         this.parsedAt = parsedAt;
     }
+
+    public String getProcessingStatus() {
+        return processingStatus;
+    }
+
+    public void setProcessingStatus(String processingStatus) {
+        this.processingStatus = processingStatus;
+    }
+
+    public String getProcessingError() {
+        return processingError;
+    }
+
+    public void setProcessingError(String processingError) {
+        this.processingError = processingError;
+    }
+
+    public boolean isDuplicate() {
+        return duplicate;
+    }
+
+    public void setDuplicate(boolean duplicate) {
+        this.duplicate = duplicate;
+    }
 }
@@ -0,0 +1,85 @@
+package com.example.resumescreener.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * DTO for resume processing status.
+ * Returned by POST /resumes/upload?async=true (202 Accepted) and GET /resumes/{id}/status.
+ */
+public class ResumeStatusResponse {
+
+    private Long id;
+    private String fileName;
+    private String status;
+    private String error;
+    private LocalDateTime uploadedAt;
+    private LocalDateTime parsedAt;
+    private boolean duplicate;
+
+    // Constructors
+    public ResumeStatusResponse() {
+    }
+
+    public ResumeStatusResponse(Long id, String fileName, String status) {
+        this.id = id;
+        this.fileName = fileName;
+        this.status = status;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getFileName() {
+        return fileName;
+    }
+
+    public void setFileName(String fileName) {
+        this.fileName = fileName;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getError() {
+        return error;
+    }
+
+    public void setError(String error) {
+        this.error = error;
+    }
+
+    public LocalDateTime getUploadedAt() {
+        return uploadedAt;
+    }
+
+    public void setUploadedAt(LocalDateTime uploadedAt) {
+        this.uploadedAt = uploadedAt;
+    }
+
+    public LocalDateTime getParsedAt() {
+        return parsedAt;
+    }
+
+    public void setParsedAt(LocalDateTime parsedAt) {
+        this.parsedAt = parsedAt;
+    }
+
+    public boolean isDuplicate() {
+        return duplicate;
+    }
+
+    public void setDuplicate(boolean duplicate) {
+        this.duplicate = duplicate;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.resumescreener.dto;
+
+/**
+ * DTO for the scheduling metrics of one background work class.
+ * Returned by GET /metrics/executor.
+ */
+public class WorkClassMetricsResponse {
+
+    private String workClass;
+    private int weight;
+    private int queueCapacity;
+    private int queueDepth;
+    private int activeCount;
+    private long submittedCount;
+    private long completedCount;
+    private long rejectedCount;
+    private long callerRunsCount;
+    private double waitP50Ms;
+    private double waitP95Ms;
+    private double waitP99Ms;
+    private double runP50Ms;
+    private double runP99Ms;
+
+    // Constructors
+    public WorkClassMetricsResponse() {
+    }
+
+    public WorkClassMetricsResponse(String workClass) {
+        this.workClass = workClass;
+    }
+
+    // Getters and Setters
+    public String getWorkClass() {
+        return workClass;
+    }
+
+    public void setWorkClass(String workClass) {
+        this.workClass = workClass;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public void setWeight(int weight) {
+        this.weight = weight;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public void setQueueDepth(int queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+
+    public int getActiveCount() {
+        return activeCount;
+    }
+
+    public void setActiveCount(int activeCount) {
+        this.activeCount = activeCount;
+    }
+
+    public long getSubmittedCount() {
+        return submittedCount;
+    }
+
+    public void setSubmittedCount(long submittedCount) {
+        this.submittedCount = submittedCount;
+    }
+
+    public long getCompletedCount() {
+        return completedCount;
+    }
+
+    public void setCompletedCount(long completedCount) {
+        this.completedCount = completedCount;
+    }
+
+    public long getRejectedCount() {
+        return rejectedCount;
+    }
+
+    public void setRejectedCount(long rejectedCount) {
+        this.rejectedCount = rejectedCount;
+    }
+
+    public long getCallerRunsCount() {
+        return callerRunsCount;
+    }
+
+    public void setCallerRunsCount(long callerRunsCount) {
+        this.callerRunsCount = callerRunsCount;
+    }
+
+    public double getWaitP50Ms() {
+        return waitP50Ms;
+    }
+
+    public void setWaitP50Ms(double waitP50Ms) {
+        this.waitP50Ms = waitP50Ms;
+    }
+
+    public double getWaitP95Ms() {
+        return waitP95Ms;
+    }
+
+    public void setWaitP95Ms(double waitP95Ms) {
+        this.waitP95Ms = waitP95Ms;
+    }
+
+    public double getWaitP99Ms() {
+        return waitP99Ms;
+    }
+
+    public void setWaitP99Ms(double waitP99Ms) {
+        this.waitP99Ms = waitP99Ms;
+    }
+
+    public double getRunP50Ms() {
+        return runP50Ms;
+    }
+
+    public void setRunP50Ms(double runP50Ms) {
+        this.runP50Ms = runP50Ms;
+    }
+
+    public double getRunP99Ms() {
+        return runP99Ms;
+    }
+
+    public void setRunP99Ms(double runP99Ms) {
+        this.runP99Ms = runP99Ms;
+    }
+}
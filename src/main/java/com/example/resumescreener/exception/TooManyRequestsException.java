@@ -0,0 +1,20 @@
+package com.example.resumescreener.exception;
+
+/**
+ * Custom exception for requests shed under load.
+ * Used when an upload cannot be admitted for text extraction in time;
+ * the client should retry after the given delay.
+ */
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
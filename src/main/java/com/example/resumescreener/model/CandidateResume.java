@@ -8,11 +8,17 @@ import java.time.LocalDateTime;
  * Maps to the 'candidate_resume' table in MySQL.
  */
 @Entity
-@Table(name = "candidate_resume")
+@EntityListeners(CandidateResumeListener.class)
+@Table(name = "candidate_resume",
+       uniqueConstraints = @UniqueConstraint(name = "uk_content_hash", columnNames = {"content_hash"}))
 public class CandidateResume {
 
+    // Pooled sequence instead of IDENTITY, so that bulk imports are inserted in
+    // JDBC batches (allocation size matches app.resume.bulk.batch-size). Existing
+    // databases must start the sequence above their highest ID: see DATABASE_DESIGN.md
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "candidate_resume_seq")
+    @SequenceGenerator(name = "candidate_resume_seq", sequenceName = "candidate_resume_seq", allocationSize = 50)
     private Long id;
 
     // BIAS CONTROL: Candidate name is optional and NOT used in scoring or ranking.
@@ -31,8 +37,19 @@ public class CandidateResume {
     @Column(name = "file_size", nullable = false)
     private Long fileSize;
 
-    @Column(name = "extracted_text", columnDefinition = "LONGTEXT")
-    private String extractedText;
+    // SHA-256 of the uploaded bytes; identical re-uploads link to this record
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;
+
+    // Raw extracted text lives in a side table and is only loaded on access,
+    // so listing and ranking queries do not pull it into memory
+    @OneToOne(fetch = FetchType.LAZY, cascade = CascadeType.ALL, orphanRemoval = true)
+    @JoinColumn(name = "text_id")
+    private ResumeText text;
+
+    // True if extraction stopped at the configured character/page budget
+    @Column(name = "text_truncated", nullable = false)
+    private boolean textTruncated;
 
     @Column(name = "parsed_skills", columnDefinition = "TEXT")
     private String parsedSkills;
@@ -55,10 +72,21 @@ public class CandidateResume {
     @Column(name = "parsed_at")
     private LocalDateTime parsedAt;
 
+    // Only COMPLETED resumes take part in ranking
+    @Enumerated(EnumType.STRING)
+    @Column(name = "processing_status", nullable = false, length = 20)
+    private ProcessingStatus processingStatus;
+
+    @Column(name = "processing_error", length = 1000)
+    private String processingError;
+
     // JPA Lifecycle Callbacks
     @PrePersist
     protected void onCreate() {
         uploadedAt = LocalDateTime.now();
+        if (processingStatus == null) {
+            processingStatus = ProcessingStatus.PENDING;
+        }
     }
 
     // Constructors
@@ -112,12 +140,43 @@ public class CandidateResume {
         this.fileSize = fileSize;
     }
 
+    public String getContentHash() {
+        return contentHash;
+    }
+
+    public void setContentHash(String contentHash) {
+        this.contentHash = contentHash;
+    }
+
     public String getExtractedText() {
-        return extractedText;
+        return text != null ? text.getContent() : null;
     }
 
     public void setExtractedText(String extractedText) {
-        this.extractedText = extractedText;
+        if (text == null) {
+            text = new ResumeText(extractedText);
+        } else {
+            text.setContent(extractedText);
+        }
+    }
+
+    /**
+     * Forget the IDs assigned by a save that was rolled back, so that the resume
+     * and its text are inserted as new rows when saved again.
+     */
+    public void clearGeneratedIds() {
+        id = null;
+        if (text != null) {
+            text.setId(null);
+        }
+    }
+
+    public boolean isTextTruncated() {
+        return textTruncated;
+    }
+
+    public void setTextTruncated(boolean textTruncated) {
+        this.textTruncated = textTruncated;
     }
 
     public String getParsedSkills() {
@@ -175,4 +234,20 @@ public class CandidateResume {
     public void setParsedAt(LocalDateTime parsedAt) {
         this.parsedAt = parsedAt;
     }
+
+    public ProcessingStatus getProcessingStatus() {
+        return processingStatus;
+    }
+
+    public void setProcessingStatus(ProcessingStatus processingStatus) {
+        this.processingStatus = processingStatus;
+    }
+
+    public String getProcessingError() {
+        return processingError;
+    }
+
+    public void setProcessingError(String processingError) {
+        this.processingError = processingError;
+    }
 }
@@ -0,0 +1,56 @@
+package com.example.resumescreener.model;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+/**
+ * JPA entity listener that passes saved and deleted resumes to every
+ * {@link ResumeChangeObserver} bean (e.g. the candidate feature store),
+ * whichever service saved them.
+ *
+ * Observers see the change when it is flushed; the actions they return run
+ * only after the transaction commits, so rolled-back changes never reach them.
+ */
+public class CandidateResumeListener {
+
+    // Resolved lazily: observers may depend on repositories, which are not
+    // ready while Hibernate creates its listeners
+    private final ObjectProvider<ResumeChangeObserver> observers;
+
+    @Autowired
+    public CandidateResumeListener(ObjectProvider<ResumeChangeObserver> observers) {
+        this.observers = observers;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(CandidateResume resume) {
+        afterCommit(observers.orderedStream().map(observer -> observer.resumeSaved(resume)).toList());
+    }
+
+    @PostRemove
+    public void onRemove(CandidateResume resume) {
+        long resumeId = resume.getId();
+        afterCommit(observers.orderedStream().map(observer -> observer.resumeRemoved(resumeId)).toList());
+    }
+
+    private void afterCommit(List<Runnable> actions) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            actions.forEach(Runnable::run);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                actions.forEach(Runnable::run);
+            }
+        });
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.resumescreener.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * JPA Entity representing a queued resume parse (e.g. a retry after a failed parse).
+ * Maps to the 'parse_work_item' table in MySQL.
+ *
+ * The table is the queue: workers on any application instance claim due items
+ * with a row lock, so the backlog is shared between instances and survives restarts.
+ * A resume has at most one open (PENDING or LEASED) item: open items carry the
+ * resume ID in a uniquely constrained column, which is cleared once they end.
+ */
+@Entity
+@Table(name = "parse_work_item",
+       uniqueConstraints = @UniqueConstraint(name = "uk_parse_work_item_open_resume", columnNames = {"open_resume_id"}),
+       indexes = {
+           @Index(name = "idx_parse_work_item_due", columnList = "status, available_at"),
+           @Index(name = "idx_parse_work_item_resume", columnList = "resume_id")
+       })
+public class ParseWorkItem {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "resume_id", nullable = false)
+    private Long resumeId;
+
+    // Resume ID while the item is open, NULL once it is DONE or FAILED
+    @Column(name = "open_resume_id")
+    private Long openResumeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private WorkItemStatus status;
+
+    // Number of times the item has been claimed
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    // Earliest time the item may be claimed (pushed back after each failure)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "lease_owner", length = 100)
+    private String leaseOwner;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // JPA Lifecycle Callbacks
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+        if (status == null) {
+            status = WorkItemStatus.PENDING;
+        }
+        if (availableAt == null) {
+            availableAt = createdAt;
+        }
+        updateOpenResumeId();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+        updateOpenResumeId();
+    }
+
+    private void updateOpenResumeId() {
+        boolean open = status == WorkItemStatus.PENDING || status == WorkItemStatus.LEASED;
+        openResumeId = open ? resumeId : null;
+    }
+
+    // Constructors
+    public ParseWorkItem() {
+    }
+
+    public ParseWorkItem(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getResumeId() {
+        return resumeId;
+    }
+
+    public void setResumeId(Long resumeId) {
+        this.resumeId = resumeId;
+    }
+
+    public WorkItemStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(WorkItemStatus status) {
+        this.status = status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public void setAttempts(int attempts) {
+        this.attempts = attempts;
+    }
+
+    public LocalDateTime getAvailableAt() {
+        return availableAt;
+    }
+
+    public void setAvailableAt(LocalDateTime availableAt) {
+        this.availableAt = availableAt;
+    }
+
+    public String getLeaseOwner() {
+        return leaseOwner;
+    }
+
+    public void setLeaseOwner(String leaseOwner) {
+        this.leaseOwner = leaseOwner;
+    }
+
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public void setLastError(String lastError) {
+        this.lastError = lastError;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.resumescreener.model;
+
+/**
+ * Processing state of an uploaded resume.
+ * Synchronous uploads are stored as COMPLETED; asynchronous uploads move from
+ * PENDING through PROCESSING to COMPLETED or FAILED. A resume whose text could
+ * not be parsed is FAILED until a queued parse retry completes it. Only
+ * COMPLETED resumes are ranked.
+ */
+public enum ProcessingStatus {
+    PENDING,
+    PROCESSING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,28 @@
+package com.example.resumescreener.model;
+
+/**
+ * Receives changes to saved resumes from {@link CandidateResumeListener}, e.g. to
+ * keep derived in-memory data in sync. Implemented by Spring beans; the model
+ * only knows this interface.
+ *
+ * Each method is called when the change is flushed and returns the action to
+ * run once the transaction commits, so rolled-back changes have no effect.
+ */
+public interface ResumeChangeObserver {
+
+    /**
+     * A resume was inserted or updated.
+     *
+     * @param resume Resume entity as flushed
+     * @return Action to run after commit
+     */
+    Runnable resumeSaved(CandidateResume resume);
+
+    /**
+     * A resume was deleted.
+     *
+     * @param resumeId Resume ID
+     * @return Action to run after commit
+     */
+    Runnable resumeRemoved(long resumeId);
+}
@@ -18,8 +18,12 @@ import java.time.LocalDateTime;
        })
 public class ResumeScore {
 
+    // Pooled sequence instead of IDENTITY, so that new scores are inserted in
+    // JDBC batches (allocation size matches hibernate.jdbc.batch_size). Existing
+    // databases must start the sequence above their highest ID: see DATABASE_DESIGN.md
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_score_seq")
+    @SequenceGenerator(name = "resume_score_seq", sequenceName = "resume_score_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
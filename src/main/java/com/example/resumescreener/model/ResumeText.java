@@ -0,0 +1,51 @@
+package com.example.resumescreener.model;
+
+import jakarta.persistence.*;
+
+/**
+ * JPA Entity holding the raw text extracted from an uploaded resume.
+ * Maps to the 'resume_text' table in MySQL.
+ *
+ * The text is kept out of the 'candidate_resume' table so that listing and
+ * ranking queries, which only need parsed fields, never load it. It is fetched
+ * lazily through {@link CandidateResume#getExtractedText()} when parsing or
+ * showing a single resume.
+ */
+@Entity
+@Table(name = "resume_text")
+public class ResumeText {
+
+    // Pooled sequence, so texts are batch-inserted along with their resumes
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "resume_text_seq")
+    @SequenceGenerator(name = "resume_text_seq", sequenceName = "resume_text_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "content", columnDefinition = "LONGTEXT")
+    private String content;
+
+    // Constructors
+    public ResumeText() {
+    }
+
+    public ResumeText(String content) {
+        this.content = content;
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+}
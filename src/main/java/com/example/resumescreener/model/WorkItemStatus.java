@@ -0,0 +1,14 @@
+package com.example.resumescreener.model;
+
+/**
+ * State of a parse work item.
+ * Items wait as PENDING until due, are LEASED by one worker while it runs them,
+ * and end as DONE, or FAILED once their attempts are used up. A LEASED item
+ * whose lease has expired (e.g. its worker crashed) can be claimed again.
+ */
+public enum WorkItemStatus {
+    PENDING,
+    LEASED,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,81 @@
+package com.example.resumescreener.repository;
+
+import com.example.resumescreener.model.ParseWorkItem;
+import com.example.resumescreener.model.WorkItemStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for ParseWorkItem entity.
+ * Backs the durable parse work queue shared by all application instances.
+ */
+@Repository
+public interface ParseWorkItemRepository extends JpaRepository<ParseWorkItem, Long> {
+
+    /**
+     * Lock the next due work items: PENDING items whose backoff has passed, and
+     * LEASED items whose lease has expired.
+     * Issued as SELECT ... FOR UPDATE SKIP LOCKED (lock timeout -2), so concurrent
+     * workers each get different rows instead of waiting for one another.
+     * Dialects without SKIP LOCKED (e.g. H2) fall back to a blocking FOR UPDATE,
+     * which is only safe with a single claimer: running several instances needs a
+     * database with SKIP LOCKED (PostgreSQL 9.5+, MySQL 8.0+, Oracle).
+     *
+     * @param now Current time
+     * @param pageable Maximum number of items to claim
+     * @return Locked work items, oldest due first
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT w FROM ParseWorkItem w " +
+           "WHERE (w.status = com.example.resumescreener.model.WorkItemStatus.PENDING AND w.availableAt <= :now) " +
+           "OR (w.status = com.example.resumescreener.model.WorkItemStatus.LEASED AND w.leaseExpiresAt <= :now) " +
+           "ORDER BY w.availableAt, w.id")
+    List<ParseWorkItem> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * End a lease, but only if the given worker still holds it. A worker whose
+     * lease expired and was claimed by another worker changes nothing.
+     * The caller passes the open resume ID that matches the new status (the
+     * resume ID if the item goes back to PENDING, otherwise null).
+     *
+     * @return 1 if the lease was ended, 0 if it was no longer held
+     */
+    @Modifying
+    @Query("UPDATE ParseWorkItem w SET w.status = :status, w.availableAt = :availableAt, w.lastError = :lastError, " +
+           "w.leaseOwner = NULL, w.leaseExpiresAt = NULL, w.openResumeId = :openResumeId, w.updatedAt = :now " +
+           "WHERE w.id = :id AND w.leaseOwner = :owner " +
+           "AND w.status = com.example.resumescreener.model.WorkItemStatus.LEASED")
+    int endLease(@Param("id") Long id, @Param("owner") String owner, @Param("status") WorkItemStatus status,
+                 @Param("availableAt") LocalDateTime availableAt, @Param("lastError") String lastError,
+                 @Param("openResumeId") Long openResumeId, @Param("now") LocalDateTime now);
+
+    /**
+     * Check whether a resume already has queued or running work.
+     *
+     * @param resumeId Resume ID
+     * @param statuses Statuses to look for
+     * @return true if such an item exists
+     */
+    boolean existsByResumeIdAndStatusIn(Long resumeId, Collection<WorkItemStatus> statuses);
+
+    /**
+     * Count work items in a given state.
+     *
+     * @param status Work item status
+     * @return Number of items
+     */
+    long countByStatus(WorkItemStatus status);
+}
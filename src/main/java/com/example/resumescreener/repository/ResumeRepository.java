@@ -1,9 +1,15 @@
 package com.example.resumescreener.repository;
 
 import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.ProcessingStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
+
 /**
  * Repository interface for CandidateResume entity.
  * Provides CRUD operations for resume management.
@@ -17,4 +23,32 @@ public interface ResumeRepository extends JpaRepository<CandidateResume, Long> {
     // - findAll()
     // - deleteById(Long id)
     // etc.
+
+    /**
+     * Find resumes in a given processing state.
+     * 
+     * @param processingStatus Processing status
+     * @return List of resumes
+     */
+    List<CandidateResume> findByProcessingStatus(ProcessingStatus processingStatus);
+
+    /**
+     * Find resumes in a given processing state that have no score for a job yet.
+     * 
+     * @param processingStatus Processing status
+     * @param jobId Job ID
+     * @return List of unscored resumes
+     */
+    @Query("SELECT r FROM CandidateResume r WHERE r.processingStatus = :status AND NOT EXISTS " +
+           "(SELECT rs.id FROM ResumeScore rs WHERE rs.jobPost.id = :jobId AND rs.candidateResume = r)")
+    List<CandidateResume> findUnscoredForJob(@Param("status") ProcessingStatus processingStatus,
+                                             @Param("jobId") Long jobId);
+
+    /**
+     * Find the resume uploaded with the given content hash.
+     * 
+     * @param contentHash SHA-256 of the uploaded bytes (hex)
+     * @return Resume if an identical file was uploaded before
+     */
+    Optional<CandidateResume> findByContentHash(String contentHash);
 }
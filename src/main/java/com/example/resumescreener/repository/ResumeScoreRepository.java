@@ -1,7 +1,9 @@
 package com.example.resumescreener.repository;
 
+import com.example.resumescreener.model.ProcessingStatus;
 import com.example.resumescreener.model.ResumeScore;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,6 +27,28 @@ public interface ResumeScoreRepository extends JpaRepository<ResumeScore, Long>
      */
     Optional<ResumeScore> findByJobPostIdAndCandidateResumeId(Long jobId, Long resumeId);
     
+    /**
+     * Find all scores for a specific job in a single query.
+     * Used to bulk-load existing scores before ranking instead of querying per resume.
+     * 
+     * @param jobId Job ID
+     * @return List of ResumeScore for the job
+     */
+    @Query("SELECT rs FROM ResumeScore rs WHERE rs.jobPost.id = :jobId")
+    List<ResumeScore> findByJobPostId(@Param("jobId") Long jobId);
+    
+    /**
+     * Load the stored component scores for a job, without loading entities.
+     * Used to re-weight final scores for what-if rankings.
+     * 
+     * @param jobId Job ID
+     * @param status Processing status of the scored resumes
+     * @return Rows of [resumeId, skillScore, experienceScore, educationScore, projectScore]
+     */
+    @Query("SELECT rs.candidateResume.id, rs.skillScore, rs.experienceScore, rs.educationScore, rs.projectScore " +
+           "FROM ResumeScore rs WHERE rs.jobPost.id = :jobId AND rs.candidateResume.processingStatus = :status")
+    List<Object[]> findComponentScores(@Param("jobId") Long jobId, @Param("status") ProcessingStatus status);
+    
     /**
      * Find all scores for a specific job, ordered by final score descending.
      * 
@@ -43,9 +67,21 @@ public interface ResumeScoreRepository extends JpaRepository<ResumeScore, Long>
     List<ResumeScore> findByCandidateResumeId(Long resumeId);
     
     /**
-     * Delete all scores for a specific job.
+     * Delete all scores for a specific job with a single bulk statement.
      * 
      * @param jobId Job ID
      */
-    void deleteByJobPostId(Long jobId);
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ResumeScore rs WHERE rs.jobPost.id = :jobId")
+    void deleteByJobPostId(@Param("jobId") Long jobId);
+    
+    /**
+     * Delete all scores for a specific resume with a single bulk statement.
+     * Used when the resume's parsed data changes, which makes its scores stale.
+     * 
+     * @param resumeId Resume ID
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM ResumeScore rs WHERE rs.candidateResume.id = :resumeId")
+    void deleteByCandidateResumeId(@Param("resumeId") Long resumeId);
 }
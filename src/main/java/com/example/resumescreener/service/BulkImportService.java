@@ -0,0 +1,491 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.config.AsyncConfig;
+import com.example.resumescreener.dto.BulkImportResponse;
+import com.example.resumescreener.dto.BulkImportResult;
+import com.example.resumescreener.exception.InvalidFileException;
+import com.example.resumescreener.exception.ParsingException;
+import com.example.resumescreener.exception.TooManyRequestsException;
+import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.ProcessingStatus;
+import com.example.resumescreener.repository.ResumeRepository;
+import com.example.resumescreener.utils.ContentHasher;
+import com.example.resumescreener.utils.ExtractedDocument;
+import com.example.resumescreener.utils.PriorityTaskExecutor;
+import com.example.resumescreener.utils.ResumeFileStore;
+import com.example.resumescreener.utils.TikaExtractor;
+import com.example.resumescreener.utils.UploadAdmission;
+import org.apache.tika.exception.TikaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Service for importing many resumes in one request.
+ * Accepts plain resume files and ZIP archives. Archive entries are streamed
+ * straight from the upload, never unpacked to disk.
+ *
+ * Extraction and parsing fan out across the background pool as BULK work, while the
+ * request thread reads the next files and saves finished resumes in batches.
+ * The files in flight are bounded both in number and in bytes, so memory use
+ * does not grow with the size of the archive. Each file gets its own result;
+ * one bad file never fails the whole import, and a batch that cannot be saved
+ * is retried one resume at a time.
+ *
+ * Extraction passes upload admission control, whether it runs on a worker or,
+ * when the bulk queue is full, on the request thread; a file that is not admitted
+ * in time is reported as failed.
+ *
+ * Files are hashed before extraction: a file identical to an earlier upload, or
+ * to another file in the same import, is reported as a duplicate of that
+ * resume and never reaches Tika.
+ */
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class BulkImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(BulkImportService.class);
+    private static final Set<String> ZIP_CONTENT_TYPES = Set.of("application/zip", "application/x-zip-compressed");
+    private static final int READ_BUFFER_SIZE = 8192;
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ResumeRepository resumeRepository;
+    private final TikaExtractor tikaExtractor;
+    private final ResumeParserService resumeParserService;
+    private final PriorityTaskExecutor.ClassExecutor bulkImportExecutor;
+    private final ResumeFileStore resumeFileStore;
+    private final ParseQueueService parseQueueService;
+    private final UploadAdmission uploadAdmission;
+
+    @Value("${app.resume.allowed-file-types}")
+    private String allowedFileTypes;
+
+    @Value("${app.resume.max-file-size-mb}")
+    private long maxFileSizeMB;
+
+    @Value("${app.resume.bulk.batch-size:50}")
+    private int batchSize;
+
+    @Value("${app.resume.bulk.max-files:5000}")
+    private int maxFiles;
+
+    @Value("${app.resume.bulk.max-in-flight-mb:64}")
+    private long maxInFlightMB;
+
+    @Autowired
+    public BulkImportService(ResumeRepository resumeRepository, TikaExtractor tikaExtractor,
+                             ResumeParserService resumeParserService,
+                             @Qualifier(AsyncConfig.BULK_IMPORT_EXECUTOR) PriorityTaskExecutor.ClassExecutor bulkImportExecutor,
+                             ResumeFileStore resumeFileStore, ParseQueueService parseQueueService,
+                             UploadAdmission uploadAdmission) {
+        this.resumeRepository = resumeRepository;
+        this.tikaExtractor = tikaExtractor;
+        this.resumeParserService = resumeParserService;
+        this.bulkImportExecutor = bulkImportExecutor;
+        this.resumeFileStore = resumeFileStore;
+        this.parseQueueService = parseQueueService;
+        this.uploadAdmission = uploadAdmission;
+    }
+
+    /**
+     * Import resume files and ZIP archives of resume files.
+     *
+     * @param files Uploaded files (PDF, DOCX, DOC or ZIP)
+     * @return Report with one result per file or archive entry, in upload order
+     * @throws InvalidFileException if no files were uploaded
+     */
+    public BulkImportResponse importResumes(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            throw new InvalidFileException("At least one file is required");
+        }
+
+        ImportRun run = new ImportRun();
+        for (MultipartFile file : files) {
+            if (run.isFull()) {
+                run.fail(file.getOriginalFilename(), "Import limit of %d files reached".formatted(maxFiles));
+                continue;
+            }
+            if (isZip(file)) {
+                importArchive(file, run);
+            } else {
+                importFile(file, run);
+            }
+        }
+        run.finish();
+
+        return new BulkImportResponse(run.results);
+    }
+
+    /**
+     * Queue a single uploaded resume file.
+     */
+    private void importFile(MultipartFile file, ImportRun run) {
+        String fileName = file.getOriginalFilename();
+        if (file.isEmpty()) {
+            run.fail(fileName, "File is empty");
+            return;
+        }
+        if (file.getSize() > maxFileSizeBytes()) {
+            run.fail(fileName, "File size exceeds maximum allowed size of %d MB".formatted(maxFileSizeMB));
+            return;
+        }
+
+        try {
+            run.submit(fileName, file.getBytes());
+        } catch (IOException e) {
+            run.fail(fileName, "Error reading file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Stream the entries of a ZIP archive and queue each resume file.
+     * Entries are reported as "archive.zip/path/in/archive".
+     */
+    private void importArchive(MultipartFile archive, ImportRun run) {
+        String archiveName = archive.getOriginalFilename();
+
+        try (ZipInputStream zip = new ZipInputStream(archive.getInputStream())) {
+            ZipEntry entry;
+            while ((entry = zip.getNextEntry()) != null) {
+                if (entry.isDirectory() || isHiddenEntry(entry.getName())) {
+                    continue;
+                }
+
+                String entryName = archiveName + "/" + entry.getName();
+                if (run.isFull()) {
+                    run.fail(entryName, "Import limit of %d files reached".formatted(maxFiles));
+                    break;
+                }
+
+                // Read the entry in memory, stopping at the size limit
+                byte[] content = readEntry(zip, maxFileSizeBytes());
+                if (content == null) {
+                    run.fail(entryName, "File size exceeds maximum allowed size of %d MB".formatted(maxFileSizeMB));
+                } else if (content.length == 0) {
+                    run.fail(entryName, "File is empty");
+                } else {
+                    run.submit(entryName, content);
+                }
+            }
+        } catch (IOException e) {
+            run.fail(archiveName, "Error reading archive: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Extract, validate and parse one resume (runs on a bulk import worker).
+     *
+     * @param fileName File name (used as a detection hint and for display)
+     * @param content File bytes
+     * @param contentHash SHA-256 of the file bytes
+     * @return Parsed, not yet persisted resume
+     * @throws TooManyRequestsException if extraction is not admitted in time
+     */
+    private CandidateResume buildResume(String fileName, byte[] content, String contentHash) {
+        // Extract text and detect MIME type using Apache Tika (single read),
+        // within the upload admission budget
+        ExtractedDocument extracted;
+        try (UploadAdmission.Permit ignored = uploadAdmission.admit(content.length)) {
+            extracted = tikaExtractor.extract(new ByteArrayInputStream(content), fileName);
+        } catch (IOException e) {
+            throw new ParsingException("Error reading file: " + e.getMessage(), e);
+        } catch (TikaException e) {
+            throw new ParsingException("Text extraction failed: " + e.getMessage(), e);
+        }
+
+        // Check file type on the detected MIME type (archive entries carry no content type)
+        if (!isAllowedType(extracted.getMimeType())) {
+            throw new InvalidFileException(
+                    "File type '%s' is not allowed. Allowed types: %s".formatted(
+                            extracted.getMimeType(), allowedFileTypes)
+            );
+        }
+        if (extracted.getText().isEmpty()) {
+            throw new ParsingException("Failed to extract text from file. File may be empty or corrupted.");
+        }
+
+        // Keep the original so it can be re-extracted later
+        try {
+            resumeFileStore.store(contentHash, content);
+        } catch (IOException e) {
+            throw new ParsingException("Error storing file: " + e.getMessage(), e);
+        }
+
+        CandidateResume resume = new CandidateResume();
+        resume.setFileName(fileName);
+        resume.setFileType(extracted.getMimeType());
+        resume.setFileSize((long) content.length);
+        resume.setContentHash(contentHash);
+        resume.setExtractedText(extracted.getText());
+        resume.setTextTruncated(extracted.isTruncated());
+        resume.setProcessingStatus(ProcessingStatus.COMPLETED);
+
+        // Like the single upload, a parsing failure does not fail the import:
+        // the resume is stored as FAILED and the parse is queued for retry once
+        // the resume is saved
+        try {
+            resumeParserService.applyParsedData(resume);
+        } catch (RuntimeException e) {
+            String error = "Parsing failed: " + e.getMessage();
+            resume.setProcessingStatus(ProcessingStatus.FAILED);
+            resume.setProcessingError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+        }
+
+        return resume;
+    }
+
+    /**
+     * Read the current ZIP entry.
+     *
+     * @return Entry bytes, or null if the entry is larger than maxBytes
+     */
+    private byte[] readEntry(InputStream entryStream, long maxBytes) throws IOException {
+        ByteArrayOutputStream content = new ByteArrayOutputStream();
+        byte[] buffer = new byte[READ_BUFFER_SIZE];
+        int read;
+        while ((read = entryStream.read(buffer)) != -1) {
+            if (content.size() + read > maxBytes) {
+                // The rest of the entry is skipped by the next getNextEntry()
+                return null;
+            }
+            content.write(buffer, 0, read);
+        }
+        return content.toByteArray();
+    }
+
+    private boolean isZip(MultipartFile file) {
+        String fileName = file.getOriginalFilename();
+        return (fileName != null && fileName.toLowerCase(Locale.ROOT).endsWith(".zip"))
+                || (file.getContentType() != null && ZIP_CONTENT_TYPES.contains(file.getContentType()));
+    }
+
+    /**
+     * Skip OS metadata entries (e.g. "__MACOSX/", ".DS_Store").
+     */
+    private boolean isHiddenEntry(String entryName) {
+        String baseName = entryName.substring(entryName.lastIndexOf('/') + 1);
+        return entryName.startsWith("__MACOSX/") || baseName.startsWith(".");
+    }
+
+    private boolean isAllowedType(String mimeType) {
+        if (mimeType == null) {
+            return false;
+        }
+        return Arrays.stream(allowedFileTypes.split(","))
+                .anyMatch(allowedType -> mimeType.equals(allowedType.trim()));
+    }
+
+    private long maxFileSizeBytes() {
+        return maxFileSizeMB * 1024 * 1024; // Convert MB to bytes
+    }
+
+    private long maxInFlightBytes() {
+        return maxInFlightMB * 1024 * 1024; // Convert MB to bytes
+    }
+
+    /**
+     * State of one bulk import: results in upload order, files in flight on the
+     * worker pool, parsed resumes waiting to be saved, and the content hashes seen.
+     */
+    private class ImportRun {
+
+        private final List<BulkImportResult> results = new ArrayList<>();
+        // Content hash -> result index of the first file with that content
+        private final Map<String, Integer> firstByHash = new HashMap<>();
+        // Result index of an in-import duplicate -> result index of its original
+        private final Map<Integer, Integer> duplicateOf = new HashMap<>();
+        private final Deque<PendingImport> inFlight = new ArrayDeque<>();
+        private final List<PendingImport> batch = new ArrayList<>();
+        private final int maxInFlight = Math.max(batchSize, bulkImportExecutor.getThreadCount() * 2);
+        private final long maxInFlightBytes = maxInFlightBytes();
+        // File bytes held by the submitted, not yet collected files
+        private long inFlightBytes;
+
+        boolean isFull() {
+            return results.size() >= maxFiles;
+        }
+
+        void fail(String fileName, String error) {
+            results.add(BulkImportResult.failed(fileName, error));
+        }
+
+        /**
+         * Hand a file to the worker pool, draining finished work first if too many
+         * files or bytes are in flight. A file larger than the byte budget runs alone.
+         * Duplicates are resolved here and never submitted.
+         */
+        void submit(String fileName, byte[] content) {
+            int index = results.size();
+            String contentHash = ContentHasher.sha256Hex(content);
+
+            // Same content earlier in this import: resolved once the original is saved
+            Integer original = firstByHash.putIfAbsent(contentHash, index);
+            if (original != null) {
+                results.add(BulkImportResult.duplicate(fileName, null));
+                duplicateOf.put(index, original);
+                return;
+            }
+
+            // Same content uploaded before
+            Optional<CandidateResume> existing = resumeRepository.findByContentHash(contentHash);
+            if (existing.isPresent()) {
+                results.add(BulkImportResult.duplicate(fileName, existing.get().getId()));
+                return;
+            }
+
+            results.add(null);
+            Future<CandidateResume> future = bulkImportExecutor.submit(
+                    () -> buildResume(fileName, content, contentHash));
+            inFlight.add(new PendingImport(index, fileName, content.length, future));
+            inFlightBytes += content.length;
+
+            while (inFlight.size() > maxInFlight || (inFlight.size() > 1 && inFlightBytes > maxInFlightBytes)) {
+                collect(inFlight.poll());
+            }
+        }
+
+        /**
+         * Wait for all remaining files and save the last batch.
+         */
+        void finish() {
+            while (!inFlight.isEmpty()) {
+                collect(inFlight.poll());
+            }
+            flush();
+
+            // Link in-import duplicates to their original's outcome
+            duplicateOf.forEach((index, original) -> {
+                BulkImportResult originalResult = results.get(original);
+                if (originalResult.getResumeId() != null) {
+                    results.get(index).setResumeId(originalResult.getResumeId());
+                } else {
+                    results.set(index, BulkImportResult.failed(results.get(index).getFileName(),
+                            "Same content as " + originalResult.getFileName() + ", which failed to import"));
+                }
+            });
+        }
+
+        private void collect(PendingImport pending) {
+            inFlightBytes -= pending.size;
+            try {
+                pending.resume = pending.future.get();
+                batch.add(pending);
+                if (batch.size() >= batchSize) {
+                    flush();
+                }
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                results.set(pending.index, BulkImportResult.failed(pending.fileName, cause.getMessage()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                results.set(pending.index, BulkImportResult.failed(pending.fileName, "Import was interrupted"));
+            }
+        }
+
+        /**
+         * Save the current batch in one transaction. If that fails (e.g. a file
+         * imported concurrently by another request violates the unique content hash),
+         * the resumes are saved again one by one, so only the offending ones fail.
+         */
+        private void flush() {
+            if (batch.isEmpty()) {
+                return;
+            }
+
+            List<CandidateResume> resumes = new ArrayList<>(batch.size());
+            for (PendingImport pending : batch) {
+                resumes.add(pending.resume);
+            }
+
+            boolean saved;
+            try {
+                resumeRepository.saveAll(resumes);
+                saved = true;
+            } catch (RuntimeException e) {
+                log.warn("Failed to save bulk import batch of {} resumes, saving them one by one: {}",
+                        batch.size(), e.getMessage());
+                saved = false;
+            }
+
+            for (PendingImport pending : batch) {
+                if (saved || saveOne(pending)) {
+                    imported(pending);
+                }
+            }
+            batch.clear();
+        }
+
+        /**
+         * Save one resume in its own transaction. A unique content hash violation
+         * means the same file was stored meanwhile: report a duplicate of that record.
+         *
+         * @return Whether the resume was saved
+         */
+        private boolean saveOne(PendingImport pending) {
+            // IDs assigned inside the rolled back batch (resume and cascaded text) do not exist
+            pending.resume.clearGeneratedIds();
+            try {
+                resumeRepository.save(pending.resume);
+                return true;
+            } catch (DataIntegrityViolationException e) {
+                Optional<CandidateResume> concurrent = resumeRepository.findByContentHash(pending.resume.getContentHash());
+                if (concurrent.isPresent()) {
+                    results.set(pending.index, BulkImportResult.duplicate(pending.fileName, concurrent.get().getId()));
+                } else {
+                    log.error("Failed to save bulk imported resume {}", pending.fileName, e);
+                    results.set(pending.index, BulkImportResult.failed(pending.fileName, "Failed to save resume"));
+                }
+            } catch (RuntimeException e) {
+                log.error("Failed to save bulk imported resume {}", pending.fileName, e);
+                results.set(pending.index, BulkImportResult.failed(pending.fileName, "Failed to save resume"));
+            }
+            return false;
+        }
+
+        /**
+         * Record a saved resume and queue its parse if parsing failed.
+         */
+        private void imported(PendingImport pending) {
+            results.set(pending.index, BulkImportResult.imported(pending.fileName, pending.resume.getId()));
+            if (pending.resume.getParsedAt() == null) {
+                parseQueueService.enqueue(pending.resume.getId(), pending.resume.getProcessingError());
+            }
+        }
+    }
+
+    /**
+     * A file handed to the worker pool, with its slot in the result list.
+     */
+    private static class PendingImport {
+
+        private final int index;
+        private final String fileName;
+        private final long size;
+        private final Future<CandidateResume> future;
+        private CandidateResume resume;
+
+        PendingImport(int index, String fileName, long size, Future<CandidateResume> future) {
+            this.index = index;
+            this.fileName = fileName;
+            this.size = size;
+            this.future = future;
+        }
+    }
+}
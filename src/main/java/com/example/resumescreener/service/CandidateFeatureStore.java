@@ -0,0 +1,379 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.ProcessingStatus;
+import com.example.resumescreener.model.ResumeChangeObserver;
+import com.example.resumescreener.repository.ResumeRepository;
+import com.example.resumescreener.utils.KeywordScanner;
+import com.example.resumescreener.utils.ProjectScorer;
+import com.example.resumescreener.utils.SkillMatcher;
+import com.example.resumescreener.utils.SkillVector;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+
+/**
+ * In-memory columnar store of the scoring features of all COMPLETED resumes,
+ * so a job can be scored against the whole candidate pool in a tight loop
+ * over primitive arrays instead of re-parsing resume strings per candidate.
+ *
+ * Each resume occupies one slot across the columns:
+ * - skills: encoded skill set (bitset with synonym closure)
+ * - experienceYears: years of experience, or NO_EXPERIENCE
+ * - educationCodes: code of the education level in a small dictionary of
+ *   distinct levels, or NO_EDUCATION; jobs score each level once
+ * - projectCounts: estimated number of projects, or NO_PROJECTS
+ * - projectTerms: bitset of dictionary skills mentioned in the project text
+ *
+ * The store is loaded from the database on first use and then kept in sync
+ * whenever a resume is saved or deleted: it observes resume changes through
+ * {@link ResumeChangeObserver}. Only COMPLETED resumes are kept in the store.
+ * Removing a resume moves the last slot into its place, so columns stay dense.
+ */
+@Service
+public class CandidateFeatureStore implements ResumeChangeObserver {
+
+    static final int NO_EXPERIENCE = Integer.MIN_VALUE;
+    static final int NO_EDUCATION = -1;
+    static final byte NO_PROJECTS = -1;
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final ResumeRepository resumeRepository;
+    private final SkillMatcher skillMatcher;
+    private final ProjectScorer projectScorer;
+
+    // Project terms are the skill dictionary; job skills outside it cannot be
+    // scored from the columns
+    private final KeywordScanner projectTermScanner;
+    private final Map<String, Integer> projectTermIds = new HashMap<>();
+    private final int projectTermWords;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object loadMonitor = new Object();
+    private volatile boolean loaded;
+    // IDs changed by listeners while the initial load runs (null otherwise)
+    private Set<Long> changedDuringLoad;
+
+    private final Map<Long, Integer> slots = new HashMap<>();
+    private final List<String> educationLevels = new ArrayList<>();
+    private final Map<String, Integer> educationLevelCodes = new HashMap<>();
+
+    private int size;
+    private long[] resumeIds = new long[INITIAL_CAPACITY];
+    private SkillVector[] skills = new SkillVector[INITIAL_CAPACITY];
+    private int[] experienceYears = new int[INITIAL_CAPACITY];
+    private int[] educationCodes = new int[INITIAL_CAPACITY];
+    private byte[] projectCounts = new byte[INITIAL_CAPACITY];
+    private long[] projectTerms;
+
+    @Autowired
+    public CandidateFeatureStore(
+            ResumeRepository resumeRepository,
+            SkillMatcher skillMatcher,
+            ProjectScorer projectScorer) {
+        this.resumeRepository = resumeRepository;
+        this.skillMatcher = skillMatcher;
+        this.projectScorer = projectScorer;
+
+        List<String> terms = skillMatcher.getKnownSkills();
+        for (int i = 0; i < terms.size(); i++) {
+            projectTermIds.put(terms.get(i), i);
+        }
+        this.projectTermScanner = new KeywordScanner(terms);
+        this.projectTermWords = Math.max(1, (terms.size() + 63) >>> 6);
+        this.projectTerms = new long[INITIAL_CAPACITY * projectTermWords];
+    }
+
+    /**
+     * Compute the scoring features of a resume. Cheap enough to call on every save.
+     *
+     * @param resume Resume entity
+     * @return Features of the resume
+     */
+    public Features extract(CandidateResume resume) {
+        Features features = new Features(resume.getId());
+        features.skills = skillMatcher.encode(resume.getParsedSkills());
+        features.experienceYears = resume.getExperienceYears() != null
+                ? resume.getExperienceYears() : NO_EXPERIENCE;
+
+        String educationLevel = resume.getEducationLevel();
+        features.educationLevel = educationLevel != null && !educationLevel.trim().isEmpty()
+                ? educationLevel : null;
+
+        String projectsSummary = resume.getProjectsSummary();
+        if (projectsSummary == null || projectsSummary.trim().isEmpty()) {
+            features.projectCount = NO_PROJECTS;
+        } else {
+            features.projectCount = (byte) projectScorer.estimateProjectCount(projectsSummary);
+            features.projectTerms = new long[projectTermWords];
+            for (String term : projectTermScanner.findAll(projectsSummary.toLowerCase())) {
+                int id = projectTermIds.get(term);
+                features.projectTerms[id >>> 6] |= 1L << id;
+            }
+        }
+        return features;
+    }
+
+    /**
+     * Compute the features of a saved COMPLETED resume now and store them after
+     * commit; any other status removes the resume from the store.
+     */
+    @Override
+    public Runnable resumeSaved(CandidateResume resume) {
+        if (resume.getProcessingStatus() == ProcessingStatus.COMPLETED) {
+            Features features = extract(resume);
+            return () -> put(features);
+        }
+        long resumeId = resume.getId();
+        return () -> remove(resumeId);
+    }
+
+    @Override
+    public Runnable resumeRemoved(long resumeId) {
+        return () -> remove(resumeId);
+    }
+
+    /**
+     * Add or replace a resume's features.
+     *
+     * @param features Features from {@link #extract(CandidateResume)}
+     */
+    public void put(Features features) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(features.resumeId);
+            }
+            write(features);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove a resume from the store (no effect if absent).
+     *
+     * @param resumeId Resume ID
+     */
+    public void remove(long resumeId) {
+        lock.writeLock().lock();
+        try {
+            if (changedDuringLoad != null) {
+                changedDuringLoad.add(resumeId);
+            }
+            Integer slot = slots.remove(resumeId);
+            if (slot == null) {
+                return;
+            }
+
+            // Move the last slot into the freed one
+            int last = --size;
+            if (slot != last) {
+                resumeIds[slot] = resumeIds[last];
+                skills[slot] = skills[last];
+                experienceYears[slot] = experienceYears[last];
+                educationCodes[slot] = educationCodes[last];
+                projectCounts[slot] = projectCounts[last];
+                System.arraycopy(projectTerms, last * projectTermWords,
+                        projectTerms, slot * projectTermWords, projectTermWords);
+                slots.put(resumeIds[slot], slot);
+            }
+            skills[last] = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Read the columns under the read lock. Writers wait until the reader returns,
+     * so readers should only run their scoring loop.
+     *
+     * @param reader Function over the columns
+     * @return Result of the reader
+     */
+    public <T> T read(Function<Columns, T> reader) {
+        ensureLoaded();
+        lock.readLock().lock();
+        try {
+            return reader.apply(new Columns());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Map lowercased required-skill terms to project term IDs.
+     *
+     * @param terms Terms from {@link ProjectScorer#parseRequiredTerms(String)}
+     * @return Term IDs in the same order, or null if a term is not in the dictionary
+     */
+    public int[] projectTermIds(List<String> terms) {
+        int[] ids = new int[terms.size()];
+        for (int i = 0; i < ids.length; i++) {
+            Integer id = projectTermIds.get(terms.get(i));
+            if (id == null) {
+                return null;
+            }
+            ids[i] = id;
+        }
+        return ids;
+    }
+
+    /**
+     * @return Number of resumes in the store
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Load all COMPLETED resumes on first use. Changes that listeners apply while
+     * the load runs are newer than the loaded rows and take precedence.
+     */
+    private void ensureLoaded() {
+        if (loaded) {
+            return;
+        }
+        synchronized (loadMonitor) {
+            if (loaded) {
+                return;
+            }
+
+            // 1. Start recording concurrent changes
+            lock.writeLock().lock();
+            try {
+                changedDuringLoad = new HashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            // 2. Read and extract outside the lock
+            List<Features> loadedFeatures = new ArrayList<>();
+            try {
+                for (CandidateResume resume : resumeRepository.findByProcessingStatus(ProcessingStatus.COMPLETED)) {
+                    loadedFeatures.add(extract(resume));
+                }
+            } catch (RuntimeException e) {
+                lock.writeLock().lock();
+                try {
+                    changedDuringLoad = null;
+                } finally {
+                    lock.writeLock().unlock();
+                }
+                throw e;
+            }
+
+            // 3. Apply loaded rows that were not changed meanwhile
+            lock.writeLock().lock();
+            try {
+                for (Features features : loadedFeatures) {
+                    if (!changedDuringLoad.contains(features.resumeId)) {
+                        write(features);
+                    }
+                }
+                changedDuringLoad = null;
+                loaded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    /**
+     * Write features into their slot, appending a new slot if needed.
+     * Caller holds the write lock.
+     */
+    private void write(Features features) {
+        Integer slot = slots.get(features.resumeId);
+        if (slot == null) {
+            ensureCapacity(size + 1);
+            slot = size++;
+            slots.put(features.resumeId, slot);
+        }
+
+        resumeIds[slot] = features.resumeId;
+        skills[slot] = features.skills;
+        experienceYears[slot] = features.experienceYears;
+        educationCodes[slot] = educationCode(features.educationLevel);
+        projectCounts[slot] = features.projectCount;
+        int offset = slot * projectTermWords;
+        if (features.projectTerms != null) {
+            System.arraycopy(features.projectTerms, 0, projectTerms, offset, projectTermWords);
+        } else {
+            Arrays.fill(projectTerms, offset, offset + projectTermWords, 0L);
+        }
+    }
+
+    private int educationCode(String educationLevel) {
+        if (educationLevel == null) {
+            return NO_EDUCATION;
+        }
+        return educationLevelCodes.computeIfAbsent(educationLevel, level -> {
+            educationLevels.add(level);
+            return educationLevels.size() - 1;
+        });
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= resumeIds.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, resumeIds.length * 2);
+        resumeIds = Arrays.copyOf(resumeIds, newCapacity);
+        skills = Arrays.copyOf(skills, newCapacity);
+        experienceYears = Arrays.copyOf(experienceYears, newCapacity);
+        educationCodes = Arrays.copyOf(educationCodes, newCapacity);
+        projectCounts = Arrays.copyOf(projectCounts, newCapacity);
+        projectTerms = Arrays.copyOf(projectTerms, newCapacity * projectTermWords);
+    }
+
+    /**
+     * Scoring features of one resume, computed outside the store's lock.
+     */
+    public static final class Features {
+
+        private final long resumeId;
+        private SkillVector skills;
+        private int experienceYears;
+        private String educationLevel;
+        private byte projectCount;
+        private long[] projectTerms;
+
+        private Features(Long resumeId) {
+            this.resumeId = resumeId;
+        }
+
+        public long getResumeId() {
+            return resumeId;
+        }
+    }
+
+    /**
+     * Read-only view of the columns, valid only inside {@link #read(Function)}.
+     * Slots 0 to size - 1 are in use.
+     */
+    public final class Columns {
+
+        final int size = CandidateFeatureStore.this.size;
+        final long[] resumeIds = CandidateFeatureStore.this.resumeIds;
+        final SkillVector[] skills = CandidateFeatureStore.this.skills;
+        final int[] experienceYears = CandidateFeatureStore.this.experienceYears;
+        final int[] educationCodes = CandidateFeatureStore.this.educationCodes;
+        final byte[] projectCounts = CandidateFeatureStore.this.projectCounts;
+        final long[] projectTerms = CandidateFeatureStore.this.projectTerms;
+        final int projectTermWords = CandidateFeatureStore.this.projectTermWords;
+        final List<String> educationLevels = CandidateFeatureStore.this.educationLevels;
+
+        private Columns() {
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.model.JobPost;
+import com.example.resumescreener.utils.EducationScorer;
+import com.example.resumescreener.utils.ExperienceScorer;
+import com.example.resumescreener.utils.JobProfile;
+import com.example.resumescreener.utils.ProjectScorer;
+import com.example.resumescreener.utils.SkillMatcher;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compiles jobs into {@link JobProfile}s and caches them by job ID, so job-side
+ * preprocessing happens once per job version instead of once per candidate.
+ *
+ * A cached profile is used only while its updatedAt matches the job's, so a
+ * job saved with new requirements is recompiled on its next use.
+ */
+@Service
+public class JobProfileCache {
+
+    private final SkillMatcher skillMatcher;
+    private final ExperienceScorer experienceScorer;
+    private final EducationScorer educationScorer;
+    private final ProjectScorer projectScorer;
+    private final CandidateFeatureStore featureStore;
+
+    private final Map<Long, JobProfile> profiles = new ConcurrentHashMap<>();
+
+    @Autowired
+    public JobProfileCache(
+            SkillMatcher skillMatcher,
+            ExperienceScorer experienceScorer,
+            EducationScorer educationScorer,
+            ProjectScorer projectScorer,
+            CandidateFeatureStore featureStore) {
+        this.skillMatcher = skillMatcher;
+        this.experienceScorer = experienceScorer;
+        this.educationScorer = educationScorer;
+        this.projectScorer = projectScorer;
+        this.featureStore = featureStore;
+    }
+
+    /**
+     * Get the compiled profile of a job, compiling it if it is not cached or
+     * the job has changed since it was compiled.
+     *
+     * @param job Job posting entity
+     * @return Profile of the job as it is now
+     */
+    public JobProfile get(JobPost job) {
+        // Unsaved jobs have no identity to cache under
+        if (job.getId() == null) {
+            return compile(job);
+        }
+
+        JobProfile profile = profiles.get(job.getId());
+        if (profile == null || !Objects.equals(profile.getUpdatedAt(), job.getUpdatedAt())) {
+            profile = compile(job);
+            profiles.put(job.getId(), profile);
+        }
+        return profile;
+    }
+
+    /**
+     * Derive the scoring inputs of a job.
+     *
+     * @param job Job posting entity
+     * @return Uncached profile of the job
+     */
+    public JobProfile compile(JobPost job) {
+        // 1. Required skills: encoded for matching, split into project search terms
+        String requiredSkills = job.getRequiredSkills();
+        List<String> projectTerms = projectScorer.parseRequiredTerms(requiredSkills);
+
+        // 2. Job type, normalized the way the experience scorer compares it
+        String jobType = job.getJobType();
+        String normalizedJobType = isBlank(jobType) ? null : experienceScorer.normalizeJobType(jobType);
+
+        // 3. Education level and its rank in the hierarchy
+        String educationLevel = job.getEducationLevel();
+        String normalizedLevel = isBlank(educationLevel) ? null : educationScorer.normalizeLevel(educationLevel);
+        Integer educationRank = normalizedLevel != null ? educationScorer.levelRank(normalizedLevel) : null;
+
+        return new JobProfile(
+                job.getId(),
+                job.getUpdatedAt(),
+                !isBlank(requiredSkills),
+                skillMatcher.encode(requiredSkills),
+                projectTerms,
+                featureStore.projectTermIds(projectTerms),
+                job.getMinExperienceYears(),
+                normalizedJobType,
+                normalizedLevel,
+                educationRank);
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.trim().isEmpty();
+    }
+}
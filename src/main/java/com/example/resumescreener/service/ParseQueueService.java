@@ -0,0 +1,205 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.model.ParseWorkItem;
+import com.example.resumescreener.model.WorkItemStatus;
+import com.example.resumescreener.repository.ParseWorkItemRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Durable work queue for resume parsing, backed by the 'parse_work_item' table.
+ * A parse that fails after upload is queued here instead of only being logged,
+ * and retried with exponential backoff until it succeeds or its attempts run out.
+ *
+ * Workers claim items under a time-limited lease, so any number of application
+ * instances can drain the queue in parallel. If a worker dies, its lease expires
+ * and another worker claims the item again; nothing is lost on restart.
+ */
+@Service
+@Transactional
+public class ParseQueueService {
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+    private static final EnumSet<WorkItemStatus> OPEN_STATUSES = EnumSet.of(WorkItemStatus.PENDING, WorkItemStatus.LEASED);
+
+    private final ParseWorkItemRepository workItemRepository;
+
+    @Value("${app.parse-queue.instance-id:}")
+    private String instanceId;
+
+    @Value("${app.parse-queue.batch-size:10}")
+    private int batchSize;
+
+    @Value("${app.parse-queue.lease-seconds:300}")
+    private long leaseSeconds;
+
+    @Value("${app.parse-queue.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.parse-queue.backoff-base-seconds:10}")
+    private long backoffBaseSeconds;
+
+    @Value("${app.parse-queue.backoff-max-seconds:3600}")
+    private long backoffMaxSeconds;
+
+    @Autowired
+    public ParseQueueService(ParseWorkItemRepository workItemRepository) {
+        this.workItemRepository = workItemRepository;
+    }
+
+    @PostConstruct
+    void init() {
+        if (instanceId == null || instanceId.isBlank()) {
+            instanceId = hostName() + "-" + UUID.randomUUID().toString().substring(0, 8);
+        }
+    }
+
+    /**
+     * Queue a parse retry for a resume. Does nothing if the resume already has
+     * queued or running work. The first attempt waits for the base backoff.
+     *
+     * The item is inserted in its own transaction, so that when a concurrent
+     * enqueue for the same resume wins the unique open-item constraint, the
+     * violation only ends this insert.
+     *
+     * @param resumeId Resume ID
+     * @param error Error of the failed parse (can be null)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void enqueue(Long resumeId, String error) {
+        if (workItemRepository.existsByResumeIdAndStatusIn(resumeId, OPEN_STATUSES)) {
+            return;
+        }
+        ParseWorkItem item = new ParseWorkItem(resumeId);
+        item.setAvailableAt(LocalDateTime.now().plusSeconds(backoffSeconds(1)));
+        item.setLastError(truncate(error));
+        try {
+            workItemRepository.save(item);
+        } catch (DataIntegrityViolationException e) {
+            // Queued concurrently: the open item already covers this resume
+        }
+    }
+
+    /**
+     * Claim the next batch of due work items for this instance.
+     * The row locks are held only while claiming; the lease then keeps other
+     * workers away until it is ended or expires.
+     *
+     * @return Claimed items (leased to this instance)
+     */
+    public List<ParseWorkItem> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ParseWorkItem> due = workItemRepository.findDueForUpdate(now, PageRequest.of(0, batchSize));
+
+        List<ParseWorkItem> claimed = new ArrayList<>(due.size());
+        for (ParseWorkItem item : due) {
+            // Lease expired on the last attempt (worker died): give up
+            if (item.getAttempts() >= maxAttempts) {
+                item.setStatus(WorkItemStatus.FAILED);
+                item.setLeaseOwner(null);
+                item.setLeaseExpiresAt(null);
+                item.setLastError(truncate("Lease expired on final attempt; last error: " + item.getLastError()));
+                continue;
+            }
+            item.setStatus(WorkItemStatus.LEASED);
+            item.setLeaseOwner(instanceId);
+            item.setLeaseExpiresAt(now.plusSeconds(leaseSeconds));
+            item.setAttempts(item.getAttempts() + 1);
+            claimed.add(item);
+        }
+        workItemRepository.saveAll(due);
+        return claimed;
+    }
+
+    /**
+     * Mark a claimed item as done.
+     *
+     * @param item Item claimed by this instance
+     * @return false if the lease had already been lost
+     */
+    public boolean complete(ParseWorkItem item) {
+        LocalDateTime now = LocalDateTime.now();
+        return workItemRepository.endLease(item.getId(), instanceId, WorkItemStatus.DONE,
+                item.getAvailableAt(), null, null, now) == 1;
+    }
+
+    /**
+     * Record a failed attempt. The item is retried after an exponential backoff,
+     * or marked FAILED if it is not retryable or out of attempts.
+     *
+     * @param item Item claimed by this instance
+     * @param error Error message
+     * @param retryable false to fail the item immediately (e.g. the resume no longer exists)
+     * @return false if the lease had already been lost
+     */
+    public boolean fail(ParseWorkItem item, String error, boolean retryable) {
+        LocalDateTime now = LocalDateTime.now();
+        if (!retryable || item.getAttempts() >= maxAttempts) {
+            return workItemRepository.endLease(item.getId(), instanceId, WorkItemStatus.FAILED,
+                    item.getAvailableAt(), truncate(error), null, now) == 1;
+        }
+        LocalDateTime retryAt = now.plusSeconds(backoffSeconds(item.getAttempts() + 1));
+        return workItemRepository.endLease(item.getId(), instanceId, WorkItemStatus.PENDING,
+                retryAt, truncate(error), item.getResumeId(), now) == 1;
+    }
+
+    /**
+     * Count work items by status.
+     *
+     * @return Status name -> number of items
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> countByStatus() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (WorkItemStatus status : WorkItemStatus.values()) {
+            counts.put(status.name(), workItemRepository.countByStatus(status));
+        }
+        return counts;
+    }
+
+    public String getInstanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Delay before the given attempt: base * 2^(attempt - 1), capped, plus up to
+     * 10% jitter so instances retrying the same burst do not run in lockstep.
+     */
+    private long backoffSeconds(int attempt) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 30);
+        long delay = Math.min(backoffMaxSeconds, backoffBaseSeconds * (1L << exponent));
+        return delay + ThreadLocalRandom.current().nextLong(delay / 10 + 1);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return null;
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    private static String hostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            return "unknown-host";
+        }
+    }
+}
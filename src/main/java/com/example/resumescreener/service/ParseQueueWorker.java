@@ -0,0 +1,97 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.config.AsyncConfig;
+import com.example.resumescreener.exception.ResourceNotFoundException;
+import com.example.resumescreener.model.ParseWorkItem;
+import com.example.resumescreener.utils.PriorityTaskExecutor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Polls the parse work queue and runs claimed items.
+ * Every instance runs one worker; they share the queue through row leases.
+ * Claimed items run as MAINTENANCE work on the background pool, so retries yield
+ * to interactive uploads. Each item is parsed in its own transaction, so a failure
+ * only affects that item.
+ */
+@Component
+public class ParseQueueWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ParseQueueWorker.class);
+
+    private final ParseQueueService parseQueueService;
+    private final ResumeParserService resumeParserService;
+    private final PriorityTaskExecutor.ClassExecutor maintenanceExecutor;
+
+    @Value("${app.parse-queue.enabled:true}")
+    private boolean enabled;
+
+    @Autowired
+    public ParseQueueWorker(ParseQueueService parseQueueService, ResumeParserService resumeParserService,
+                            @Qualifier(AsyncConfig.MAINTENANCE_EXECUTOR)
+                            PriorityTaskExecutor.ClassExecutor maintenanceExecutor) {
+        this.parseQueueService = parseQueueService;
+        this.resumeParserService = resumeParserService;
+        this.maintenanceExecutor = maintenanceExecutor;
+    }
+
+    /**
+     * Claim and run due work items until the queue has nothing due.
+     */
+    @Scheduled(fixedDelayString = "${app.parse-queue.poll-interval-ms:5000}",
+               initialDelayString = "${app.parse-queue.poll-interval-ms:5000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+
+        List<ParseWorkItem> items;
+        do {
+            items = parseQueueService.claim();
+
+            // Run the batch on the background pool and wait, so leases are not outrun
+            List<Future<?>> running = new ArrayList<>(items.size());
+            for (ParseWorkItem item : items) {
+                running.add(maintenanceExecutor.submit(() -> run(item)));
+            }
+            for (Future<?> future : running) {
+                try {
+                    future.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                } catch (ExecutionException e) {
+                    log.error("Parse work item failed unexpectedly", e.getCause());
+                }
+            }
+        } while (!items.isEmpty());
+    }
+
+    private void run(ParseWorkItem item) {
+        boolean leaseHeld;
+        try {
+            resumeParserService.parseResume(item.getResumeId());
+            leaseHeld = parseQueueService.complete(item);
+        } catch (ResourceNotFoundException e) {
+            // Resume was deleted: nothing left to parse
+            leaseHeld = parseQueueService.fail(item, e.getMessage(), false);
+        } catch (RuntimeException e) {
+            leaseHeld = parseQueueService.fail(item, e.getMessage(), true);
+        }
+
+        if (!leaseHeld) {
+            log.warn("Lease on parse work item {} expired before it finished; another worker may have run it",
+                    item.getId());
+        }
+    }
+}
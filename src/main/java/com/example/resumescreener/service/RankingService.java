@@ -4,16 +4,24 @@ import com.example.resumescreener.dto.RankingResponse;
 import com.example.resumescreener.exception.ResourceNotFoundException;
 import com.example.resumescreener.model.CandidateResume;
 import com.example.resumescreener.model.JobPost;
+import com.example.resumescreener.model.ProcessingStatus;
 import com.example.resumescreener.model.ResumeScore;
 import com.example.resumescreener.repository.JobRepository;
 import com.example.resumescreener.repository.ResumeRepository;
 import com.example.resumescreener.repository.ResumeScoreRepository;
+import com.example.resumescreener.utils.CentiPoints;
+import com.example.resumescreener.utils.JobProfile;
+import com.example.resumescreener.utils.MatchResult;
+import com.example.resumescreener.utils.PoolScores;
+import com.example.resumescreener.utils.ScoreVector;
+import com.example.resumescreener.utils.ScoringWeights;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.function.LongPredicate;
 
 /**
  * Service for ranking resumes against a job posting.
@@ -36,6 +44,43 @@ import java.util.*;
 @Transactional
 public class RankingService {
 
+    /**
+     * Ranking order with tie-breaking:
+     * 1. Final score (higher is better)
+     * 2. Skill score (higher is better)
+     * 3. Experience score (higher is better)
+     * 4. Number of matched skills (more is better)
+     * 5. Resume ID (lower is better - first uploaded)
+     */
+    private static final Comparator<RankingResponse> RANKING_ORDER = (r1, r2) -> {
+        // 1. Compare final score (descending)
+        int finalScoreCompare = r2.getFinalScore().compareTo(r1.getFinalScore());
+        if (finalScoreCompare != 0) {
+            return finalScoreCompare;
+        }
+
+        // 2. Compare skill score (descending)
+        int skillCompare = r2.getSkillScore().compareTo(r1.getSkillScore());
+        if (skillCompare != 0) {
+            return skillCompare;
+        }
+
+        // 3. Compare experience score (descending)
+        int expCompare = r2.getExperienceScore().compareTo(r1.getExperienceScore());
+        if (expCompare != 0) {
+            return expCompare;
+        }
+
+        // 4. Compare number of matched skills (descending)
+        int matchedSkillsCompare = Integer.compare(matchedCount(r2), matchedCount(r1));
+        if (matchedSkillsCompare != 0) {
+            return matchedSkillsCompare;
+        }
+
+        // 5. Compare resume ID (ascending - first uploaded wins)
+        return Long.compare(r1.getResumeId(), r2.getResumeId());
+    };
+
     private final JobRepository jobRepository;
     private final ResumeRepository resumeRepository;
     private final ResumeScoreRepository scoreRepository;
@@ -61,70 +106,317 @@ public class RankingService {
      * @return List of RankingResponse sorted by final score (descending)
      */
     public List<RankingResponse> getRankedResumes(Long jobId) {
+        return getRankedResumes(jobId, null, 0);
+    }
+
+    /**
+     * Get one page of the ranked list of resumes for a job.
+     * Only the top (offset + limit) candidates are selected and sorted, using a
+     * bounded heap in ranking order; ranks are the same as in the full list.
+     * 
+     * @param jobId Job ID
+     * @param limit Maximum number of candidates to return (null for all)
+     * @param offset Number of top candidates to skip
+     * @return Page of RankingResponse sorted by final score (descending)
+     */
+    public List<RankingResponse> getRankedResumes(Long jobId, Integer limit, int offset) {
+        validatePage(limit, offset);
+
         // Fetch job
         JobPost job = jobRepository.findById(jobId)
                 .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
 
-        // Fetch all resumes
-        List<CandidateResume> resumes = resumeRepository.findAll();
+        // Fetch all fully processed resumes (async uploads still in flight are skipped)
+        List<CandidateResume> resumes = resumeRepository.findByProcessingStatus(ProcessingStatus.COMPLETED);
 
         if (resumes.isEmpty()) {
             return new ArrayList<>();
         }
 
+        // Load all existing scores for this job in one query, keyed by resume ID
+        Map<Long, ResumeScore> existingScores = new HashMap<>();
+        for (ResumeScore score : scoreRepository.findByJobPostId(jobId)) {
+            existingScores.put(score.getCandidateResume().getId(), score);
+        }
+
+        // Score missing pairs against the whole pool in one pass over the feature store
+        Map<Long, Integer> poolSlots = new HashMap<>();
+        PoolScores poolScores = null;
+        if (existingScores.size() < resumes.size()) {
+            poolScores = scoringService.scorePool(job);
+            poolSlots = poolSlots(poolScores, resumeId -> !existingScores.containsKey(resumeId));
+        }
+
         // Calculate or retrieve scores for each resume
         List<RankingResponse> rankingResponses = new ArrayList<>();
+        List<ResumeScore> newScores = new ArrayList<>();
+        JobProfile profile = scoringService.getJobProfile(job);
 
         for (CandidateResume resume : resumes) {
-            // Get or calculate score
-            ResumeScore resumeScore = getOrCalculateScore(job, resume);
+            // Match skills once; the result feeds both the score and the response
+            MatchResult matchResult = scoringService.matchSkills(resume, profile);
+
+            // Reuse existing score or calculate a new one for missing pairs,
+            // from the pool scores when the store has the resume
+            ResumeScore resumeScore = existingScores.get(resume.getId());
+            if (resumeScore == null) {
+                Integer slot = poolSlots.get(resume.getId());
+                ScoreVector scores = slot != null
+                        ? poolScores.get(slot)
+                        : scoringService.score(resume, profile, matchResult);
+                resumeScore = createScore(job, resume, scores);
+                newScores.add(resumeScore);
+            }
 
             // Create ranking response
-            RankingResponse response = createRankingResponse(resume, resumeScore, job);
+            RankingResponse response = createRankingResponse(resume, resumeScore, matchResult);
             rankingResponses.add(response);
         }
 
-        // Sort by final score (descending)
-        rankingResponses.sort((r1, r2) -> r2.getFinalScore().compareTo(r1.getFinalScore()));
+        // Persist all newly calculated scores in one batch
+        if (!newScores.isEmpty()) {
+            scoreRepository.saveAll(newScores);
+        }
 
-        // Apply tie-breaking and assign ranks
-        applyTieBreakingAndRanks(rankingResponses);
+        // Select and sort the top candidates (with tie-breaking), then assign ranks
+        List<RankingResponse> ranked;
+        if (limit == null) {
+            ranked = rankingResponses;
+            ranked.sort(RANKING_ORDER);
+        } else {
+            ranked = selectTop(rankingResponses, (int) Math.min(Integer.MAX_VALUE, (long) offset + limit));
+        }
+        assignRanks(ranked);
 
-        return rankingResponses;
+        if (offset >= ranked.size()) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(ranked.subList(offset, ranked.size()));
     }
 
     /**
-     * Get existing score or calculate new score for resume-job pair.
+     * Get one page of a what-if ranking of resumes for a job, with custom scoring
+     * weights. Final scores are re-weighted from the component scores stored in
+     * ResumeScore in one pass over primitive arrays, so no resume text is parsed.
+     * Only pairs that have no stored score yet are scored (and stored) first.
+     * 
+     * Skills are matched only for candidates on the page and those tied with them
+     * on final, skill and experience score, since the matched-skill count breaks
+     * such ties. Ranks are the same as in a full ranking with these weights.
+     * Nothing is persisted with the custom weights.
+     * 
+     * @param jobId Job ID
+     * @param limit Maximum number of candidates to return (null for all)
+     * @param offset Number of top candidates to skip
+     * @param weights Component weights to rank with
+     * @return Page of RankingResponse sorted by re-weighted final score (descending)
+     */
+    public List<RankingResponse> getRankedResumes(Long jobId, Integer limit, int offset, ScoringWeights weights) {
+        validatePage(limit, offset);
+
+        JobPost job = jobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Job", jobId));
+
+        // 1. Score and store pairs that have no stored score yet
+        scoreUnscoredResumes(job);
+
+        // 2. Load the stored component scores as columns
+        List<Object[]> rows = scoreRepository.findComponentScores(jobId, ProcessingStatus.COMPLETED);
+        int size = rows.size();
+        long[] resumeIds = new long[size];
+        int[] skillPoints = new int[size];
+        int[] experiencePoints = new int[size];
+        int[] educationPoints = new int[size];
+        int[] projectPoints = new int[size];
+        for (int i = 0; i < size; i++) {
+            Object[] row = rows.get(i);
+            resumeIds[i] = (Long) row[0];
+            skillPoints[i] = CentiPoints.fromBigDecimal((BigDecimal) row[1]);
+            experiencePoints[i] = CentiPoints.fromBigDecimal((BigDecimal) row[2]);
+            educationPoints[i] = CentiPoints.fromBigDecimal((BigDecimal) row[3]);
+            projectPoints[i] = CentiPoints.fromBigDecimal((BigDecimal) row[4]);
+        }
+
+        // 3. Re-weight the final scores
+        int[] finalPoints = new int[size];
+        for (int i = 0; i < size; i++) {
+            finalPoints[i] = scoringService.calculateFinalPoints(
+                    skillPoints[i], experiencePoints[i], educationPoints[i], projectPoints[i], weights);
+        }
+
+        // 4. Order by final, skill and experience score, then resume ID
+        Integer[] order = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> {
+            int compare = Integer.compare(finalPoints[b], finalPoints[a]);
+            if (compare == 0) {
+                compare = Integer.compare(skillPoints[b], skillPoints[a]);
+            }
+            if (compare == 0) {
+                compare = Integer.compare(experiencePoints[b], experiencePoints[a]);
+            }
+            return compare != 0 ? compare : Long.compare(resumeIds[a], resumeIds[b]);
+        });
+
+        int end = limit == null ? size : (int) Math.min(size, (long) offset + limit);
+        if (offset >= end) {
+            return new ArrayList<>();
+        }
+
+        // 5. Widen the page to whole tie groups, which the matched-skill count re-orders
+        int windowStart = offset;
+        while (windowStart > 0 && tied(order[windowStart - 1], order[windowStart],
+                finalPoints, skillPoints, experiencePoints)) {
+            windowStart--;
+        }
+        int windowEnd = end;
+        while (windowEnd < size && tied(order[windowEnd - 1], order[windowEnd],
+                finalPoints, skillPoints, experiencePoints)) {
+            windowEnd++;
+        }
+
+        // 6. Match skills for the window only and rank it
+        List<Long> windowIds = new ArrayList<>();
+        for (int position = windowStart; position < windowEnd; position++) {
+            windowIds.add(resumeIds[order[position]]);
+        }
+        Map<Long, CandidateResume> windowResumes = new HashMap<>();
+        for (CandidateResume resume : resumeRepository.findAllById(windowIds)) {
+            windowResumes.put(resume.getId(), resume);
+        }
+
+        List<RankingResponse> window = new ArrayList<>();
+        JobProfile profile = scoringService.getJobProfile(job);
+        for (int position = windowStart; position < windowEnd; position++) {
+            int i = order[position];
+            CandidateResume resume = windowResumes.get(resumeIds[i]);
+            ScoreVector scores = new ScoreVector(
+                    skillPoints[i], experiencePoints[i], educationPoints[i], projectPoints[i], finalPoints[i]);
+            window.add(createRankingResponse(resume, scores, scoringService.matchSkills(resume, profile)));
+        }
+        window.sort(RANKING_ORDER);
+
+        // The window starts a tie group, so ranks within it are offset by its position
+        assignRanks(window);
+        for (RankingResponse response : window) {
+            response.setRank(response.getRank() + windowStart);
+        }
+
+        return new ArrayList<>(window.subList(offset - windowStart, end - windowStart));
+    }
+
+    /**
+     * Check whether two candidates tie on final, skill and experience score.
+     */
+    private static boolean tied(int a, int b, int[] finalPoints, int[] skillPoints, int[] experiencePoints) {
+        return finalPoints[a] == finalPoints[b]
+                && skillPoints[a] == skillPoints[b]
+                && experiencePoints[a] == experiencePoints[b];
+    }
+
+    /**
+     * Score and store all COMPLETED resumes that have no score for the job yet.
      * 
      * @param job Job posting
-     * @param resume Resume
-     * @return ResumeScore entity
      */
-    private ResumeScore getOrCalculateScore(JobPost job, CandidateResume resume) {
-        // Check if score already exists
-        Optional<ResumeScore> existingScore = scoreRepository.findByJobPostIdAndCandidateResumeId(
-                job.getId(), resume.getId());
+    private void scoreUnscoredResumes(JobPost job) {
+        List<CandidateResume> unscored = resumeRepository.findUnscoredForJob(ProcessingStatus.COMPLETED, job.getId());
+        if (unscored.isEmpty()) {
+            return;
+        }
 
-        if (existingScore.isPresent()) {
-            return existingScore.get();
+        Set<Long> unscoredIds = new HashSet<>();
+        for (CandidateResume resume : unscored) {
+            unscoredIds.add(resume.getId());
         }
+        PoolScores poolScores = scoringService.scorePool(job);
+        Map<Long, Integer> poolSlots = poolSlots(poolScores, unscoredIds::contains);
 
-        // Calculate new scores
-        BigDecimal skillScore = scoringService.calculateSkillScore(resume, job);
-        BigDecimal experienceScore = scoringService.calculateExperienceScore(resume, job);
-        BigDecimal educationScore = scoringService.calculateEducationScore(resume, job);
-        BigDecimal projectScore = scoringService.calculateProjectScore(resume, job);
-        BigDecimal finalScore = scoringService.calculateFinalScore(resume, job);
+        List<ResumeScore> newScores = new ArrayList<>();
+        JobProfile profile = scoringService.getJobProfile(job);
+        for (CandidateResume resume : unscored) {
+            Integer slot = poolSlots.get(resume.getId());
+            ScoreVector scores = slot != null ? poolScores.get(slot) : scoringService.score(resume, profile);
+            newScores.add(createScore(job, resume, scores));
+        }
+        scoreRepository.saveAll(newScores);
+    }
 
-        // Create and save score entity
-        ResumeScore resumeScore = new ResumeScore(job, resume);
-        resumeScore.setSkillScore(skillScore);
-        resumeScore.setExperienceScore(experienceScore);
-        resumeScore.setEducationScore(educationScore);
-        resumeScore.setProjectScore(projectScore);
-        resumeScore.setFinalScore(finalScore);
+    /**
+     * Index pool scores by resume ID.
+     * 
+     * @param poolScores Pool scores (null if the job could not be scored as a pool)
+     * @param wanted Resume IDs to index
+     * @return Map from resume ID to position in the pool scores
+     */
+    private Map<Long, Integer> poolSlots(PoolScores poolScores, LongPredicate wanted) {
+        Map<Long, Integer> slots = new HashMap<>();
+        if (poolScores == null) {
+            return slots;
+        }
+        long[] poolResumeIds = poolScores.getResumeIds();
+        for (int slot = 0; slot < poolResumeIds.length; slot++) {
+            if (wanted.test(poolResumeIds[slot])) {
+                slots.put(poolResumeIds[slot], slot);
+            }
+        }
+        return slots;
+    }
 
-        return scoreRepository.save(resumeScore);
+    private void validatePage(Integer limit, int offset) {
+        if (limit != null && limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        if (offset < 0) {
+            throw new IllegalArgumentException("Offset cannot be negative");
+        }
+    }
+
+    /**
+     * Select the k best responses in ranking order using a bounded heap.
+     * Costs O(n log k) instead of sorting the full list.
+     * 
+     * @param responses All ranking responses (unsorted)
+     * @param k Number of responses to keep
+     * @return Top k responses, sorted in ranking order
+     */
+    private List<RankingResponse> selectTop(List<RankingResponse> responses, int k) {
+        // Max-heap on ranking order: the head is the worst of the kept responses
+        PriorityQueue<RankingResponse> heap = new PriorityQueue<>(
+                Math.min(k, responses.size()) + 1, RANKING_ORDER.reversed());
+
+        for (RankingResponse response : responses) {
+            if (heap.size() < k) {
+                heap.add(response);
+            } else if (RANKING_ORDER.compare(response, heap.peek()) < 0) {
+                heap.poll();
+                heap.add(response);
+            }
+        }
+
+        List<RankingResponse> top = new ArrayList<>(heap);
+        top.sort(RANKING_ORDER);
+        return top;
+    }
+
+    /**
+     * Create a new (not yet persisted) score entity for resume-job pair.
+     * 
+     * @param job Job posting
+     * @param resume Resume
+     * @param scores Component and final scores of the pair
+     * @return ResumeScore entity
+     */
+    private ResumeScore createScore(JobPost job, CandidateResume resume, ScoreVector scores) {
+        ResumeScore resumeScore = new ResumeScore(job, resume);
+        resumeScore.setSkillScore(scores.getSkillScore());
+        resumeScore.setExperienceScore(scores.getExperienceScore());
+        resumeScore.setEducationScore(scores.getEducationScore());
+        resumeScore.setProjectScore(scores.getProjectScore());
+        resumeScore.setFinalScore(scores.getFinalScore());
+        return resumeScore;
     }
 
     /**
@@ -132,73 +424,55 @@ public class RankingService {
      * 
      * @param resume Resume entity
      * @param resumeScore Score entity
-     * @param job Job posting
+     * @param matchResult Skill match result for the pair
      * @return RankingResponse DTO
      */
-    private RankingResponse createRankingResponse(CandidateResume resume, ResumeScore resumeScore, JobPost job) {
+    private RankingResponse createRankingResponse(
+            CandidateResume resume, ResumeScore resumeScore, MatchResult matchResult) {
+        return createRankingResponse(resume, resumeScore.getSkillScore(), resumeScore.getExperienceScore(),
+                resumeScore.getEducationScore(), resumeScore.getProjectScore(), resumeScore.getFinalScore(),
+                matchResult);
+    }
+
+    /**
+     * Create RankingResponse from resume and computed (not stored) scores.
+     * 
+     * @param resume Resume entity
+     * @param scores Component and final scores
+     * @param matchResult Skill match result for the pair
+     * @return RankingResponse DTO
+     */
+    private RankingResponse createRankingResponse(
+            CandidateResume resume, ScoreVector scores, MatchResult matchResult) {
+        return createRankingResponse(resume, scores.getSkillScore(), scores.getExperienceScore(),
+                scores.getEducationScore(), scores.getProjectScore(), scores.getFinalScore(), matchResult);
+    }
+
+    private RankingResponse createRankingResponse(
+            CandidateResume resume, BigDecimal skillScore, BigDecimal experienceScore,
+            BigDecimal educationScore, BigDecimal projectScore, BigDecimal finalScore,
+            MatchResult matchResult) {
         RankingResponse response = new RankingResponse();
         response.setResumeId(resume.getId());
         response.setCandidateName(resume.getCandidateName());
         response.setFileName(resume.getFileName());
-        response.setSkillScore(resumeScore.getSkillScore());
-        response.setExperienceScore(resumeScore.getExperienceScore());
-        response.setEducationScore(resumeScore.getEducationScore());
-        response.setProjectScore(resumeScore.getProjectScore());
-        response.setFinalScore(resumeScore.getFinalScore());
-        response.setMatchedSkills(scoringService.getMatchedSkills(resume, job));
-        response.setMissingSkills(scoringService.getMissingSkills(resume, job));
+        response.setSkillScore(skillScore);
+        response.setExperienceScore(experienceScore);
+        response.setEducationScore(educationScore);
+        response.setProjectScore(projectScore);
+        response.setFinalScore(finalScore);
+        response.setMatchedSkills(matchResult.getMatchedSkills());
+        response.setMissingSkills(matchResult.getMissingSkills());
         return response;
     }
 
     /**
-     * Apply tie-breaking logic and assign ranks.
+     * Assign ranks to responses that are already sorted in ranking order.
+     * Responses tied on every scoring criterion (all but resume ID) share a rank.
      * 
-     * Tie-breaking order:
-     * 1. Final score (already sorted)
-     * 2. Skill score (higher is better)
-     * 3. Experience score (higher is better)
-     * 4. Number of matched skills (more is better)
-     * 5. Resume ID (lower is better - first uploaded)
-     * 
-     * @param responses List of ranking responses (already sorted by final score)
+     * @param responses List of ranking responses (sorted, starting at the top rank)
      */
-    private void applyTieBreakingAndRanks(List<RankingResponse> responses) {
-        if (responses.isEmpty()) {
-            return;
-        }
-
-        // Apply tie-breaking sort to entire list
-        responses.sort((r1, r2) -> {
-            // 1. Compare final score (descending)
-            int finalScoreCompare = r2.getFinalScore().compareTo(r1.getFinalScore());
-            if (finalScoreCompare != 0) {
-                return finalScoreCompare;
-            }
-
-            // 2. Compare skill score (descending)
-            int skillCompare = r2.getSkillScore().compareTo(r1.getSkillScore());
-            if (skillCompare != 0) {
-                return skillCompare;
-            }
-
-            // 3. Compare experience score (descending)
-            int expCompare = r2.getExperienceScore().compareTo(r1.getExperienceScore());
-            if (expCompare != 0) {
-                return expCompare;
-            }
-
-            // 4. Compare number of matched skills (descending)
-            int matchedSkillsCompare = Integer.compare(
-                    r2.getMatchedSkills() != null ? r2.getMatchedSkills().size() : 0,
-                    r1.getMatchedSkills() != null ? r1.getMatchedSkills().size() : 0);
-            if (matchedSkillsCompare != 0) {
-                return matchedSkillsCompare;
-            }
-
-            // 5. Compare resume ID (ascending - first uploaded wins)
-            return Long.compare(r1.getResumeId(), r2.getResumeId());
-        });
-
+    private void assignRanks(List<RankingResponse> responses) {
         // Assign ranks (same rank for identical scores after tie-breaking)
         int currentRank = 1;
         for (int i = 0; i < responses.size(); i++) {
@@ -210,9 +484,7 @@ public class RankingService {
                 boolean isDifferent = !response.getFinalScore().equals(previous.getFinalScore()) ||
                                      !response.getSkillScore().equals(previous.getSkillScore()) ||
                                      !response.getExperienceScore().equals(previous.getExperienceScore()) ||
-                                     !Objects.equals(
-                                         response.getMatchedSkills() != null ? response.getMatchedSkills().size() : 0,
-                                         previous.getMatchedSkills() != null ? previous.getMatchedSkills().size() : 0);
+                                     matchedCount(response) != matchedCount(previous);
                 
                 if (isDifferent) {
                     currentRank = i + 1;
@@ -223,6 +495,9 @@ public class RankingService {
         }
     }
 
+    private static int matchedCount(RankingResponse response) {
+        return response.getMatchedSkills() != null ? response.getMatchedSkills().size() : 0;
+    }
 
     /**
      * Recalculate all scores for a job (useful if scoring logic is updated).
@@ -2,10 +2,13 @@ package com.example.resumescreener.service;
 
 import com.example.resumescreener.exception.ResourceNotFoundException;
 import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.ProcessingStatus;
 import com.example.resumescreener.repository.ResumeRepository;
+import com.example.resumescreener.repository.ResumeScoreRepository;
 import com.example.resumescreener.utils.*;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
@@ -34,6 +37,7 @@ import java.time.LocalDateTime;
 public class ResumeParserService {
 
     private final ResumeRepository resumeRepository;
+    private final ResumeScoreRepository resumeScoreRepository;
     private final SkillExtractor skillExtractor;
     private final ExperienceExtractor experienceExtractor;
     private final EducationExtractor educationExtractor;
@@ -42,11 +46,13 @@ public class ResumeParserService {
     @Autowired
     public ResumeParserService(
             ResumeRepository resumeRepository,
+            ResumeScoreRepository resumeScoreRepository,
             SkillExtractor skillExtractor,
             ExperienceExtractor experienceExtractor,
             EducationExtractor educationExtractor,
             ProjectExtractor projectExtractor) {
         this.resumeRepository = resumeRepository;
+        this.resumeScoreRepository = resumeScoreRepository;
         this.skillExtractor = skillExtractor;
         this.experienceExtractor = experienceExtractor;
         this.educationExtractor = educationExtractor;
@@ -55,6 +61,8 @@ public class ResumeParserService {
 
     /**
      * Parse a resume and extract structured data.
+     * If the resume was parsed before (re-parse, re-extraction), its stored scores
+     * are deleted in the same transaction, so the next ranking scores it afresh.
      * 
      * @param resumeId ID of the resume to parse
      * @return Updated CandidateResume entity
@@ -63,35 +71,66 @@ public class ResumeParserService {
         CandidateResume resume = resumeRepository.findById(resumeId)
                 .orElseThrow(() -> new ResourceNotFoundException("Resume", resumeId));
 
+        // Scores are calculated from the parsed data that is about to change
+        if (resume.getParsedAt() != null) {
+            resumeScoreRepository.deleteByCandidateResumeId(resumeId);
+        }
+
+        applyParsedData(resume);
+
+        // A resume with text is FAILED only because an earlier parse failed
+        // (a queued retry): it is complete now. A completed resume's only
+        // recorded error is such a failed parse.
+        if (resume.getProcessingStatus() == ProcessingStatus.FAILED) {
+            resume.setProcessingStatus(ProcessingStatus.COMPLETED);
+        }
+        if (resume.getProcessingStatus() == ProcessingStatus.COMPLETED) {
+            resume.setProcessingError(null);
+        }
+
+        return resumeRepository.save(resume);
+    }
+
+    /**
+     * Extract structured data from a resume's text into the entity, without
+     * loading or saving it. Used for resumes that are not persisted yet
+     * (e.g. bulk import parses in parallel and saves in batches).
+     * 
+     * @param resume Resume with extracted text
+     * @throws IllegalStateException if the resume has no text
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void applyParsedData(CandidateResume resume) {
         String extractedText = resume.getExtractedText();
         if (extractedText == null || extractedText.trim().isEmpty()) {
             throw new IllegalStateException("Resume text is empty. Please upload resume first.");
         }
 
+        // Normalize and segment the text once; every extractor reads the same document
+        ResumeDocument document = ResumeDocument.parse(extractedText);
+
         // Extract skills
-        String skills = skillExtractor.extractSkills(extractedText);
+        String skills = skillExtractor.extractSkills(document);
         resume.setParsedSkills(skills);
 
         // Extract experience years
-        Integer experienceYears = experienceExtractor.extractExperienceYears(extractedText);
+        Integer experienceYears = experienceExtractor.extractExperienceYears(document);
         resume.setExperienceYears(experienceYears);
 
         // Extract education level
-        String educationLevel = educationExtractor.extractEducationLevel(extractedText);
+        String educationLevel = educationExtractor.extractEducationLevel(document);
         resume.setEducationLevel(educationLevel);
 
         // Extract education field
-        String educationField = educationExtractor.extractEducationField(extractedText);
+        String educationField = educationExtractor.extractEducationField(document);
         resume.setEducationField(educationField);
 
         // Extract projects summary
-        String projectsSummary = projectExtractor.extractProjectsSummary(extractedText);
+        String projectsSummary = projectExtractor.extractProjectsSummary(document);
         resume.setProjectsSummary(projectsSummary);
 
         // Mark as parsed
         resume.setParsedAt(LocalDateTime.now());
-
-        return resumeRepository.save(resume);
     }
 
     /**
@@ -0,0 +1,141 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.config.AsyncConfig;
+import com.example.resumescreener.exception.TooManyRequestsException;
+import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.ProcessingStatus;
+import com.example.resumescreener.repository.ResumeRepository;
+import com.example.resumescreener.utils.ExtractedDocument;
+import com.example.resumescreener.utils.TikaExtractor;
+import com.example.resumescreener.utils.UploadAdmission;
+import org.apache.tika.exception.TikaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * Background pipeline for asynchronous resume uploads.
+ * Runs extract -> persist -> parse on the bounded resume processing executor
+ * and records progress in the resume's processing status.
+ *
+ * Each stage commits on its own, so the status endpoint can observe progress
+ * while a slow document is still being extracted. Extraction passes upload
+ * admission control like the synchronous uploads; a resume that is not admitted
+ * in time is marked FAILED and can be uploaded again.
+ */
+@Service
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ResumeProcessingService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeProcessingService.class);
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ResumeRepository resumeRepository;
+    private final TikaExtractor tikaExtractor;
+    private final ResumeParserService resumeParserService;
+    private final ParseQueueService parseQueueService;
+    private final UploadAdmission uploadAdmission;
+
+    @Autowired
+    public ResumeProcessingService(ResumeRepository resumeRepository, TikaExtractor tikaExtractor,
+                                   ResumeParserService resumeParserService, ParseQueueService parseQueueService,
+                                   UploadAdmission uploadAdmission) {
+        this.resumeRepository = resumeRepository;
+        this.tikaExtractor = tikaExtractor;
+        this.resumeParserService = resumeParserService;
+        this.parseQueueService = parseQueueService;
+        this.uploadAdmission = uploadAdmission;
+    }
+
+    /**
+     * Process an uploaded resume in the background.
+     * The original file stays in the file store, whatever the outcome, so a failed
+     * resume can be re-extracted later.
+     *
+     * @param resumeId ID of the PENDING resume
+     * @param uploadedFile Stored original file
+     */
+    @Async(AsyncConfig.RESUME_PROCESSING_EXECUTOR)
+    public void processResume(Long resumeId, Path uploadedFile) {
+        try {
+            CandidateResume resume = resumeRepository.findById(resumeId).orElse(null);
+            if (resume == null) {
+                // Upload was withdrawn before processing started
+                return;
+            }
+
+            // 1. Mark as processing
+            resume.setProcessingStatus(ProcessingStatus.PROCESSING);
+            resume = resumeRepository.save(resume);
+
+            // 2. Extract text and detect MIME type using Apache Tika (single read),
+            // within the upload admission budget
+            ExtractedDocument extracted;
+            long fileSize = resume.getFileSize() != null ? resume.getFileSize() : 0;
+            try (UploadAdmission.Permit ignored = uploadAdmission.admit(fileSize)) {
+                extracted = tikaExtractor.extract(uploadedFile, resume.getFileName());
+            } catch (TooManyRequestsException e) {
+                markFailed(resume, e.getMessage());
+                return;
+            } catch (IOException e) {
+                markFailed(resume, "Error reading file: " + e.getMessage());
+                return;
+            } catch (TikaException e) {
+                markFailed(resume, "Text extraction failed: " + e.getMessage());
+                return;
+            }
+            String extractedText = extracted.getText();
+            if (extractedText.isEmpty()) {
+                markFailed(resume, "Failed to extract text from file. File may be empty or corrupted.");
+                return;
+            }
+
+            // 3. Persist the text and detected MIME type
+            if (extracted.getMimeType() != null) {
+                resume.setFileType(extracted.getMimeType());
+            }
+            resume.setExtractedText(extractedText);
+            resume.setTextTruncated(extracted.isTruncated());
+            resume = resumeRepository.save(resume);
+
+            // 4. Parse structured data; on failure the resume stays out of ranking
+            // (FAILED) and the parse is queued for retry, which completes it
+            try {
+                resume = resumeParserService.parseResume(resumeId);
+            } catch (RuntimeException e) {
+                log.warn("Failed to parse resume {}, queued for retry: {}", resumeId, e.getMessage());
+                markFailed(resume, "Parsing failed: " + e.getMessage());
+                parseQueueService.enqueue(resumeId, e.getMessage());
+                return;
+            }
+
+            // 5. Mark as completed (the resume now takes part in ranking)
+            resume.setProcessingStatus(ProcessingStatus.COMPLETED);
+            resumeRepository.save(resume);
+        } catch (RuntimeException e) {
+            log.error("Failed to process resume {}", resumeId, e);
+            resumeRepository.findById(resumeId).ifPresent(resume -> markFailed(resume, e.getMessage()));
+        }
+    }
+
+    private void markFailed(CandidateResume resume, String error) {
+        resume.setProcessingStatus(ProcessingStatus.FAILED);
+        resume.setProcessingError(truncate(error));
+        resumeRepository.save(resume);
+    }
+
+    private String truncate(String error) {
+        if (error == null) {
+            return "Processing failed";
+        }
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+}
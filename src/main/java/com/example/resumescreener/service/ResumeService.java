@@ -1,22 +1,41 @@
 package com.example.resumescreener.service;
 
 import com.example.resumescreener.dto.ResumeResponse;
+import com.example.resumescreener.dto.ResumeStatusResponse;
 import com.example.resumescreener.exception.InvalidFileException;
 import com.example.resumescreener.exception.ParsingException;
 import com.example.resumescreener.exception.ResourceNotFoundException;
 import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.ProcessingStatus;
 import com.example.resumescreener.repository.ResumeRepository;
+import com.example.resumescreener.utils.ContentHasher;
+import com.example.resumescreener.utils.ExtractedDocument;
+import com.example.resumescreener.utils.IngestInputStream;
+import com.example.resumescreener.utils.ResumeFileStore;
 import com.example.resumescreener.utils.TikaExtractor;
 import org.apache.tika.exception.TikaException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Service layer for resume upload and text extraction.
@@ -26,9 +45,15 @@ import java.util.List;
 @Transactional
 public class ResumeService {
 
+    private static final Logger log = LoggerFactory.getLogger(ResumeService.class);
+    private static final int MAX_ERROR_LENGTH = 1000;
+
     private final ResumeRepository resumeRepository;
     private final TikaExtractor tikaExtractor;
     private final ResumeParserService resumeParserService;
+    private final ResumeProcessingService resumeProcessingService;
+    private final ResumeFileStore resumeFileStore;
+    private final ParseQueueService parseQueueService;
 
     @Value("${app.resume.allowed-file-types}")
     private String allowedFileTypes;
@@ -37,78 +62,346 @@ public class ResumeService {
     private long maxFileSizeMB;
 
     @Autowired
-    public ResumeService(ResumeRepository resumeRepository, TikaExtractor tikaExtractor, ResumeParserService resumeParserService) {
+    public ResumeService(ResumeRepository resumeRepository, TikaExtractor tikaExtractor,
+                         ResumeParserService resumeParserService, ResumeProcessingService resumeProcessingService,
+                         ResumeFileStore resumeFileStore, ParseQueueService parseQueueService) {
         this.resumeRepository = resumeRepository;
         this.tikaExtractor = tikaExtractor;
         this.resumeParserService = resumeParserService;
+        this.resumeProcessingService = resumeProcessingService;
+        this.resumeFileStore = resumeFileStore;
+        this.parseQueueService = parseQueueService;
     }
 
     /**
      * Upload and process a resume file.
      * Validates file, extracts text using Apache Tika, and saves to database.
+     * The upload is read once: it is copied to a staging file in the file store and
+     * hashed on the way, then Tika extracts from the staged copy.
+     * A byte-identical earlier upload is returned as a duplicate without running Tika,
+     * unless its processing FAILED, in which case that resume is processed again.
+     * 
+     * Runs without a surrounding transaction: no connection is held while Tika
+     * runs, and a failed parse cannot roll back the saved upload.
      * 
      * @param file Multipart file (PDF, DOCX, DOC)
      * @param candidateName Optional candidate name
-     * @return ResumeResponse with uploaded resume details
+     * @return ResumeResponse with uploaded (or existing, if duplicate) resume details
      * @throws InvalidFileException if file is invalid
      * @throws ParsingException if text extraction fails
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public ResumeResponse uploadResume(MultipartFile file, String candidateName) {
         // Validate file
         validateFile(file);
 
-        // Extract text using Apache Tika
-        String extractedText;
+        // Stage the bytes on disk, hashing them on the way (the only read of the upload)
+        StagedUpload staged = stageUpload(file);
+
+        // Link identical re-uploads to the existing record
+        Optional<CandidateResume> existing = resumeRepository.findByContentHash(staged.contentHash);
+        if (existing.isPresent() && !isReprocessable(existing.get())) {
+            resumeFileStore.discard(staged.file);
+            ResumeResponse response = convertToResponse(linkDuplicate(existing.get(), candidateName));
+            response.setDuplicate(true);
+            return response;
+        }
+
+        // Extract text and detect MIME type using Apache Tika from the staged copy
+        ExtractedDocument extracted;
         try {
-            extractedText = tikaExtractor.extractText(file);
-            if (extractedText == null || extractedText.trim().isEmpty()) {
-                throw new ParsingException("Failed to extract text from file. File may be empty or corrupted.");
-            }
+            extracted = tikaExtractor.extract(staged.file, file.getOriginalFilename());
         } catch (IOException e) {
+            resumeFileStore.discard(staged.file);
             throw new ParsingException("Error reading file: " + e.getMessage(), e);
         } catch (TikaException e) {
+            resumeFileStore.discard(staged.file);
             throw new ParsingException("Text extraction failed: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            resumeFileStore.discard(staged.file);
+            throw e;
         }
 
-        // Detect MIME type
-        String detectedMimeType;
+        String extractedText = extracted.getText();
+        if (extractedText.isEmpty()) {
+            resumeFileStore.discard(staged.file);
+            throw new ParsingException("Failed to extract text from file. File may be empty or corrupted.");
+        }
+        String detectedMimeType = extracted.getMimeType();
+
+        // Keep the original so it can be re-extracted later
         try {
-            detectedMimeType = tikaExtractor.detectMimeType(file);
+            resumeFileStore.commit(staged.file, staged.contentHash);
         } catch (IOException e) {
-            detectedMimeType = file.getContentType();
+            resumeFileStore.discard(staged.file);
+            throw new ParsingException("Error storing file: " + e.getMessage(), e);
         }
 
-        // Create and save resume entity
-        CandidateResume resume = new CandidateResume();
+        // Create and save resume entity (or process the FAILED one again)
+        CandidateResume resume = existing.orElseGet(CandidateResume::new);
         resume.setFileName(file.getOriginalFilename());
         resume.setFileType(detectedMimeType != null ? detectedMimeType : file.getContentType());
         resume.setFileSize(file.getSize());
+        resume.setContentHash(staged.contentHash);
         resume.setExtractedText(extractedText);
-        resume.setCandidateName(candidateName);
+        resume.setTextTruncated(extracted.isTruncated());
+        if (candidateName != null) {
+            resume.setCandidateName(candidateName);
+        }
+        resume.setProcessingStatus(ProcessingStatus.COMPLETED);
+        resume.setProcessingError(null);
+
+        return convertToResponse(saveAndParse(resume));
+    }
+
+    /**
+     * Upload a resume streamed as the raw request body (no multipart).
+     * The body passes through memory once: as Tika reads it, the same bytes are
+     * hashed, counted against the size limit and written to the file store.
+     * The file type is taken from the detected magic bytes.
+     * 
+     * Because hashing happens during extraction, an identical earlier upload is
+     * only recognized afterwards; it is still linked instead of stored twice.
+     * 
+     * Runs without a surrounding transaction: no connection is held while Tika
+     * runs, and a failed parse cannot roll back the saved upload.
+     * 
+     * @param body Request body
+     * @param fileName Original file name
+     * @param contentLength Declared body length (-1 if unknown)
+     * @param candidateName Optional candidate name
+     * @return ResumeResponse with uploaded (or existing, if duplicate) resume details
+     * @throws InvalidFileException if the upload is empty, too large or of a disallowed type
+     * @throws ParsingException if text extraction fails
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResumeResponse uploadResumeStream(InputStream body, String fileName, long contentLength,
+                                             String candidateName) {
+        // Reject oversized uploads up front when the length is declared
+        long maxSizeBytes = getMaxFileSizeBytes();
+        if (contentLength > maxSizeBytes) {
+            throw new InvalidFileException(
+                    "File size exceeds maximum allowed size of %d MB".formatted(maxFileSizeMB)
+            );
+        }
+
+        // Single pass: Tika reads, the ingest stream hashes, limits and stores
+        Path stagingFile;
+        try {
+            stagingFile = resumeFileStore.createStagingFile();
+        } catch (IOException e) {
+            throw new ParsingException("Error storing file: " + e.getMessage(), e);
+        }
+
+        IngestInputStream ingest = null;
+        ExtractedDocument extracted;
+        try (OutputStream stored = Files.newOutputStream(stagingFile)) {
+            ingest = new IngestInputStream(body, stored, maxSizeBytes);
+            extracted = tikaExtractor.extract(ingest, fileName);
+            // Bytes the parser did not need still go to the hash and the stored copy
+            ingest.drain();
+        } catch (IOException | TikaException e) {
+            resumeFileStore.discard(stagingFile);
+            if (ingest != null && ingest.isLimitExceeded()) {
+                throw new InvalidFileException(
+                        "File size exceeds maximum allowed size of %d MB".formatted(maxFileSizeMB)
+                );
+            }
+            if (e instanceof TikaException) {
+                throw new ParsingException("Text extraction failed: " + e.getMessage(), e);
+            }
+            throw new ParsingException("Error reading file: " + e.getMessage(), e);
+        } catch (RuntimeException e) {
+            resumeFileStore.discard(stagingFile);
+            throw e;
+        }
+
+        // Validate what was actually received
+        if (ingest.getByteCount() == 0) {
+            resumeFileStore.discard(stagingFile);
+            throw new InvalidFileException("File is required and cannot be empty");
+        }
+        if (!isAllowedType(extracted.getMimeType())) {
+            resumeFileStore.discard(stagingFile);
+            throw new InvalidFileException(
+                    "File type '%s' is not allowed. Allowed types: %s".formatted(
+                            extracted.getMimeType(), allowedFileTypes)
+            );
+        }
+        if (extracted.getText().isEmpty()) {
+            resumeFileStore.discard(stagingFile);
+            throw new ParsingException("Failed to extract text from file. File may be empty or corrupted.");
+        }
+
+        // Link identical re-uploads to the existing record, unless its processing FAILED
+        String contentHash = ingest.getContentHash();
+        Optional<CandidateResume> existing = resumeRepository.findByContentHash(contentHash);
+        if (existing.isPresent() && !isReprocessable(existing.get())) {
+            resumeFileStore.discard(stagingFile);
+            ResumeResponse response = convertToResponse(linkDuplicate(existing.get(), candidateName));
+            response.setDuplicate(true);
+            return response;
+        }
+
+        // Keep the original under its content hash
+        try {
+            resumeFileStore.commit(stagingFile, contentHash);
+        } catch (IOException e) {
+            resumeFileStore.discard(stagingFile);
+            throw new ParsingException("Error storing file: " + e.getMessage(), e);
+        }
+
+        // Create and save resume entity (or process the FAILED one again)
+        CandidateResume resume = existing.orElseGet(CandidateResume::new);
+        resume.setFileName(fileName);
+        resume.setFileType(extracted.getMimeType());
+        resume.setFileSize(ingest.getByteCount());
+        resume.setContentHash(contentHash);
+        resume.setExtractedText(extracted.getText());
+        resume.setTextTruncated(extracted.isTruncated());
+        if (candidateName != null) {
+            resume.setCandidateName(candidateName);
+        }
+        resume.setProcessingStatus(ProcessingStatus.COMPLETED);
+        resume.setProcessingError(null);
+
+        return convertToResponse(saveAndParse(resume));
+    }
 
+    /**
+     * Save a resume and parse it.
+     * A parsing failure does not fail the upload: the resume is marked FAILED,
+     * which keeps it out of ranking, and the parse is queued for retry.
+     * 
+     * @param resume New resume with extracted text
+     * @return Saved (and, if parsing succeeded, parsed) resume
+     */
+    private CandidateResume saveAndParse(CandidateResume resume) {
         CandidateResume savedResume = resumeRepository.save(resume);
         
         // Automatically parse the resume after upload
         try {
             savedResume = resumeParserService.parseResume(savedResume.getId());
         } catch (Exception e) {
-            // Log error but don't fail the upload
-            // Parsing can be retried later
-            System.err.println("Warning: Failed to parse resume after upload: " + e.getMessage());
+            // Don't fail the upload; the parse work queue retries it with backoff
+            log.warn("Failed to parse resume {} after upload, queued for retry", savedResume.getId(), e);
+            savedResume.setProcessingStatus(ProcessingStatus.FAILED);
+            savedResume.setProcessingError(truncateError("Parsing failed: " + e.getMessage()));
+            savedResume = resumeRepository.save(savedResume);
+            parseQueueService.enqueue(savedResume.getId(), e.getMessage());
         }
         
-        return convertToResponse(savedResume);
+        return savedResume;
+    }
+
+    /**
+     * Upload a resume file for asynchronous processing.
+     * Validates the file, writes its bytes to the file store and stores a PENDING
+     * resume; extraction and parsing then run on the background processing executor.
+     * 
+     * Runs without a surrounding transaction so the resume row is committed
+     * before the background task looks it up.
+     * 
+     * @param file Multipart file (PDF, DOCX, DOC)
+     * @param candidateName Optional candidate name
+     * @return ResumeStatusResponse with the resume ID to poll (the existing resume if duplicate)
+     * @throws InvalidFileException if file is invalid
+     * @throws ParsingException if the upload cannot be stored
+     * @throws TaskRejectedException if the processing queue is full
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResumeStatusResponse submitResume(MultipartFile file, String candidateName) {
+        // Validate file
+        validateFile(file);
+
+        // Stage the bytes on disk so the request does not have to wait for Tika,
+        // hashing them on the way
+        StagedUpload staged = stageUpload(file);
+        Path stagingFile = staged.file;
+        String contentHash = staged.contentHash;
+
+        // Link identical re-uploads to the existing record, unless its processing FAILED
+        Optional<CandidateResume> existing = resumeRepository.findByContentHash(contentHash);
+        if (existing.isPresent() && !isReprocessable(existing.get())) {
+            resumeFileStore.discard(stagingFile);
+            return convertToDuplicateStatusResponse(linkDuplicate(existing.get(), candidateName));
+        }
+
+        // Keep the original; the background task extracts from the stored file
+        Path uploadedFile;
+        try {
+            uploadedFile = resumeFileStore.commit(stagingFile, contentHash);
+        } catch (IOException e) {
+            resumeFileStore.discard(stagingFile);
+            throw new ParsingException("Error storing file: " + e.getMessage(), e);
+        }
+
+        // Create and save a pending resume entity (or queue the FAILED one again)
+        CandidateResume resume = existing.orElseGet(CandidateResume::new);
+        String previousError = resume.getProcessingError();
+        resume.setFileName(file.getOriginalFilename());
+        resume.setFileType(file.getContentType());
+        resume.setFileSize(file.getSize());
+        resume.setContentHash(contentHash);
+        if (candidateName != null) {
+            resume.setCandidateName(candidateName);
+        }
+        resume.setProcessingStatus(ProcessingStatus.PENDING);
+        resume.setProcessingError(null);
+
+        CandidateResume savedResume;
+        try {
+            savedResume = resumeRepository.save(resume);
+        } catch (DataIntegrityViolationException e) {
+            // An identical file was stored concurrently: link to it instead
+            CandidateResume concurrent = resumeRepository.findByContentHash(contentHash).orElseThrow(() -> e);
+            return convertToDuplicateStatusResponse(concurrent);
+        }
+
+        // Hand off to the bounded background pipeline
+        try {
+            resumeProcessingService.processResume(savedResume.getId(), uploadedFile);
+        } catch (TaskRejectedException e) {
+            // Queue is full: withdraw the upload so no resume stays PENDING forever.
+            // The stored original is kept; a retry of the same file reuses it.
+            if (existing.isPresent()) {
+                savedResume.setProcessingStatus(ProcessingStatus.FAILED);
+                savedResume.setProcessingError(previousError);
+                resumeRepository.save(savedResume);
+            } else {
+                resumeRepository.deleteById(savedResume.getId());
+            }
+            throw e;
+        }
+
+        return convertToStatusResponse(savedResume);
+    }
+
+    /**
+     * Get the processing status of a resume.
+     * 
+     * @param id Resume ID
+     * @return ResumeStatusResponse with current status
+     * @throws ResourceNotFoundException if resume not found
+     */
+    @Transactional(readOnly = true)
+    public ResumeStatusResponse getResumeStatus(Long id) {
+        CandidateResume resume = resumeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resume", id));
+        return convertToStatusResponse(resume);
     }
 
     /**
      * Retrieve all resumes.
+     * The extracted text is not loaded for the listing; use
+     * {@link #getResumeById(Long)} to get a single resume with its text.
      * 
-     * @return List of all resumes
+     * @return List of all resumes (without extracted text)
      */
     @Transactional(readOnly = true)
     public List<ResumeResponse> getAllResumes() {
         return resumeRepository.findAll().stream()
-                .map(this::convertToResponse)
+                .map(this::convertToSummaryResponse)
                 .collect(java.util.stream.Collectors.toList());
     }
 
@@ -126,6 +419,139 @@ public class ResumeService {
         return convertToResponse(resume);
     }
 
+    /**
+     * Get the size of a resume's original file, e.g. to budget its re-extraction.
+     * 
+     * @param id Resume ID
+     * @return File size in bytes (the maximum allowed size if unknown)
+     * @throws ResourceNotFoundException if resume not found
+     */
+    @Transactional(readOnly = true)
+    public long getResumeFileSize(Long id) {
+        CandidateResume resume = resumeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resume", id));
+        return resume.getFileSize() != null ? resume.getFileSize() : getMaxFileSizeBytes();
+    }
+
+    /**
+     * Get the maximum allowed size of a single resume file.
+     * 
+     * @return Maximum file size in bytes
+     */
+    public long getMaxFileSizeBytes() {
+        return maxFileSizeMB * 1024 * 1024; // Convert MB to bytes
+    }
+
+    /**
+     * Extract the text of a resume again from its stored original file and re-parse it,
+     * e.g. after extraction has been improved. The database is only read for the
+     * resume's own record; the original is read from the file store. The resume's
+     * stored scores are deleted together with the new parse, so the next ranking
+     * scores the re-extracted text.
+     * 
+     * Runs without a surrounding transaction: no connection is held while Tika
+     * runs, and a failed parse cannot roll back the saved upload.
+     * 
+     * @param id Resume ID
+     * @return ResumeResponse with the re-extracted resume details
+     * @throws ResourceNotFoundException if resume not found
+     * @throws IllegalStateException if the resume is still being processed or its original is not stored
+     * @throws ParsingException if text extraction fails
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResumeResponse reextractResume(Long id) {
+        CandidateResume resume = resumeRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resume", id));
+
+        ProcessingStatus status = resume.getProcessingStatus();
+        if (status == ProcessingStatus.PENDING || status == ProcessingStatus.PROCESSING) {
+            throw new IllegalStateException("Resume %d is still being processed".formatted(id));
+        }
+        String contentHash = resume.getContentHash();
+        if (contentHash == null || !resumeFileStore.contains(contentHash)) {
+            throw new IllegalStateException(
+                    "Original file of resume %d is not stored; upload it again to re-extract".formatted(id));
+        }
+
+        // Extract text from the memory-mapped original
+        ExtractedDocument extracted;
+        try (InputStream original = resumeFileStore.openStream(contentHash)) {
+            extracted = tikaExtractor.extract(original, resume.getFileName());
+        } catch (IOException e) {
+            throw new ParsingException("Error reading file: " + e.getMessage(), e);
+        } catch (TikaException e) {
+            throw new ParsingException("Text extraction failed: " + e.getMessage(), e);
+        }
+        if (extracted.getText().isEmpty()) {
+            throw new ParsingException("Failed to extract text from file. File may be empty or corrupted.");
+        }
+
+        // Replace the text and re-parse
+        if (extracted.getMimeType() != null) {
+            resume.setFileType(extracted.getMimeType());
+        }
+        resume.setExtractedText(extracted.getText());
+        resume.setTextTruncated(extracted.isTruncated());
+        resume.setProcessingStatus(ProcessingStatus.COMPLETED);
+        resume.setProcessingError(null);
+
+        return convertToResponse(saveAndParse(resume));
+    }
+
+    /**
+     * Copy an uploaded file to a staging file in the file store, computing its
+     * SHA-256 content hash as the bytes pass through.
+     * 
+     * @param file Multipart file
+     * @return Staging file and hex content hash; commit or discard the staging file
+     * @throws ParsingException if the file cannot be read or staged
+     */
+    private StagedUpload stageUpload(MultipartFile file) {
+        Path stagingFile;
+        try {
+            stagingFile = resumeFileStore.createStagingFile();
+        } catch (IOException e) {
+            throw new ParsingException("Error storing file: " + e.getMessage(), e);
+        }
+        try {
+            MessageDigest digest = ContentHasher.newDigest();
+            try (InputStream inputStream = new DigestInputStream(file.getInputStream(), digest)) {
+                Files.copy(inputStream, stagingFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+            return new StagedUpload(stagingFile, ContentHasher.toHex(digest.digest()));
+        } catch (IOException e) {
+            resumeFileStore.discard(stagingFile);
+            throw new ParsingException("Error reading file: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Check whether an upload identical to an existing resume should process that
+     * resume again instead of being linked to it as a duplicate.
+     * 
+     * @param existing Resume with the same content hash
+     * @return true if its processing FAILED
+     */
+    private static boolean isReprocessable(CandidateResume existing) {
+        return existing.getProcessingStatus() == ProcessingStatus.FAILED;
+    }
+
+    /**
+     * Link an upload to the identical existing resume, keeping the candidate name
+     * given with the upload.
+     * 
+     * @param existing Resume with the same content hash
+     * @param candidateName Candidate name given with the upload (can be null)
+     * @return The existing resume, saved if its candidate name changed
+     */
+    private CandidateResume linkDuplicate(CandidateResume existing, String candidateName) {
+        if (candidateName == null || candidateName.equals(existing.getCandidateName())) {
+            return existing;
+        }
+        existing.setCandidateName(candidateName);
+        return resumeRepository.save(existing);
+    }
+
     /**
      * Validate uploaded file.
      * 
@@ -138,7 +564,7 @@ public class ResumeService {
         }
 
         // Check file size
-        long maxSizeBytes = maxFileSizeMB * 1024 * 1024; // Convert MB to bytes
+        long maxSizeBytes = getMaxFileSizeBytes();
         if (file.getSize() > maxSizeBytes) {
             throw new InvalidFileException(
                     "File size exceeds maximum allowed size of %d MB".formatted(maxFileSizeMB)
@@ -151,11 +577,7 @@ public class ResumeService {
             throw new InvalidFileException("Cannot determine file type");
         }
 
-        List<String> allowedTypes = Arrays.asList(allowedFileTypes.split(","));
-        boolean isAllowed = allowedTypes.stream()
-                .anyMatch(allowedType -> contentType.equals(allowedType.trim()));
-
-        if (!isAllowed) {
+        if (!isAllowedType(contentType)) {
             throw new InvalidFileException(
                     "File type '%s' is not allowed. Allowed types: %s".formatted(
                             contentType, allowedFileTypes)
@@ -163,6 +585,31 @@ public class ResumeService {
         }
     }
 
+    /**
+     * Check a MIME type against the allowed file types.
+     * 
+     * @param mimeType MIME type to check (can be null)
+     * @return true if allowed
+     */
+    private boolean isAllowedType(String mimeType) {
+        if (mimeType == null) {
+            return false;
+        }
+        List<String> allowedTypes = Arrays.asList(allowedFileTypes.split(","));
+        return allowedTypes.stream()
+                .anyMatch(allowedType -> mimeType.equals(allowedType.trim()));
+    }
+
+    /**
+     * Cut an error message to the length of the processingError column.
+     * 
+     * @param error Error message
+     * @return Error message of at most MAX_ERROR_LENGTH characters
+     */
+    private static String truncateError(String error) {
+        return error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
     /**
      * Convert CandidateResume entity to ResumeResponse DTO.
      * 
@@ -170,13 +617,26 @@ public class ResumeService {
      * @return ResumeResponse DTO
      */
     private ResumeResponse convertToResponse(CandidateResume resume) {
+        ResumeResponse response = convertToSummaryResponse(resume);
+        response.setExtractedText(resume.getExtractedText());
+        return response;
+    }
+
+    /**
+     * Convert CandidateResume entity to ResumeResponse DTO without the extracted text,
+     * so the lazily fetched text is never loaded.
+     * 
+     * @param resume Entity to convert
+     * @return ResumeResponse DTO (extractedText is null)
+     */
+    private ResumeResponse convertToSummaryResponse(CandidateResume resume) {
         ResumeResponse response = new ResumeResponse();
         response.setId(resume.getId());
         response.setCandidateName(resume.getCandidateName());
         response.setFileName(resume.getFileName());
         response.setFileType(resume.getFileType());
         response.setFileSize(resume.getFileSize());
-        response.setExtractedText(resume.getExtractedText());
+        response.setTextTruncated(resume.isTextTruncated());
         response.setParsedSkills(resume.getParsedSkills());
         response.setExperienceYears(resume.getExperienceYears());
         response.setEducationLevel(resume.getEducationLevel());
@@ -184,6 +644,46 @@ public class ResumeService {
         response.setProjectsSummary(resume.getProjectsSummary());
         response.setUploadedAt(resume.getUploadedAt());
         response.setParsedAt(resume.getParsedAt());
+        response.setProcessingStatus(resume.getProcessingStatus() != null ? resume.getProcessingStatus().name() : null);
+        response.setProcessingError(resume.getProcessingError());
+        return response;
+    }
+
+    /**
+     * Convert CandidateResume entity to ResumeStatusResponse DTO.
+     * 
+     * @param resume Entity to convert
+     * @return ResumeStatusResponse DTO
+     */
+    private ResumeStatusResponse convertToStatusResponse(CandidateResume resume) {
+        ResumeStatusResponse response = new ResumeStatusResponse(
+                resume.getId(),
+                resume.getFileName(),
+                resume.getProcessingStatus() != null ? resume.getProcessingStatus().name() : null
+        );
+        response.setError(resume.getProcessingError());
+        response.setUploadedAt(resume.getUploadedAt());
+        response.setParsedAt(resume.getParsedAt());
+        return response;
+    }
+
+    private ResumeStatusResponse convertToDuplicateStatusResponse(CandidateResume resume) {
+        ResumeStatusResponse response = convertToStatusResponse(resume);
+        response.setDuplicate(true);
         return response;
     }
+
+    /**
+     * An upload copied to a staging file, with its content hash.
+     */
+    private static final class StagedUpload {
+
+        private final Path file;
+        private final String contentHash;
+
+        StagedUpload(Path file, String contentHash) {
+            this.file = file;
+            this.contentHash = contentHash;
+        }
+    }
 }
@@ -2,16 +2,22 @@ package com.example.resumescreener.service;
 
 import com.example.resumescreener.model.CandidateResume;
 import com.example.resumescreener.model.JobPost;
+import com.example.resumescreener.utils.CentiPoints;
 import com.example.resumescreener.utils.EducationScorer;
 import com.example.resumescreener.utils.ExperienceScorer;
+import com.example.resumescreener.utils.JobProfile;
+import com.example.resumescreener.utils.MatchResult;
+import com.example.resumescreener.utils.PoolScores;
 import com.example.resumescreener.utils.ProjectScorer;
+import com.example.resumescreener.utils.ScoreVector;
+import com.example.resumescreener.utils.ScoringWeights;
 import com.example.resumescreener.utils.SkillMatcher;
+import com.example.resumescreener.utils.SkillVector;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 /**
  * Service for calculating match scores between resumes and jobs.
@@ -63,10 +69,18 @@ import java.math.RoundingMode;
 @Service
 public class ScoringService {
 
+    // Experience years scored per job up front; larger values are scored on demand
+    private static final int EXPERIENCE_TABLE_SIZE = 64;
+
+    // Project count is capped at 10 by the project scorer
+    private static final int MAX_PROJECT_COUNT = 10;
+
     private final SkillMatcher skillMatcher;
     private final ExperienceScorer experienceScorer;
     private final EducationScorer educationScorer;
     private final ProjectScorer projectScorer;
+    private final CandidateFeatureStore featureStore;
+    private final JobProfileCache jobProfiles;
 
     // BIAS CONTROL: Configurable weights allow organizations to adjust scoring
     // while
@@ -90,11 +104,27 @@ public class ScoringService {
             SkillMatcher skillMatcher,
             ExperienceScorer experienceScorer,
             EducationScorer educationScorer,
-            ProjectScorer projectScorer) {
+            ProjectScorer projectScorer,
+            CandidateFeatureStore featureStore,
+            JobProfileCache jobProfiles) {
         this.skillMatcher = skillMatcher;
         this.experienceScorer = experienceScorer;
         this.educationScorer = educationScorer;
         this.projectScorer = projectScorer;
+        this.featureStore = featureStore;
+        this.jobProfiles = jobProfiles;
+    }
+
+    /**
+     * Get the compiled profile of a job (cached per job version). Callers that
+     * score many resumes against one job can fetch it once and use the
+     * JobProfile overloads.
+     * 
+     * @param job Job posting entity
+     * @return Compiled job profile
+     */
+    public JobProfile getJobProfile(JobPost job) {
+        return jobProfiles.get(job);
     }
 
     /**
@@ -105,13 +135,74 @@ public class ScoringService {
      * @return Skill score (0-100)
      */
     public BigDecimal calculateSkillScore(CandidateResume resume, JobPost job) {
-        String resumeSkills = resume.getParsedSkills();
-        String requiredSkills = job.getRequiredSkills();
+        return CentiPoints.toBigDecimal(calculateSkillPoints(resume, job));
+    }
+
+    /**
+     * Calculate skill match score between resume and job in centi-points.
+     * 
+     * @param resume Resume entity
+     * @param job    Job posting entity
+     * @return Skill score in centi-points (0-10000)
+     */
+    public int calculateSkillPoints(CandidateResume resume, JobPost job) {
+        return calculateSkillPoints(resume, getJobProfile(job));
+    }
+
+    /**
+     * Calculate skill match score between resume and a compiled job in centi-points.
+     * 
+     * @param resume Resume entity
+     * @param job    Compiled job profile
+     * @return Skill score in centi-points (0-10000)
+     */
+    public int calculateSkillPoints(CandidateResume resume, JobProfile job) {
+        double score = skillMatcher.calculateSkillScore(resume.getParsedSkills(), job);
 
-        double score = skillMatcher.calculateSkillScore(resumeSkills, requiredSkills);
+        return CentiPoints.fromDouble(score);
+    }
+
+    /**
+     * Match resume skills against job requirements once, producing the skill
+     * score together with matched and missing skills.
+     * 
+     * @param resume Resume entity
+     * @param job    Job posting entity
+     * @return MatchResult for the pair
+     */
+    public MatchResult matchSkills(CandidateResume resume, JobPost job) {
+        return matchSkills(resume, getJobProfile(job));
+    }
+
+    /**
+     * Match resume skills against a compiled job's requirements.
+     * 
+     * @param resume Resume entity
+     * @param job    Compiled job profile
+     * @return MatchResult for the pair
+     */
+    public MatchResult matchSkills(CandidateResume resume, JobProfile job) {
+        return skillMatcher.match(resume.getParsedSkills(), job);
+    }
+
+    /**
+     * Convert a precomputed match result into a skill score.
+     * 
+     * @param matchResult Result of {@link #matchSkills(CandidateResume, JobPost)}
+     * @return Skill score (0-100)
+     */
+    public BigDecimal calculateSkillScore(MatchResult matchResult) {
+        return CentiPoints.toBigDecimal(calculateSkillPoints(matchResult));
+    }
 
-        return BigDecimal.valueOf(score)
-                .setScale(2, RoundingMode.HALF_UP);
+    /**
+     * Convert a precomputed match result into a skill score in centi-points.
+     * 
+     * @param matchResult Result of {@link #matchSkills(CandidateResume, JobPost)}
+     * @return Skill score in centi-points (0-10000)
+     */
+    public int calculateSkillPoints(MatchResult matchResult) {
+        return CentiPoints.fromDouble(matchResult.getScore());
     }
 
     /**
@@ -122,10 +213,7 @@ public class ScoringService {
      * @return Set of missing skills
      */
     public java.util.Set<String> getMissingSkills(CandidateResume resume, JobPost job) {
-        String resumeSkills = resume.getParsedSkills();
-        String requiredSkills = job.getRequiredSkills();
-
-        return skillMatcher.getMissingSkills(resumeSkills, requiredSkills);
+        return matchSkills(resume, job).getMissingSkills();
     }
 
     /**
@@ -136,10 +224,7 @@ public class ScoringService {
      * @return Set of matched skills
      */
     public java.util.Set<String> getMatchedSkills(CandidateResume resume, JobPost job) {
-        String resumeSkills = resume.getParsedSkills();
-        String requiredSkills = job.getRequiredSkills();
-
-        return skillMatcher.getMatchedSkills(resumeSkills, requiredSkills);
+        return matchSkills(resume, job).getMatchedSkills();
     }
 
     /**
@@ -150,19 +235,29 @@ public class ScoringService {
      * @return Experience score (0-100)
      */
     public BigDecimal calculateExperienceScore(CandidateResume resume, JobPost job) {
-        Integer resumeExperienceYears = resume.getExperienceYears();
-        Integer requiredMinYears = job.getMinExperienceYears();
-        String jobType = job.getJobType();
+        return CentiPoints.toBigDecimal(calculateExperiencePoints(resume, job));
+    }
 
-        // Try to extract job type from resume (could be in projects or experience)
-        // For now, we'll use null as resume job type (can be enhanced later)
-        String resumeJobType = null; // Could be extracted from resume text in future
+    /**
+     * Calculate experience relevance score between resume and job in centi-points.
+     * 
+     * @param resume Resume entity
+     * @param job    Job posting entity
+     * @return Experience score in centi-points (0-10000)
+     */
+    public int calculateExperiencePoints(CandidateResume resume, JobPost job) {
+        return calculateExperiencePoints(resume, getJobProfile(job));
+    }
 
-        return experienceScorer.calculateExperienceScore(
-                resumeExperienceYears,
-                requiredMinYears,
-                jobType,
-                resumeJobType);
+    /**
+     * Calculate experience relevance score between resume and a compiled job in centi-points.
+     * 
+     * @param resume Resume entity
+     * @param job    Compiled job profile
+     * @return Experience score in centi-points (0-10000)
+     */
+    public int calculateExperiencePoints(CandidateResume resume, JobProfile job) {
+        return experiencePoints(resume.getExperienceYears(), job);
     }
 
     /**
@@ -173,16 +268,32 @@ public class ScoringService {
      * @return Education score (0-100)
      */
     public BigDecimal calculateEducationScore(CandidateResume resume, JobPost job) {
-        String resumeEducationLevel = resume.getEducationLevel();
-        String resumeEducationField = resume.getEducationField();
-        String requiredEducationLevel = job.getEducationLevel();
-        String requiredEducationField = null; // Job entity doesn't have education field yet
+        return CentiPoints.toBigDecimal(calculateEducationPoints(resume, job));
+    }
 
-        return educationScorer.calculateEducationScore(
-                resumeEducationLevel,
-                resumeEducationField,
-                requiredEducationLevel,
-                requiredEducationField);
+    /**
+     * Calculate education match score between resume and job in centi-points.
+     * 
+     * @param resume Resume entity
+     * @param job    Job posting entity
+     * @return Education score in centi-points (0-10000)
+     */
+    public int calculateEducationPoints(CandidateResume resume, JobPost job) {
+        return calculateEducationPoints(resume, getJobProfile(job));
+    }
+
+    /**
+     * Calculate education match score between resume and a compiled job in centi-points.
+     * 
+     * @param resume Resume entity
+     * @param job    Compiled job profile
+     * @return Education score in centi-points (0-10000)
+     */
+    public int calculateEducationPoints(CandidateResume resume, JobProfile job) {
+        return educationScorer.calculateEducationPoints(
+                resume.getEducationLevel(),
+                resume.getEducationField(),
+                job);
     }
 
     /**
@@ -193,10 +304,29 @@ public class ScoringService {
      * @return Project score (0-100)
      */
     public BigDecimal calculateProjectScore(CandidateResume resume, JobPost job) {
-        String projectsSummary = resume.getProjectsSummary();
-        String requiredSkills = job.getRequiredSkills();
+        return CentiPoints.toBigDecimal(calculateProjectPoints(resume, job));
+    }
+
+    /**
+     * Calculate project relevance score between resume and job in centi-points.
+     * 
+     * @param resume Resume entity
+     * @param job    Job posting entity
+     * @return Project score in centi-points (0-10000)
+     */
+    public int calculateProjectPoints(CandidateResume resume, JobPost job) {
+        return calculateProjectPoints(resume, getJobProfile(job));
+    }
 
-        return projectScorer.calculateProjectScore(projectsSummary, requiredSkills);
+    /**
+     * Calculate project relevance score between resume and a compiled job in centi-points.
+     * 
+     * @param resume Resume entity
+     * @param job    Compiled job profile
+     * @return Project score in centi-points (0-10000)
+     */
+    public int calculateProjectPoints(CandidateResume resume, JobProfile job) {
+        return projectScorer.calculateProjectPoints(resume.getProjectsSummary(), job);
     }
 
     /**
@@ -219,23 +349,271 @@ public class ScoringService {
      * @return Final weighted score (0-100)
      */
     public BigDecimal calculateFinalScore(CandidateResume resume, JobPost job) {
-        // Calculate individual component scores
-        BigDecimal skillScore = calculateSkillScore(resume, job);
-        BigDecimal experienceScore = calculateExperienceScore(resume, job);
-        BigDecimal educationScore = calculateEducationScore(resume, job);
-        BigDecimal projectScore = calculateProjectScore(resume, job);
+        return score(resume, job).getFinalScore();
+    }
+
+    /**
+     * Score a resume-job pair: each component once, and the final score from them.
+     * 
+     * @param resume Resume entity
+     * @param job    Job posting entity
+     * @return Component and final scores
+     */
+    public ScoreVector score(CandidateResume resume, JobPost job) {
+        return score(resume, getJobProfile(job));
+    }
+
+    /**
+     * Score a resume against a compiled job.
+     * 
+     * @param resume Resume entity
+     * @param job    Compiled job profile
+     * @return Component and final scores
+     */
+    public ScoreVector score(CandidateResume resume, JobProfile job) {
+        return score(calculateSkillPoints(resume, job), resume, job);
+    }
+
+    /**
+     * Score a resume-job pair whose skills were already matched.
+     * 
+     * @param resume      Resume entity
+     * @param job         Job posting entity
+     * @param matchResult Result of {@link #matchSkills(CandidateResume, JobPost)}
+     * @return Component and final scores
+     */
+    public ScoreVector score(CandidateResume resume, JobPost job, MatchResult matchResult) {
+        return score(resume, getJobProfile(job), matchResult);
+    }
+
+    /**
+     * Score a resume against a compiled job whose skills were already matched.
+     * 
+     * @param resume      Resume entity
+     * @param job         Compiled job profile
+     * @param matchResult Result of {@link #matchSkills(CandidateResume, JobProfile)}
+     * @return Component and final scores
+     */
+    public ScoreVector score(CandidateResume resume, JobProfile job, MatchResult matchResult) {
+        return score(calculateSkillPoints(matchResult), resume, job);
+    }
+
+    private ScoreVector score(int skillPoints, CandidateResume resume, JobProfile job) {
+        // Calculate remaining component scores
+        int experiencePoints = calculateExperiencePoints(resume, job);
+        int educationPoints = calculateEducationPoints(resume, job);
+        int projectPoints = calculateProjectPoints(resume, job);
+
+        int finalPoints = calculateFinalPoints(skillPoints, experiencePoints, educationPoints, projectPoints);
+        return new ScoreVector(skillPoints, experiencePoints, educationPoints, projectPoints, finalPoints);
+    }
+
+    /**
+     * Calculate final weighted score from already computed component scores.
+     * 
+     * @param skillScore      Skill score (0-100)
+     * @param experienceScore Experience score (0-100)
+     * @param educationScore  Education score (0-100)
+     * @param projectScore    Project score (0-100)
+     * @return Final weighted score (0-100)
+     */
+    public BigDecimal calculateFinalScore(
+            BigDecimal skillScore,
+            BigDecimal experienceScore,
+            BigDecimal educationScore,
+            BigDecimal projectScore) {
+        double finalScore = weightedScore(
+                skillScore.doubleValue(),
+                experienceScore.doubleValue(),
+                educationScore.doubleValue(),
+                projectScore.doubleValue());
+
+        return CentiPoints.toBigDecimal(CentiPoints.fromDouble(finalScore));
+    }
+
+    /**
+     * Calculate final weighted score from component scores in centi-points.
+     * Equal to {@link #calculateFinalScore(BigDecimal, BigDecimal, BigDecimal, BigDecimal)}
+     * on the same scores, without allocating.
+     * 
+     * @param skillPoints      Skill score in centi-points
+     * @param experiencePoints Experience score in centi-points
+     * @param educationPoints  Education score in centi-points
+     * @param projectPoints    Project score in centi-points
+     * @return Final weighted score in centi-points (0-10000)
+     */
+    public int calculateFinalPoints(int skillPoints, int experiencePoints, int educationPoints, int projectPoints) {
+        return CentiPoints.fromDouble(weightedScore(
+                CentiPoints.toDouble(skillPoints),
+                CentiPoints.toDouble(experiencePoints),
+                CentiPoints.toDouble(educationPoints),
+                CentiPoints.toDouble(projectPoints)));
+    }
+
+    /**
+     * Calculate final weighted score from component scores in centi-points,
+     * with custom weights instead of the configured ones (what-if ranking).
+     * 
+     * @param skillPoints      Skill score in centi-points
+     * @param experiencePoints Experience score in centi-points
+     * @param educationPoints  Education score in centi-points
+     * @param projectPoints    Project score in centi-points
+     * @param weights          Component weights
+     * @return Final weighted score in centi-points (0-10000)
+     */
+    public int calculateFinalPoints(int skillPoints, int experiencePoints, int educationPoints, int projectPoints,
+                                    ScoringWeights weights) {
+        // Calculate weighted sum
+        double finalScore = CentiPoints.toDouble(skillPoints) * weights.getSkillWeight() +
+                CentiPoints.toDouble(experiencePoints) * weights.getExperienceWeight() +
+                CentiPoints.toDouble(educationPoints) * weights.getEducationWeight() +
+                CentiPoints.toDouble(projectPoints) * weights.getProjectWeight();
+
+        // Ensure score is between 0 and 100
+        return CentiPoints.fromDouble(Math.max(0.0, Math.min(100.0, finalScore)));
+    }
+
+    /**
+     * Build weights for a what-if ranking: given weights replace the configured ones.
+     * 
+     * @param skill      Skill weight (null for configured)
+     * @param experience Experience weight (null for configured)
+     * @param education  Education weight (null for configured)
+     * @param project    Project weight (null for configured)
+     * @return Validated weights
+     * @throws IllegalArgumentException if a weight is negative or they do not sum to 1
+     */
+    public ScoringWeights weightsWith(Double skill, Double experience, Double education, Double project) {
+        return new ScoringWeights(
+                skill != null ? skill : skillWeight,
+                experience != null ? experience : experienceWeight,
+                education != null ? education : educationWeight,
+                project != null ? project : projectWeight);
+    }
 
+    /**
+     * Weighted sum of component scores, clamped to 0-100 (not rounded).
+     */
+    private double weightedScore(double skillScore, double experienceScore, double educationScore, double projectScore) {
         // Calculate weighted sum
-        double finalScore = skillScore.doubleValue() * skillWeight +
-                experienceScore.doubleValue() * experienceWeight +
-                educationScore.doubleValue() * educationWeight +
-                projectScore.doubleValue() * projectWeight;
+        double finalScore = skillScore * skillWeight +
+                experienceScore * experienceWeight +
+                educationScore * educationWeight +
+                projectScore * projectWeight;
 
         // Ensure score is between 0 and 100
-        finalScore = Math.max(0.0, Math.min(100.0, finalScore));
+        return Math.max(0.0, Math.min(100.0, finalScore));
+    }
+
+    /**
+     * Score a job against every resume in the candidate feature store in one pass.
+     * Job-side work (the compiled job profile, and scoring every experience
+     * year, education level, project count and skill match count) is done once up
+     * front, so the loop over resumes is table lookups, a bitset AND and the
+     * weighted sum. Scores are identical to the per-resume methods.
+     * 
+     * @param job Job posting entity
+     * @return Scores for the whole pool, or null if the job's required skills
+     *         include terms outside the skill dictionary (score per resume instead)
+     */
+    public PoolScores scorePool(JobPost job) {
+        // 1. Project terms must be in the dictionary the store indexed
+        JobProfile profile = getJobProfile(job);
+        if (!profile.hasProjectTermIds()) {
+            return null;
+        }
+        int[] termIds = new int[profile.getProjectTermCount()];
+        for (int i = 0; i < termIds.length; i++) {
+            termIds[i] = profile.getProjectTermId(i);
+        }
+
+        // 2. Score tables for everything that does not depend on the resume
+        SkillVector requiredSkills = profile.getRequiredSkills();
+        int[] skillTable = new int[requiredSkills.size() + 1];
+        for (int matched = 0; matched < skillTable.length; matched++) {
+            skillTable[matched] = CentiPoints.fromDouble(skillMatcher.calculateSkillScore(matched, requiredSkills.size()));
+        }
+
+        int noExperiencePoints = experiencePoints(null, profile);
+        int[] experienceTable = new int[EXPERIENCE_TABLE_SIZE];
+        for (int years = 0; years < EXPERIENCE_TABLE_SIZE; years++) {
+            experienceTable[years] = experiencePoints(years, profile);
+        }
+
+        int[][] projectTable = new int[MAX_PROJECT_COUNT + 1][termIds.length + 1];
+        for (int count = 0; count <= MAX_PROJECT_COUNT; count++) {
+            for (int matched = 0; matched <= termIds.length; matched++) {
+                projectTable[count][matched] = projectScorer.calculateProjectPoints(count, matched);
+            }
+        }
+
+        // 3. One pass over the columns
+        return featureStore.read(columns -> {
+            // Education levels are a small dictionary; index 0 is "no education"
+            int[] educationTable = new int[columns.educationLevels.size() + 1];
+            educationTable[0] = educationPoints(null, profile);
+            for (int code = 0; code < columns.educationLevels.size(); code++) {
+                educationTable[code + 1] = educationPoints(columns.educationLevels.get(code), profile);
+            }
+
+            PoolScores scores = new PoolScores(columns.size);
+            long[] resumeIds = scores.getResumeIds();
+            int[] skillPoints = scores.getSkillPoints();
+            int[] experiencePoints = scores.getExperiencePoints();
+            int[] educationPoints = scores.getEducationPoints();
+            int[] projectPoints = scores.getProjectPoints();
+            int[] finalPoints = scores.getFinalPoints();
+            long[] projectTerms = columns.projectTerms;
+            int termWords = columns.projectTermWords;
+
+            for (int slot = 0; slot < columns.size; slot++) {
+                int skill = skillTable[columns.skills[slot].countCovered(requiredSkills)];
+
+                int years = columns.experienceYears[slot];
+                int experience;
+                if (years == CandidateFeatureStore.NO_EXPERIENCE) {
+                    experience = noExperiencePoints;
+                } else if (years >= 0 && years < EXPERIENCE_TABLE_SIZE) {
+                    experience = experienceTable[years];
+                } else {
+                    experience = experiencePoints(years, profile);
+                }
+
+                int education = educationTable[columns.educationCodes[slot] + 1];
+
+                int projectCount = columns.projectCounts[slot];
+                int project = 0;
+                if (projectCount != CandidateFeatureStore.NO_PROJECTS) {
+                    int base = slot * termWords;
+                    int matched = 0;
+                    for (int termId : termIds) {
+                        if ((projectTerms[base + (termId >>> 6)] & (1L << termId)) != 0) {
+                            matched++;
+                        }
+                    }
+                    project = projectTable[projectCount][matched];
+                }
+
+                resumeIds[slot] = columns.resumeIds[slot];
+                skillPoints[slot] = skill;
+                experiencePoints[slot] = experience;
+                educationPoints[slot] = education;
+                projectPoints[slot] = project;
+                finalPoints[slot] = calculateFinalPoints(skill, experience, education, project);
+            }
+            return scores;
+        });
+    }
+
+    private int experiencePoints(Integer years, JobProfile job) {
+        // Try to extract job type from resume (could be in projects or experience)
+        // For now, we'll use null as resume job type (can be enhanced later)
+        return experienceScorer.calculateExperiencePoints(years, job, null);
+    }
 
-        return BigDecimal.valueOf(finalScore)
-                .setScale(2, RoundingMode.HALF_UP);
+    private int educationPoints(String educationLevel, JobProfile job) {
+        // Resume education field does not affect the score while jobs have no field
+        return educationScorer.calculateEducationPoints(educationLevel, null, job);
     }
 
     // Getters for weights (used in final score calculation)
@@ -0,0 +1,86 @@
+package com.example.resumescreener.utils;
+
+import org.xml.sax.Attributes;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+/**
+ * SAX content handler that collects document text within an extraction budget.
+ * Stops the parse as soon as the character or page limit is exceeded, so a huge
+ * document costs no more memory and CPU than the budget allows. The text read
+ * up to that point is kept and the result is marked as truncated.
+ *
+ * Pages are counted from the {@code <div class="page">} elements Tika emits for
+ * paginated formats (e.g. PDF); formats without pages are only bounded by the
+ * character limit.
+ */
+public class BoundedTextHandler extends DefaultHandler {
+
+    private final int maxCharacters;
+    private final int maxPages;
+    private final StringBuilder text = new StringBuilder();
+
+    private int pages;
+    private boolean truncated;
+
+    /**
+     * @param maxCharacters Maximum number of characters to keep (0 or less for no limit)
+     * @param maxPages Maximum number of pages to read (0 or less for no limit)
+     */
+    public BoundedTextHandler(int maxCharacters, int maxPages) {
+        this.maxCharacters = maxCharacters;
+        this.maxPages = maxPages;
+    }
+
+    @Override
+    public void startElement(String uri, String localName, String qName, Attributes attributes)
+            throws SAXException {
+        if ("div".equals(localName) && "page".equals(attributes.getValue("class"))) {
+            pages++;
+            if (maxPages > 0 && pages > maxPages) {
+                stop();
+            }
+        }
+    }
+
+    @Override
+    public void characters(char[] ch, int start, int length) throws SAXException {
+        append(ch, start, length);
+    }
+
+    @Override
+    public void ignorableWhitespace(char[] ch, int start, int length) throws SAXException {
+        append(ch, start, length);
+    }
+
+    private void append(char[] ch, int start, int length) throws SAXException {
+        if (truncated) {
+            stop();
+        }
+        if (maxCharacters > 0 && text.length() + length > maxCharacters) {
+            text.append(ch, start, maxCharacters - text.length());
+            stop();
+        }
+        text.append(ch, start, length);
+    }
+
+    private void stop() throws SAXException {
+        truncated = true;
+        throw new SAXException("Extraction limit reached");
+    }
+
+    /**
+     * @return true if the parse was stopped by the character or page limit
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+
+    /**
+     * @return Text collected so far
+     */
+    @Override
+    public String toString() {
+        return text.toString();
+    }
+}
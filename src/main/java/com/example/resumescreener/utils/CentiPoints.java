@@ -0,0 +1,80 @@
+package com.example.resumescreener.utils;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * Scores as int centi-points: hundredths of a point, 0-10000 for 0-100.
+ * The scoring core works in centi-points so that scoring a pair allocates
+ * nothing; scores become BigDecimal (scale 2) only when they are stored or
+ * returned.
+ *
+ * Rounding is identical to {@code BigDecimal.valueOf(score).setScale(2, HALF_UP)},
+ * which rounds the shortest decimal representation of the double (so 1.005
+ * rounds up to 1.01, although the double is slightly below 1.005).
+ */
+public final class CentiPoints {
+
+    public static final int MAX = 10000;
+
+    private CentiPoints() {
+    }
+
+    /**
+     * Round a score to centi-points, HALF_UP on its decimal representation.
+     *
+     * @param score Finite score, 0-100 in practice
+     * @return Score in centi-points
+     */
+    public static int fromDouble(double score) {
+        if (score < 0) {
+            // HALF_UP rounds away from zero
+            return -fromDouble(-score);
+        }
+
+        // The rounded result is the n with h(n - 1) <= score < h(n), where h(n)
+        // is the double nearest to the midpoint (n + 0.5) / 100. A score equal
+        // to h(n) prints as that midpoint, and the midpoint rounds up.
+        int points = (int) Math.round(score * 100.0);
+        while (score >= midpoint(points)) {
+            points++;
+        }
+        while (points > 0 && score < midpoint(points - 1)) {
+            points--;
+        }
+        return points;
+    }
+
+    /**
+     * Double nearest to (points + 0.5) / 100 (division is correctly rounded).
+     */
+    private static double midpoint(int points) {
+        return (2.0 * points + 1.0) / 200.0;
+    }
+
+    /**
+     * @param points Score in centi-points
+     * @return Score as a double, equal to {@code toBigDecimal(points).doubleValue()}
+     */
+    public static double toDouble(int points) {
+        return points / 100.0;
+    }
+
+    /**
+     * Convert a stored score (scale 2) back to centi-points.
+     *
+     * @param score Score, e.g. from a ResumeScore column
+     * @return Score in centi-points (HALF_UP if the score has more decimals)
+     */
+    public static int fromBigDecimal(BigDecimal score) {
+        return score.setScale(2, RoundingMode.HALF_UP).unscaledValue().intValueExact();
+    }
+
+    /**
+     * @param points Score in centi-points
+     * @return Score as a BigDecimal with scale 2
+     */
+    public static BigDecimal toBigDecimal(int points) {
+        return BigDecimal.valueOf(points, 2);
+    }
+}
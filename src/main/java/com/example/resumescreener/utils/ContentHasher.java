@@ -0,0 +1,71 @@
+package com.example.resumescreener.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 content hashing for uploaded files.
+ * The hash identifies byte-identical uploads, so a re-uploaded resume can be
+ * linked to its earlier record instead of being extracted and parsed again.
+ */
+public final class ContentHasher {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int BUFFER_SIZE = 8192;
+
+    private ContentHasher() {
+    }
+
+    /**
+     * Create a digest for hashing while a stream is consumed
+     * (e.g. wrapped in a {@link java.security.DigestInputStream}).
+     *
+     * @return New SHA-256 MessageDigest
+     */
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Hash a stream to its end. The stream is not closed.
+     *
+     * @param inputStream Content to hash
+     * @return Lowercase hex SHA-256 (64 characters)
+     * @throws IOException if stream reading fails
+     */
+    public static String sha256Hex(InputStream inputStream) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            digest.update(buffer, 0, read);
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Hash a byte array.
+     *
+     * @param content Content to hash
+     * @return Lowercase hex SHA-256 (64 characters)
+     */
+    public static String sha256Hex(byte[] content) {
+        return toHex(newDigest().digest(content));
+    }
+
+    /**
+     * @param hash Digest bytes
+     * @return Lowercase hex string
+     */
+    public static String toHex(byte[] hash) {
+        return HexFormat.of().formatHex(hash);
+    }
+}
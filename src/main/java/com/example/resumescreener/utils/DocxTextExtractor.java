@@ -0,0 +1,202 @@
+package com.example.resumescreener.utils;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Enumeration;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+/**
+ * Streaming text extractor for DOCX files.
+ * Reads the WordprocessingML parts straight from the zip with StAX and keeps
+ * only the text runs, without building the POI object model that the Tika
+ * OOXML parser creates. Headers come first, then the body, then footnotes,
+ * endnotes and footers, following the order Tika uses.
+ *
+ * Documents this reader does not handle faithfully (embedded alt-chunks, or
+ * no main document part) are rejected with an IOException so the caller can
+ * fall back to Tika. Instances are stateless and thread-safe.
+ */
+public final class DocxTextExtractor {
+
+    public static final String DOCX_MIME_TYPE =
+            "application/vnd.openxmlformats-officedocument.wordprocessingml.document";
+
+    private static final String WORDML_NAMESPACE = "http://schemas.openxmlformats.org/wordprocessingml/2006/main";
+    private static final String MARKUP_COMPATIBILITY_NAMESPACE =
+            "http://schemas.openxmlformats.org/markup-compatibility/2006";
+
+    private static final String MAIN_DOCUMENT_PART = "word/document.xml";
+    private static final Pattern HEADER_PART = Pattern.compile("word/header\\d*\\.xml");
+    private static final Pattern FOOTER_PART = Pattern.compile("word/footer\\d*\\.xml");
+    private static final String[] NOTE_PARTS = {"word/footnotes.xml", "word/endnotes.xml"};
+
+    private static final XMLInputFactory XML_INPUT_FACTORY = createInputFactory();
+
+    /**
+     * Extract the text of a DOCX file.
+     *
+     * @param docx Path to the DOCX file
+     * @param maxCharacters Maximum number of characters to keep (0 or less for no limit)
+     * @return Extracted text (trimmed) with the DOCX MIME type
+     * @throws IOException if the file cannot be read or is not handled by this reader
+     */
+    public ExtractedDocument extract(Path docx, int maxCharacters) throws IOException {
+        try (ZipFile zip = new ZipFile(docx.toFile())) {
+            ZipEntry mainPart = zip.getEntry(MAIN_DOCUMENT_PART);
+            if (mainPart == null) {
+                throw new IOException("No main document part");
+            }
+
+            List<ZipEntry> headers = new ArrayList<>();
+            List<ZipEntry> footers = new ArrayList<>();
+            Enumeration<? extends ZipEntry> entries = zip.entries();
+            while (entries.hasMoreElements()) {
+                ZipEntry entry = entries.nextElement();
+                if (HEADER_PART.matcher(entry.getName()).matches()) {
+                    headers.add(entry);
+                } else if (FOOTER_PART.matcher(entry.getName()).matches()) {
+                    footers.add(entry);
+                }
+            }
+
+            TextCollector text = new TextCollector(maxCharacters);
+            try {
+                for (ZipEntry header : headers) {
+                    readPart(zip, header, text);
+                }
+                readPart(zip, mainPart, text);
+                for (String notePart : NOTE_PARTS) {
+                    ZipEntry notes = zip.getEntry(notePart);
+                    if (notes != null) {
+                        readPart(zip, notes, text);
+                    }
+                }
+                for (ZipEntry footer : footers) {
+                    readPart(zip, footer, text);
+                }
+            } catch (LimitReachedException e) {
+                // Budget exhausted: keep the text read so far
+            }
+
+            return new ExtractedDocument(text.toString().trim(), DOCX_MIME_TYPE, text.isTruncated());
+        } catch (XMLStreamException e) {
+            throw new IOException("Malformed DOCX part: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Stream one WordprocessingML part into the collector.
+     */
+    private void readPart(ZipFile zip, ZipEntry part, TextCollector text)
+            throws IOException, XMLStreamException, LimitReachedException {
+        try (InputStream inputStream = zip.getInputStream(part)) {
+            XMLStreamReader reader = XML_INPUT_FACTORY.createXMLStreamReader(inputStream);
+            try {
+                boolean inText = false;
+                // Depth inside mc:Fallback, whose content duplicates the mc:Choice branch
+                int fallbackDepth = 0;
+
+                while (reader.hasNext()) {
+                    int event = reader.next();
+                    if (event == XMLStreamConstants.START_ELEMENT) {
+                        String namespace = reader.getNamespaceURI();
+                        String name = reader.getLocalName();
+                        if (MARKUP_COMPATIBILITY_NAMESPACE.equals(namespace) && "Fallback".equals(name)) {
+                            fallbackDepth++;
+                        } else if (fallbackDepth == 0 && WORDML_NAMESPACE.equals(namespace)) {
+                            switch (name) {
+                                case "t" -> inText = true;
+                                case "tab" -> text.append("\t");
+                                case "br", "cr" -> text.append("\n");
+                                // Tika indents table cells with a leading tab
+                                case "tc" -> text.append("\t");
+                                case "altChunk" -> throw new IOException("Embedded alt-chunk content");
+                                default -> {
+                                }
+                            }
+                        }
+                    } else if (event == XMLStreamConstants.END_ELEMENT) {
+                        String namespace = reader.getNamespaceURI();
+                        String name = reader.getLocalName();
+                        if (MARKUP_COMPATIBILITY_NAMESPACE.equals(namespace) && "Fallback".equals(name)) {
+                            fallbackDepth--;
+                        } else if (fallbackDepth == 0 && WORDML_NAMESPACE.equals(namespace)) {
+                            switch (name) {
+                                case "t" -> inText = false;
+                                case "p" -> text.append("\n");
+                                default -> {
+                                }
+                            }
+                        }
+                    } else if (inText && fallbackDepth == 0
+                            && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA
+                            || event == XMLStreamConstants.SPACE)) {
+                        text.append(reader.getText());
+                    }
+                }
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    private static XMLInputFactory createInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // Document parts never need DTDs or external entities; refuse them (XXE)
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * Text buffer with a character budget.
+     */
+    private static final class TextCollector {
+
+        private final int maxCharacters;
+        private final StringBuilder text = new StringBuilder();
+        private boolean truncated;
+
+        TextCollector(int maxCharacters) {
+            this.maxCharacters = maxCharacters;
+        }
+
+        void append(String chunk) throws LimitReachedException {
+            if (maxCharacters > 0 && text.length() + chunk.length() > maxCharacters) {
+                text.append(chunk, 0, maxCharacters - text.length());
+                truncated = true;
+                throw new LimitReachedException();
+            }
+            text.append(chunk);
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
+    /**
+     * Signals that the character budget is exhausted.
+     */
+    private static final class LimitReachedException extends Exception {
+
+        LimitReachedException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -3,7 +3,6 @@ package com.example.resumescreener.utils;
 import org.springframework.stereotype.Component;
 
 import java.util.*;
-import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 /**
@@ -65,22 +64,31 @@ public class EducationExtractor {
      * @return Education level (PhD, Master, Bachelor, etc.) or null
      */
     public String extractEducationLevel(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        return extractEducationLevel(ResumeDocument.parse(text));
+    }
+
+    /**
+     * Extract education level from an already normalized resume document.
+     * 
+     * @param document Normalized and segmented resume
+     * @return Education level (PhD, Master, Bachelor, etc.) or null
+     */
+    public String extractEducationLevel(ResumeDocument document) {
+        if (document.isEmpty()) {
             return null;
         }
 
-        String normalizedText = normalizeText(text);
         String highestLevel = null;
 
         // Check for education section first
-        String educationSection = extractEducationSection(normalizedText);
+        String educationSection = document.getLowerSection(ResumeDocument.Section.EDUCATION);
         if (educationSection != null) {
             highestLevel = findEducationLevel(educationSection);
         }
 
         // If not found in section, search entire text
         if (highestLevel == null) {
-            highestLevel = findEducationLevel(normalizedText);
+            highestLevel = findEducationLevel(document.getLowerText());
         }
 
         return highestLevel;
@@ -93,22 +101,31 @@ public class EducationExtractor {
      * @return Education field or null
      */
     public String extractEducationField(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        return extractEducationField(ResumeDocument.parse(text));
+    }
+
+    /**
+     * Extract education field from an already normalized resume document.
+     * 
+     * @param document Normalized and segmented resume
+     * @return Education field or null
+     */
+    public String extractEducationField(ResumeDocument document) {
+        if (document.isEmpty()) {
             return null;
         }
 
-        String normalizedText = normalizeText(text);
         String field = null;
 
         // Check education section first
-        String educationSection = extractEducationSection(normalizedText);
+        String educationSection = document.getLowerSection(ResumeDocument.Section.EDUCATION);
         if (educationSection != null) {
             field = findEducationField(educationSection);
         }
 
         // If not found, search entire text
         if (field == null) {
-            field = findEducationField(normalizedText);
+            field = findEducationField(document.getLowerText());
         }
 
         return field;
@@ -163,44 +180,6 @@ public class EducationExtractor {
         return null;
     }
 
-    /**
-     * Extract education section from resume text.
-     * 
-     * @param text Normalized resume text
-     * @return Education section text or null
-     */
-    private String extractEducationSection(String text) {
-        Pattern educationSectionPattern = Pattern.compile(
-                "(?i)(?:education|academic\\s+background|qualifications)[:;]?\\s*([^\\n]+(?:\\n[^\\n]+)*?)(?=\\n\\n|\\n[A-Z]|$)",
-                Pattern.MULTILINE
-        );
-
-        Matcher matcher = educationSectionPattern.matcher(text);
-        if (matcher.find()) {
-            return matcher.group(1);
-        }
-
-        return null;
-    }
-
-    /**
-     * Normalize text for better matching.
-     * 
-     * @param text Original text
-     * @return Normalized text
-     */
-    private String normalizeText(String text) {
-        if (text == null) {
-            return "";
-        }
-        
-        String normalized = text.toLowerCase();
-        normalized = normalized.replaceAll("\\s+", " ");
-        normalized = normalized.replaceAll("\\n+", "\n");
-        
-        return normalized;
-    }
-
     /**
      * Capitalize words in a string.
      * 
@@ -3,7 +3,6 @@ package com.example.resumescreener.utils;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -49,19 +48,73 @@ public class EducationScorer {
             String resumeEducationField,
             String requiredEducationLevel,
             String requiredEducationField) {
+        return CentiPoints.toBigDecimal(calculateEducationPoints(
+                resumeEducationLevel, resumeEducationField, requiredEducationLevel, requiredEducationField));
+    }
+
+    /**
+     * Calculate education match score in centi-points (0-10000).
+     * 
+     * @param resumeEducationLevel Education level from resume (can be null)
+     * @param resumeEducationField Education field from resume (can be null)
+     * @param requiredEducationLevel Required education level from job (can be null)
+     * @param requiredEducationField Required education field from job (can be null)
+     * @return Education score in centi-points
+     */
+    public int calculateEducationPoints(
+            String resumeEducationLevel,
+            String resumeEducationField,
+            String requiredEducationLevel,
+            String requiredEducationField) {
 
         // If no requirement, consider it a match
         if (requiredEducationLevel == null || requiredEducationLevel.trim().isEmpty()) {
-            return BigDecimal.valueOf(100.0);
+            return CentiPoints.MAX;
+        }
+
+        String normalizedRequired = normalizeLevel(requiredEducationLevel);
+        return calculatePoints(resumeEducationLevel, resumeEducationField,
+                normalizedRequired, levelRank(normalizedRequired), requiredEducationField);
+    }
+
+    /**
+     * Calculate education match score in centi-points against a compiled job,
+     * whose education level is already normalized and ranked.
+     * 
+     * @param resumeEducationLevel Education level from resume (can be null)
+     * @param resumeEducationField Education field from resume (can be null)
+     * @param job Compiled job profile
+     * @return Education score in centi-points
+     */
+    public int calculateEducationPoints(String resumeEducationLevel, String resumeEducationField, JobProfile job) {
+        // If no requirement, consider it a match
+        if (job.getEducationLevel() == null) {
+            return CentiPoints.MAX;
         }
 
+        // Job entity doesn't have education field yet
+        return calculatePoints(resumeEducationLevel, resumeEducationField,
+                job.getEducationLevel(), job.getEducationRank(), null);
+    }
+
+    /**
+     * @param normalizedRequired Normalized required education level (not blank)
+     * @param requiredRank Rank of the required level, null if not recognized
+     */
+    private int calculatePoints(
+            String resumeEducationLevel,
+            String resumeEducationField,
+            String normalizedRequired,
+            Integer requiredRank,
+            String requiredEducationField) {
+
         // If no education in resume, return 0
         if (resumeEducationLevel == null || resumeEducationLevel.trim().isEmpty()) {
-            return BigDecimal.ZERO;
+            return 0;
         }
 
         // Calculate level match score
-        double levelScore = calculateLevelScore(resumeEducationLevel, requiredEducationLevel);
+        double levelScore = calculateLevelScore(resumeEducationLevel, normalizedRequired, requiredRank);
 
         // Calculate field relevance bonus
         double fieldBonus = calculateFieldBonus(resumeEducationField, requiredEducationField);
@@ -73,23 +126,21 @@ public class EducationScorer {
         // Ensure score is between 0 and 100
         totalScore = Math.max(0.0, Math.min(100.0, totalScore));
 
-        return BigDecimal.valueOf(totalScore)
-                .setScale(2, RoundingMode.HALF_UP);
+        return CentiPoints.fromDouble(totalScore);
     }
 
     /**
      * Calculate score based on education level match.
      * 
      * @param resumeLevel Education level from resume
-     * @param requiredLevel Required education level
+     * @param normalizedRequired Normalized required education level
+     * @param requiredRank Rank of the required level, null if not recognized
      * @return Level match score (0-100)
      */
-    private double calculateLevelScore(String resumeLevel, String requiredLevel) {
+    private double calculateLevelScore(String resumeLevel, String normalizedRequired, Integer requiredRank) {
         String normalizedResume = normalizeLevel(resumeLevel);
-        String normalizedRequired = normalizeLevel(requiredLevel);
 
-        Integer resumeRank = EDUCATION_HIERARCHY.get(normalizedResume);
-        Integer requiredRank = EDUCATION_HIERARCHY.get(normalizedRequired);
+        Integer resumeRank = levelRank(normalizedResume);
 
         // If levels not recognized, return 50 (neutral)
         if (resumeRank == null || requiredRank == null) {
@@ -188,10 +239,20 @@ public class EducationScorer {
         return false;
     }
 
+    /**
+     * Get the rank of a normalized education level in the hierarchy.
+     * 
+     * @param normalizedLevel Level from {@link #normalizeLevel(String)}
+     * @return Rank (higher = higher level), or null if not recognized
+     */
+    public Integer levelRank(String normalizedLevel) {
+        return EDUCATION_HIERARCHY.get(normalizedLevel);
+    }
+
     /**
      * Normalize education level for comparison.
      */
-    private String normalizeLevel(String level) {
+    public String normalizeLevel(String level) {
         if (level == null) {
             return "";
         }
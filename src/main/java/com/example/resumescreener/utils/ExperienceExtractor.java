@@ -31,6 +31,10 @@ public class ExperienceExtractor {
             Pattern.compile("(\\d{4})\\s*[-–]\\s*(\\d{4})", Pattern.CASE_INSENSITIVE)
     );
 
+    // Date ranges inside the experience section, open-ended ranges included
+    private static final Pattern DATE_RANGE_PATTERN =
+            Pattern.compile("(\\d{4})\\s*[-–]\\s*(\\d{4}|present|current)", Pattern.CASE_INSENSITIVE);
+
     /**
      * Extract years of experience from resume text.
      * 
@@ -38,11 +42,21 @@ public class ExperienceExtractor {
      * @return Integer representing years of experience, or null if not found
      */
     public Integer extractExperienceYears(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        return extractExperienceYears(ResumeDocument.parse(text));
+    }
+
+    /**
+     * Extract years of experience from an already normalized resume document.
+     * 
+     * @param document Normalized and segmented resume
+     * @return Integer representing years of experience, or null if not found
+     */
+    public Integer extractExperienceYears(ResumeDocument document) {
+        if (document.isEmpty()) {
             return null;
         }
 
-        String normalizedText = normalizeText(text);
+        String normalizedText = document.getText();
         List<Integer> foundYears = new ArrayList<>();
 
         // Try each pattern
@@ -78,7 +92,8 @@ public class ExperienceExtractor {
         }
 
         // Also try to extract from experience section
-        Integer sectionYears = extractFromExperienceSection(normalizedText);
+        Integer sectionYears = extractFromExperienceSection(
+                document.getSection(ResumeDocument.Section.EXPERIENCE));
         if (sectionYears != null) {
             foundYears.add(sectionYears);
         }
@@ -94,70 +109,44 @@ public class ExperienceExtractor {
     /**
      * Extract experience from dedicated "Experience" or "Work Experience" section.
      * 
-     * @param text Normalized resume text
+     * @param experienceSection Experience section content (can be null)
      * @return Years of experience or null
      */
-    private Integer extractFromExperienceSection(String text) {
-        // Find experience section
-        Pattern experienceSectionPattern = Pattern.compile(
-                "(?i)(?:work\\s+)?experience[:]?\\s*([^\\n]+(?:\\n[^\\n]+)*?)(?=\\n\\n|\\n[A-Z]|$)",
-                Pattern.MULTILINE
-        );
-
-        Matcher sectionMatcher = experienceSectionPattern.matcher(text);
-        if (sectionMatcher.find()) {
-            String experienceSection = sectionMatcher.group(1);
-            
-            // Look for date ranges in the section
-            Pattern dateRangePattern = Pattern.compile("(\\d{4})\\s*[-–]\\s*(\\d{4}|present|current)", Pattern.CASE_INSENSITIVE);
-            Matcher dateMatcher = dateRangePattern.matcher(experienceSection);
-            
-            List<Integer> durations = new ArrayList<>();
-            while (dateMatcher.find()) {
-                try {
-                    int startYear = Integer.parseInt(dateMatcher.group(1));
-                    String endStr = dateMatcher.group(2).toLowerCase();
-                    
-                    int endYear;
-                    if (endStr.equals("present") || endStr.equals("current")) {
-                        endYear = Calendar.getInstance().get(Calendar.YEAR);
-                    } else {
-                        endYear = Integer.parseInt(endStr);
-                    }
-                    
-                    int years = endYear - startYear;
-                    if (years >= 0 && years <= 50) {
-                        durations.add(years);
-                    }
-                } catch (NumberFormatException e) {
-                    // Skip invalid dates
+    private Integer extractFromExperienceSection(String experienceSection) {
+        if (experienceSection == null) {
+            return null;
+        }
+
+        // Look for date ranges in the section
+        Matcher dateMatcher = DATE_RANGE_PATTERN.matcher(experienceSection);
+
+        List<Integer> durations = new ArrayList<>();
+        while (dateMatcher.find()) {
+            try {
+                int startYear = Integer.parseInt(dateMatcher.group(1));
+                String endStr = dateMatcher.group(2).toLowerCase();
+
+                int endYear;
+                if (endStr.equals("present") || endStr.equals("current")) {
+                    endYear = Calendar.getInstance().get(Calendar.YEAR);
+                } else {
+                    endYear = Integer.parseInt(endStr);
                 }
-            }
-            
-            // Sum up all durations (total experience)
-            if (!durations.isEmpty()) {
-                return durations.stream().mapToInt(Integer::intValue).sum();
+
+                int years = endYear - startYear;
+                if (years >= 0 && years <= 50) {
+                    durations.add(years);
+                }
+            } catch (NumberFormatException e) {
+                // Skip invalid dates
             }
         }
 
-        return null;
-    }
-
-    /**
-     * Normalize text for better pattern matching.
-     * 
-     * @param text Original text
-     * @return Normalized text
-     */
-    private String normalizeText(String text) {
-        if (text == null) {
-            return "";
+        // Sum up all durations (total experience)
+        if (!durations.isEmpty()) {
+            return durations.stream().mapToInt(Integer::intValue).sum();
         }
-        
-        // Replace common variations
-        String normalized = text.replaceAll("\\s+", " "); // Multiple spaces to single
-        normalized = normalized.replaceAll("\\n+", "\n"); // Multiple newlines to single
-        
-        return normalized;
+
+        return null;
     }
 }
@@ -3,7 +3,6 @@ package com.example.resumescreener.utils;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 
 /**
  * Utility class for calculating experience relevance score.
@@ -40,22 +39,65 @@ public class ExperienceScorer {
             Integer requiredMinYears,
             String jobType,
             String resumeJobType) {
+        return CentiPoints.toBigDecimal(calculateExperiencePoints(
+                resumeExperienceYears, requiredMinYears, jobType, resumeJobType));
+    }
+
+    /**
+     * Calculate experience relevance score in centi-points (0-10000).
+     * 
+     * @param resumeExperienceYears Years of experience from resume (can be null)
+     * @param requiredMinYears Minimum years required by job
+     * @param jobType Job type (backend, frontend, fullstack, etc.) - optional
+     * @param resumeJobType Job type from resume (if extracted) - optional
+     * @return Experience score in centi-points
+     */
+    public int calculateExperiencePoints(
+            Integer resumeExperienceYears,
+            Integer requiredMinYears,
+            String jobType,
+            String resumeJobType) {
+        String normalizedJobType = jobType == null || jobType.trim().isEmpty() ? null : normalizeJobType(jobType);
+        return calculatePoints(resumeExperienceYears, requiredMinYears, normalizedJobType, resumeJobType);
+    }
+
+    /**
+     * Calculate experience relevance score in centi-points against a compiled
+     * job, whose job type is already normalized.
+     * 
+     * @param resumeExperienceYears Years of experience from resume (can be null)
+     * @param job Compiled job profile
+     * @param resumeJobType Job type from resume (if extracted) - optional
+     * @return Experience score in centi-points
+     */
+    public int calculateExperiencePoints(Integer resumeExperienceYears, JobProfile job, String resumeJobType) {
+        return calculatePoints(resumeExperienceYears, job.getMinExperienceYears(), job.getJobType(), resumeJobType);
+    }
+
+    /**
+     * @param normalizedJobType Normalized job type from job posting, null if none
+     */
+    private int calculatePoints(
+            Integer resumeExperienceYears,
+            Integer requiredMinYears,
+            String normalizedJobType,
+            String resumeJobType) {
 
         // If no experience data in resume, return 0
         if (resumeExperienceYears == null) {
-            return BigDecimal.ZERO;
+            return 0;
         }
 
         // If no requirement, consider it a match (return 100)
         if (requiredMinYears == null || requiredMinYears <= 0) {
-            return BigDecimal.valueOf(100.0);
+            return CentiPoints.MAX;
         }
 
         // Calculate years match score
         double yearsScore = calculateYearsMatchScore(resumeExperienceYears, requiredMinYears);
 
         // Calculate role relevance bonus (if job type information available)
-        double roleRelevanceBonus = calculateRoleRelevanceBonus(jobType, resumeJobType);
+        double roleRelevanceBonus = calculateRoleRelevanceBonus(normalizedJobType, resumeJobType);
 
         // Combine scores: Years score (80%) + Role relevance bonus (20%)
         // But cap role bonus so total doesn't exceed 100
@@ -64,8 +106,7 @@ public class ExperienceScorer {
         // Ensure score is between 0 and 100
         totalScore = Math.max(0.0, Math.min(100.0, totalScore));
 
-        return BigDecimal.valueOf(totalScore)
-                .setScale(2, RoundingMode.HALF_UP);
+        return CentiPoints.fromDouble(totalScore);
     }
 
     /**
@@ -125,13 +166,14 @@ public class ExperienceScorer {
      * - If job type is backend/frontend and resume is fullstack: +15 points
      * - No match: 0 points
      * 
-     * @param jobType Job type from job posting (backend, frontend, fullstack, etc.)
+     * @param normalizedJobType Normalized job type from job posting (backend, frontend,
+     *        fullstack, etc.), null if none
      * @param resumeJobType Job type from resume (if extracted)
      * @return Role relevance bonus (0-20)
      */
-    private double calculateRoleRelevanceBonus(String jobType, String resumeJobType) {
+    private double calculateRoleRelevanceBonus(String normalizedJobType, String resumeJobType) {
         // If no job type information, return 0 (no bonus, no penalty)
-        if (jobType == null || jobType.trim().isEmpty()) {
+        if (normalizedJobType == null) {
             return 0.0;
         }
 
@@ -139,7 +181,6 @@ public class ExperienceScorer {
             return 0.0;
         }
 
-        String normalizedJobType = normalizeJobType(jobType);
         String normalizedResumeType = normalizeJobType(resumeJobType);
 
         // Exact match: Full bonus
@@ -181,7 +222,7 @@ public class ExperienceScorer {
      * @param jobType Job type string
      * @return Normalized job type
      */
-    private String normalizeJobType(String jobType) {
+    public String normalizeJobType(String jobType) {
         if (jobType == null) {
             return "";
         }
@@ -0,0 +1,39 @@
+package com.example.resumescreener.utils;
+
+/**
+ * Result of a single-pass Tika extraction: the document text, its detected MIME
+ * type, and whether the text was cut off by the extraction budget.
+ */
+public final class ExtractedDocument {
+
+    private final String text;
+    private final String mimeType;
+    private final boolean truncated;
+
+    public ExtractedDocument(String text, String mimeType, boolean truncated) {
+        this.text = text;
+        this.mimeType = mimeType;
+        this.truncated = truncated;
+    }
+
+    /**
+     * @return Extracted text (trimmed, never null)
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return Detected MIME type (e.g. "application/pdf")
+     */
+    public String getMimeType() {
+        return mimeType;
+    }
+
+    /**
+     * @return true if extraction stopped at the character or page limit
+     */
+    public boolean isTruncated() {
+        return truncated;
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.resumescreener.utils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+
+/**
+ * Single-pass upload stream: every byte read by the consumer (e.g. Tika) is
+ * also hashed, counted against a size limit and copied to a sink (e.g. the
+ * stored original file). The request body is therefore read exactly once,
+ * with no intermediate buffering beyond the consumer's own buffer.
+ *
+ * Call {@link #drain()} after the consumer is done, so bytes it did not need
+ * still reach the hash and the sink. Closing this stream leaves the upload body
+ * open (it belongs to the servlet container), so it can be drained after a
+ * consumer that closes its input. Not thread-safe.
+ */
+public class IngestInputStream extends FilterInputStream {
+
+    private static final int DRAIN_BUFFER_SIZE = 8192;
+
+    private final OutputStream sink;
+    private final MessageDigest digest;
+    private final long maxBytes;
+
+    private long byteCount;
+    private boolean limitExceeded;
+
+    /**
+     * @param in Upload body
+     * @param sink Receives a copy of every byte read (not closed by this stream)
+     * @param maxBytes Maximum upload size; reading beyond it fails
+     */
+    public IngestInputStream(InputStream in, OutputStream sink, long maxBytes) {
+        super(in);
+        this.sink = sink;
+        this.digest = ContentHasher.newDigest();
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b != -1) {
+            accept(new byte[]{(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int read = in.read(buffer, offset, length);
+        if (read > 0) {
+            accept(buffer, offset, read);
+        }
+        return read;
+    }
+
+    /**
+     * Skipped bytes are read through, so they are still hashed and copied.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        byte[] buffer = new byte[(int) Math.min(n, DRAIN_BUFFER_SIZE)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(buffer, 0, (int) Math.min(buffer.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    /**
+     * Does not close the upload body; see class comment.
+     */
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    @Override
+    public synchronized void mark(int readLimit) {
+        // Not supported: re-reading would hash and copy bytes twice
+    }
+
+    @Override
+    public synchronized void reset() throws IOException {
+        throw new IOException("mark/reset not supported");
+    }
+
+    /**
+     * Read the rest of the upload so it is fully hashed, counted and copied.
+     *
+     * @throws IOException if reading fails or the size limit is exceeded
+     */
+    public void drain() throws IOException {
+        byte[] buffer = new byte[DRAIN_BUFFER_SIZE];
+        while (read(buffer, 0, buffer.length) != -1) {
+            // Bytes are consumed by accept()
+        }
+    }
+
+    private void accept(byte[] buffer, int offset, int length) throws IOException {
+        byteCount += length;
+        if (byteCount > maxBytes) {
+            limitExceeded = true;
+            throw new IOException("Upload exceeds maximum size of " + maxBytes + " bytes");
+        }
+        digest.update(buffer, offset, length);
+        sink.write(buffer, offset, length);
+    }
+
+    /**
+     * @return true if the upload was larger than the size limit
+     */
+    public boolean isLimitExceeded() {
+        return limitExceeded;
+    }
+
+    /**
+     * @return Number of bytes read so far
+     */
+    public long getByteCount() {
+        return byteCount;
+    }
+
+    /**
+     * Hash of all bytes read; call after {@link #drain()} for the hash of the whole upload.
+     *
+     * @return Hex SHA-256 content hash
+     */
+    public String getContentHash() {
+        return ContentHasher.toHex(digest.digest());
+    }
+}
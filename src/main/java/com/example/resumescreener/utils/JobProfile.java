@@ -0,0 +1,128 @@
+package com.example.resumescreener.utils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Job-side scoring inputs of one job version, derived once from its JobPost:
+ * encoded required skills, project search terms, normalized job type and
+ * education level with its rank. The scorers read these instead of parsing
+ * the job's strings again for every candidate.
+ *
+ * Immutable; a profile describes the job as it was at {@link #getUpdatedAt()}.
+ */
+public final class JobProfile {
+
+    private final Long jobId;
+    private final LocalDateTime updatedAt;
+
+    private final boolean skillRequirement;
+    private final SkillVector requiredSkills;
+    private final List<String> projectTerms;
+    private final int[] projectTermIds;
+
+    private final Integer minExperienceYears;
+    private final String jobType;
+
+    private final String educationLevel;
+    private final Integer educationRank;
+
+    /**
+     * @param jobId              Job ID (null for an unsaved job)
+     * @param updatedAt          Last update time of the job version
+     * @param skillRequirement   Whether the job's required skills are non-blank
+     * @param requiredSkills     Encoded required skills
+     * @param projectTerms       Required skill terms searched for in project text
+     * @param projectTermIds     Dictionary IDs of the project terms, or null if
+     *                           any term is outside the dictionary
+     * @param minExperienceYears Minimum years required (can be null)
+     * @param jobType            Normalized job type, or null if the job has none
+     * @param educationLevel     Normalized education level, or null if the job has none
+     * @param educationRank      Rank of the education level, or null if not recognized
+     */
+    public JobProfile(
+            Long jobId,
+            LocalDateTime updatedAt,
+            boolean skillRequirement,
+            SkillVector requiredSkills,
+            List<String> projectTerms,
+            int[] projectTermIds,
+            Integer minExperienceYears,
+            String jobType,
+            String educationLevel,
+            Integer educationRank) {
+        this.jobId = jobId;
+        this.updatedAt = updatedAt;
+        this.skillRequirement = skillRequirement;
+        this.requiredSkills = requiredSkills;
+        this.projectTerms = List.copyOf(projectTerms);
+        this.projectTermIds = projectTermIds != null ? projectTermIds.clone() : null;
+        this.minExperienceYears = minExperienceYears;
+        this.jobType = jobType;
+        this.educationLevel = educationLevel;
+        this.educationRank = educationRank;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public boolean hasSkillRequirement() {
+        return skillRequirement;
+    }
+
+    public SkillVector getRequiredSkills() {
+        return requiredSkills;
+    }
+
+    public List<String> getProjectTerms() {
+        return projectTerms;
+    }
+
+    /**
+     * @return Number of project terms (the maximum matched-term count)
+     */
+    public int getProjectTermCount() {
+        return projectTerms.size();
+    }
+
+    /**
+     * @param index Position in {@link #getProjectTerms()}
+     * @return Dictionary ID of that project term
+     * @throws IllegalStateException if the project terms are not all in the dictionary
+     */
+    public int getProjectTermId(int index) {
+        if (projectTermIds == null) {
+            throw new IllegalStateException("Project terms of job " + jobId + " are outside the skill dictionary");
+        }
+        return projectTermIds[index];
+    }
+
+    /**
+     * @return Whether every project term has a dictionary ID, so the job can be
+     *         scored against the candidate feature store
+     */
+    public boolean hasProjectTermIds() {
+        return projectTermIds != null;
+    }
+
+    public Integer getMinExperienceYears() {
+        return minExperienceYears;
+    }
+
+    public String getJobType() {
+        return jobType;
+    }
+
+    public String getEducationLevel() {
+        return educationLevel;
+    }
+
+    public Integer getEducationRank() {
+        return educationRank;
+    }
+}
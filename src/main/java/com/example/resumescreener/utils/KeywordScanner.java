@@ -0,0 +1,184 @@
+package com.example.resumescreener.utils;
+
+import java.util.*;
+
+/**
+ * Multi-keyword scanner based on the Aho-Corasick automaton.
+ * The automaton is built once from a keyword dictionary and then finds every
+ * keyword occurrence in a single left-to-right pass over the text, so the cost
+ * of a scan is proportional to the text length rather than to the number of
+ * keywords.
+ *
+ * Matching is case-sensitive; callers are expected to pass lowercase text when
+ * the dictionary is lowercase. Instances are immutable and thread-safe.
+ */
+public class KeywordScanner {
+
+    private static final int ROOT = 0;
+
+    private final String[] keywords;
+
+    // Trie transitions, one map per node (char -> child node)
+    private final List<Map<Character, Integer>> transitions = new ArrayList<>();
+
+    // Failure link for each node
+    private int[] failure;
+
+    // Keyword indices ending at each node (including those reached via failure links)
+    private int[][] outputs;
+
+    /**
+     * Build the automaton for the given keywords.
+     *
+     * @param keywords Keywords to search for (empty and duplicate entries are ignored)
+     */
+    public KeywordScanner(Collection<String> keywords) {
+        this.keywords = keywords.stream()
+                .filter(keyword -> keyword != null && !keyword.isEmpty())
+                .distinct()
+                .toArray(String[]::new);
+        build();
+    }
+
+    /**
+     * Find all keywords that occur in the text as whole words.
+     * A keyword occurrence counts only if it is not glued to a neighbouring
+     * word character: "java" does not match inside "javascript" and "go" does
+     * not match inside "google". Keywords that start or end with a symbol
+     * (e.g. "c++", ".net") are only boundary-checked on their word-character side.
+     *
+     * @param text Text to scan
+     * @return Set of keywords found, in dictionary order of discovery
+     */
+    public Set<String> findWholeWords(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return found;
+        }
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (int keywordIndex : outputs[state]) {
+                String keyword = keywords[keywordIndex];
+                int start = i - keyword.length() + 1;
+                if (isWholeWord(text, keyword, start, i + 1)) {
+                    found.add(keyword);
+                }
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Find all keywords that occur anywhere in the text, including inside
+     * other words (same as {@link String#contains(CharSequence)} per keyword).
+     *
+     * @param text Text to scan
+     * @return Set of keywords found, in dictionary order of discovery
+     */
+    public Set<String> findAll(String text) {
+        Set<String> found = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return found;
+        }
+
+        int state = ROOT;
+        for (int i = 0; i < text.length(); i++) {
+            state = next(state, text.charAt(i));
+            for (int keywordIndex : outputs[state]) {
+                found.add(keywords[keywordIndex]);
+            }
+        }
+
+        return found;
+    }
+
+    /**
+     * Follow goto/failure transitions for a single character.
+     */
+    private int next(int state, char c) {
+        while (true) {
+            Integer target = transitions.get(state).get(c);
+            if (target != null) {
+                return target;
+            }
+            if (state == ROOT) {
+                return ROOT;
+            }
+            state = failure[state];
+        }
+    }
+
+    /**
+     * Check word boundaries around a keyword occurrence at [start, end).
+     */
+    private boolean isWholeWord(String text, String keyword, int start, int end) {
+        if (isWordChar(keyword.charAt(0)) && start > 0 && isWordChar(text.charAt(start - 1))) {
+            return false;
+        }
+        if (isWordChar(keyword.charAt(keyword.length() - 1)) && end < text.length()
+                && isWordChar(text.charAt(end))) {
+            return false;
+        }
+        return true;
+    }
+
+    private static boolean isWordChar(char c) {
+        return Character.isLetterOrDigit(c) || c == '_';
+    }
+
+    /**
+     * Build trie, failure links and output sets (breadth-first).
+     */
+    private void build() {
+        transitions.add(new HashMap<>());
+        List<List<Integer>> nodeOutputs = new ArrayList<>();
+        nodeOutputs.add(new ArrayList<>());
+
+        // 1. Trie of all keywords
+        for (int k = 0; k < keywords.length; k++) {
+            int state = ROOT;
+            for (char c : keywords[k].toCharArray()) {
+                Integer child = transitions.get(state).get(c);
+                if (child == null) {
+                    child = transitions.size();
+                    transitions.add(new HashMap<>());
+                    nodeOutputs.add(new ArrayList<>());
+                    transitions.get(state).put(c, child);
+                }
+                state = child;
+            }
+            nodeOutputs.get(state).add(k);
+        }
+
+        // 2. Failure links, merging outputs of the failure target
+        failure = new int[transitions.size()];
+        Deque<Integer> queue = new ArrayDeque<>();
+        for (int child : transitions.get(ROOT).values()) {
+            failure[child] = ROOT;
+            queue.add(child);
+        }
+
+        while (!queue.isEmpty()) {
+            int state = queue.poll();
+            for (Map.Entry<Character, Integer> edge : transitions.get(state).entrySet()) {
+                int child = edge.getValue();
+                int fallback = failure[state];
+                while (fallback != ROOT && !transitions.get(fallback).containsKey(edge.getKey())) {
+                    fallback = failure[fallback];
+                }
+                Integer target = transitions.get(fallback).get(edge.getKey());
+                failure[child] = (target != null && target != child) ? target : ROOT;
+                nodeOutputs.get(child).addAll(nodeOutputs.get(failure[child]));
+                queue.add(child);
+            }
+        }
+
+        outputs = new int[nodeOutputs.size()][];
+        for (int i = 0; i < nodeOutputs.size(); i++) {
+            outputs[i] = nodeOutputs.get(i).stream().mapToInt(Integer::intValue).toArray();
+        }
+    }
+}
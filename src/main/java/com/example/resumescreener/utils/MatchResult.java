@@ -0,0 +1,45 @@
+package com.example.resumescreener.utils;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * Result of matching a resume's skills against a job's required skills.
+ * Computed once per resume-job pair and shared by scoring and ranking.
+ *
+ * The score counts exact and synonym matches only; the matched/missing sets
+ * additionally treat partial matches (e.g. "spring" vs "spring boot") as matched.
+ */
+public final class MatchResult {
+
+    private final double score;
+    private final Set<String> matchedSkills;
+    private final Set<String> missingSkills;
+
+    public MatchResult(double score, Set<String> matchedSkills, Set<String> missingSkills) {
+        this.score = score;
+        this.matchedSkills = Collections.unmodifiableSet(matchedSkills);
+        this.missingSkills = Collections.unmodifiableSet(missingSkills);
+    }
+
+    /**
+     * @return Skill score (0-100)
+     */
+    public double getScore() {
+        return score;
+    }
+
+    /**
+     * @return Required skills found in the resume
+     */
+    public Set<String> getMatchedSkills() {
+        return matchedSkills;
+    }
+
+    /**
+     * @return Required skills not found in the resume
+     */
+    public Set<String> getMissingSkills() {
+        return missingSkills;
+    }
+}
@@ -0,0 +1,65 @@
+package com.example.resumescreener.utils;
+
+/**
+ * Scores of one job against every resume in the candidate pool, as parallel
+ * arrays indexed by position. Component and final scores are in centi-points
+ * (see {@link CentiPoints}), exactly like the per-resume scoring path.
+ */
+public final class PoolScores {
+
+    private final long[] resumeIds;
+    private final int[] skillPoints;
+    private final int[] experiencePoints;
+    private final int[] educationPoints;
+    private final int[] projectPoints;
+    private final int[] finalPoints;
+
+    public PoolScores(int size) {
+        this.resumeIds = new long[size];
+        this.skillPoints = new int[size];
+        this.experiencePoints = new int[size];
+        this.educationPoints = new int[size];
+        this.projectPoints = new int[size];
+        this.finalPoints = new int[size];
+    }
+
+    /**
+     * @return Number of scored resumes
+     */
+    public int size() {
+        return resumeIds.length;
+    }
+
+    /**
+     * @param index Position in the pool
+     * @return Scores of the resume at that position
+     */
+    public ScoreVector get(int index) {
+        return new ScoreVector(skillPoints[index], experiencePoints[index], educationPoints[index],
+                projectPoints[index], finalPoints[index]);
+    }
+
+    public long[] getResumeIds() {
+        return resumeIds;
+    }
+
+    public int[] getSkillPoints() {
+        return skillPoints;
+    }
+
+    public int[] getExperiencePoints() {
+        return experiencePoints;
+    }
+
+    public int[] getEducationPoints() {
+        return educationPoints;
+    }
+
+    public int[] getProjectPoints() {
+        return projectPoints;
+    }
+
+    public int[] getFinalPoints() {
+        return finalPoints;
+    }
+}
@@ -0,0 +1,476 @@
+package com.example.resumescreener.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Worker pool shared by all background work, scheduled by {@link WorkClass}.
+ * Each class has its own bounded queue; free threads pick the next task with
+ * smooth weighted round-robin, so classes share the pool in proportion to
+ * their weights instead of first come, first served. A single interactive
+ * upload therefore no longer waits behind thousands of bulk tasks.
+ *
+ * Starvation protection: a task that has waited longer than the maximum wait
+ * is picked before any weighting. A number of threads can be reserved for
+ * interactive work, so a backfill never occupies the whole pool.
+ *
+ * Per-class counters and wait/run time percentiles (over recent tasks) are
+ * exposed for monitoring. Use {@link #forClass(WorkClass)} to get an executor
+ * that submits in one class.
+ */
+public class PriorityTaskExecutor implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(PriorityTaskExecutor.class);
+
+    private static final int LATENCY_SAMPLES = 1024;
+    private static final long SHUTDOWN_TIMEOUT_MS = 30_000;
+
+    private final String threadNamePrefix;
+    private final int threadCount;
+    private final Map<WorkClass, ClassQueue> queues = new EnumMap<>(WorkClass.class);
+    private final List<Thread> workers = new ArrayList<>();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition workChanged = lock.newCondition();
+
+    private int reservedInteractiveThreads;
+    private long maxWaitNanos = TimeUnit.SECONDS.toNanos(30);
+    private int activeNonInteractive;
+    private boolean shutdown;
+
+    /**
+     * @param threadNamePrefix Prefix of the worker thread names
+     * @param threadCount Number of worker threads
+     */
+    public PriorityTaskExecutor(String threadNamePrefix, int threadCount) {
+        this.threadNamePrefix = threadNamePrefix;
+        this.threadCount = Math.max(1, threadCount);
+        for (WorkClass workClass : WorkClass.values()) {
+            queues.put(workClass, new ClassQueue(workClass));
+        }
+    }
+
+    /**
+     * Set the scheduling settings of a work class. Call before {@link #initialize()}.
+     *
+     * @param workClass Work class
+     * @param weight Share of the pool relative to the other classes (at least 1)
+     * @param queueCapacity Maximum number of queued tasks
+     * @param callerRunsWhenFull Run the task on the submitting thread when the queue is
+     *                           full (throttles the submitter) instead of rejecting it
+     */
+    public void configureClass(WorkClass workClass, int weight, int queueCapacity, boolean callerRunsWhenFull) {
+        ClassQueue queue = queues.get(workClass);
+        queue.weight = Math.max(1, weight);
+        queue.capacity = Math.max(0, queueCapacity);
+        queue.callerRunsWhenFull = callerRunsWhenFull;
+    }
+
+    /**
+     * Reserve threads that only run interactive work. At least one thread is always
+     * left for the other classes.
+     *
+     * @param reservedInteractiveThreads Number of reserved threads
+     */
+    public void setReservedInteractiveThreads(int reservedInteractiveThreads) {
+        this.reservedInteractiveThreads = Math.max(0, Math.min(reservedInteractiveThreads, threadCount - 1));
+    }
+
+    /**
+     * Set how long a task may wait before it is picked ahead of the weighting.
+     *
+     * @param maxWaitMs Maximum wait in milliseconds
+     */
+    public void setMaxWaitMs(long maxWaitMs) {
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+    }
+
+    /**
+     * Start the worker threads.
+     */
+    public void initialize() {
+        for (int i = 1; i <= threadCount; i++) {
+            Thread worker = new Thread(this::runWorker, threadNamePrefix + i);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    /**
+     * Get an executor that submits tasks in the given class.
+     *
+     * @param workClass Work class
+     * @return Executor for the class
+     */
+    public ClassExecutor forClass(WorkClass workClass) {
+        return new ClassExecutor(queues.get(workClass));
+    }
+
+    /**
+     * Stop accepting tasks, then let the workers finish the queued ones (bounded wait).
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        lock.lock();
+        try {
+            shutdown = true;
+            workChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MS;
+        for (Thread worker : workers) {
+            worker.join(Math.max(1, deadline - System.currentTimeMillis()));
+        }
+    }
+
+    private void enqueue(ClassQueue queue, Runnable task) {
+        lock.lock();
+        try {
+            if (shutdown) {
+                queue.rejectedCount++;
+                throw new TaskRejectedException("Executor has been shut down");
+            }
+            if (queue.tasks.size() < queue.capacity) {
+                queue.tasks.addLast(new QueuedTask(queue, task, System.nanoTime()));
+                queue.submittedCount++;
+                workChanged.signalAll();
+                return;
+            }
+            if (!queue.callerRunsWhenFull) {
+                queue.rejectedCount++;
+                throw new TaskRejectedException(queue.workClass + " queue is full (" + queue.capacity + " tasks)");
+            }
+            queue.callerRunsCount++;
+        } finally {
+            lock.unlock();
+        }
+
+        // Queue full: throttle the submitter by running the task on its thread
+        task.run();
+    }
+
+    private void runWorker() {
+        while (true) {
+            QueuedTask task;
+            lock.lock();
+            try {
+                while ((task = next()) == null) {
+                    if (shutdown && isIdle()) {
+                        return;
+                    }
+                    workChanged.await();
+                }
+            } catch (InterruptedException e) {
+                return;
+            } finally {
+                lock.unlock();
+            }
+
+            task.run();
+        }
+    }
+
+    /**
+     * Pick the next task (called under the lock).
+     *
+     * @return Task to run, or null if no eligible task is queued
+     */
+    private QueuedTask next() {
+        long now = System.nanoTime();
+        boolean otherClassesAllowed = activeNonInteractive < threadCount - reservedInteractiveThreads;
+
+        // 1. Starvation protection: the oldest task past the maximum wait goes first
+        ClassQueue chosen = null;
+        for (ClassQueue queue : queues.values()) {
+            if (!isEligible(queue, otherClassesAllowed)) {
+                continue;
+            }
+            long enqueuedAt = queue.tasks.peekFirst().enqueuedAt;
+            if (now - enqueuedAt >= maxWaitNanos
+                    && (chosen == null || enqueuedAt < chosen.tasks.peekFirst().enqueuedAt)) {
+                chosen = queue;
+            }
+        }
+
+        // 2. Smooth weighted round-robin over the classes with queued tasks
+        if (chosen == null) {
+            int totalWeight = 0;
+            for (ClassQueue queue : queues.values()) {
+                if (!isEligible(queue, otherClassesAllowed)) {
+                    // An idle class does not bank credit for a later burst
+                    queue.credit = 0;
+                    continue;
+                }
+                queue.credit += queue.weight;
+                totalWeight += queue.weight;
+                if (chosen == null || queue.credit > chosen.credit) {
+                    chosen = queue;
+                }
+            }
+            if (chosen == null) {
+                return null;
+            }
+            chosen.credit -= totalWeight;
+        }
+
+        QueuedTask task = chosen.tasks.pollFirst();
+        chosen.activeCount++;
+        if (chosen.workClass != WorkClass.INTERACTIVE) {
+            activeNonInteractive++;
+        }
+        return task;
+    }
+
+    private boolean isEligible(ClassQueue queue, boolean otherClassesAllowed) {
+        return !queue.tasks.isEmpty() && (queue.workClass == WorkClass.INTERACTIVE || otherClassesAllowed);
+    }
+
+    private boolean isIdle() {
+        for (ClassQueue queue : queues.values()) {
+            if (!queue.tasks.isEmpty()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void finished(ClassQueue queue) {
+        lock.lock();
+        try {
+            queue.activeCount--;
+            queue.completedCount++;
+            if (queue.workClass != WorkClass.INTERACTIVE) {
+                activeNonInteractive--;
+            }
+            // Freed capacity may make a waiting class eligible again
+            workChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getThreadCount() {
+        return threadCount;
+    }
+
+    public int getReservedInteractiveThreads() {
+        return reservedInteractiveThreads;
+    }
+
+    public int getWeight(WorkClass workClass) {
+        return queues.get(workClass).weight;
+    }
+
+    public int getQueueCapacity(WorkClass workClass) {
+        return queues.get(workClass).capacity;
+    }
+
+    public int getQueueDepth(WorkClass workClass) {
+        lock.lock();
+        try {
+            return queues.get(workClass).tasks.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getActiveCount(WorkClass workClass) {
+        lock.lock();
+        try {
+            return queues.get(workClass).activeCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getSubmittedCount(WorkClass workClass) {
+        lock.lock();
+        try {
+            return queues.get(workClass).submittedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCompletedCount(WorkClass workClass) {
+        lock.lock();
+        try {
+            return queues.get(workClass).completedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejectedCount(WorkClass workClass) {
+        lock.lock();
+        try {
+            return queues.get(workClass).rejectedCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCallerRunsCount(WorkClass workClass) {
+        lock.lock();
+        try {
+            return queues.get(workClass).callerRunsCount;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Time recent tasks of a class spent queued before a worker picked them.
+     *
+     * @param workClass Work class
+     * @param percentile Percentile between 0 and 1 (e.g. 0.99)
+     * @return Wait time in milliseconds (0 if no task has run yet)
+     */
+    public double getWaitTimeMs(WorkClass workClass, double percentile) {
+        return queues.get(workClass).waitTimes.percentileMs(percentile);
+    }
+
+    /**
+     * Time recent tasks of a class took to run.
+     *
+     * @param workClass Work class
+     * @param percentile Percentile between 0 and 1 (e.g. 0.99)
+     * @return Run time in milliseconds (0 if no task has run yet)
+     */
+    public double getRunTimeMs(WorkClass workClass, double percentile) {
+        return queues.get(workClass).runTimes.percentileMs(percentile);
+    }
+
+    /**
+     * Executor view that submits every task in one work class.
+     */
+    public final class ClassExecutor implements AsyncTaskExecutor {
+
+        private final ClassQueue queue;
+
+        private ClassExecutor(ClassQueue queue) {
+            this.queue = queue;
+        }
+
+        /**
+         * @throws TaskRejectedException if the class queue is full (and not caller-runs) or the pool is shut down
+         */
+        @Override
+        public void execute(Runnable task) {
+            enqueue(queue, task);
+        }
+
+        public WorkClass getWorkClass() {
+            return queue.workClass;
+        }
+
+        public int getThreadCount() {
+            return threadCount;
+        }
+    }
+
+    /**
+     * Queue, scheduling state and statistics of one work class.
+     * Mutable fields are guarded by the executor lock.
+     */
+    private static final class ClassQueue {
+
+        private final WorkClass workClass;
+        private final Deque<QueuedTask> tasks = new ArrayDeque<>();
+        private final LatencyRecorder waitTimes = new LatencyRecorder(LATENCY_SAMPLES);
+        private final LatencyRecorder runTimes = new LatencyRecorder(LATENCY_SAMPLES);
+
+        private int weight = 1;
+        private int capacity = Integer.MAX_VALUE;
+        private boolean callerRunsWhenFull;
+        private long credit;
+        private int activeCount;
+        private long submittedCount;
+        private long completedCount;
+        private long rejectedCount;
+        private long callerRunsCount;
+
+        ClassQueue(WorkClass workClass) {
+            this.workClass = workClass;
+        }
+    }
+
+    /**
+     * A queued task with its enqueue time.
+     */
+    private final class QueuedTask implements Runnable {
+
+        private final ClassQueue queue;
+        private final Runnable task;
+        private final long enqueuedAt;
+
+        QueuedTask(ClassQueue queue, Runnable task, long enqueuedAt) {
+            this.queue = queue;
+            this.task = task;
+            this.enqueuedAt = enqueuedAt;
+        }
+
+        @Override
+        public void run() {
+            long startedAt = System.nanoTime();
+            queue.waitTimes.record(startedAt - enqueuedAt);
+            try {
+                task.run();
+            } catch (RuntimeException | Error e) {
+                log.error("Uncaught exception in {} task", queue.workClass, e);
+            } finally {
+                queue.runTimes.record(System.nanoTime() - startedAt);
+                finished(queue);
+            }
+        }
+    }
+
+    /**
+     * Ring buffer of the most recent durations, for percentiles.
+     */
+    private static final class LatencyRecorder {
+
+        private final long[] samples;
+        private int count;
+        private int next;
+
+        LatencyRecorder(int size) {
+            this.samples = new long[size];
+        }
+
+        synchronized void record(long nanos) {
+            samples[next] = nanos;
+            next = (next + 1) % samples.length;
+            count = Math.min(count + 1, samples.length);
+        }
+
+        double percentileMs(double percentile) {
+            long[] sorted;
+            synchronized (this) {
+                if (count == 0) {
+                    return 0;
+                }
+                sorted = Arrays.copyOf(samples, count);
+            }
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile * sorted.length) - 1;
+            return sorted[Math.max(0, Math.min(index, sorted.length - 1))] / 1_000_000.0;
+        }
+    }
+}
@@ -26,12 +26,21 @@ public class ProjectExtractor {
      * @return Project summary or null
      */
     public String extractProjectsSummary(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        return extractProjectsSummary(ResumeDocument.parse(text));
+    }
+
+    /**
+     * Extract project summary from an already normalized resume document.
+     * 
+     * @param document Normalized and segmented resume
+     * @return Project summary or null
+     */
+    public String extractProjectsSummary(ResumeDocument document) {
+        if (document.isEmpty()) {
             return null;
         }
 
-        String normalizedText = normalizeText(text);
-        String projectsSection = extractProjectsSection(normalizedText);
+        String projectsSection = extractProjectsSection(document);
 
         if (projectsSection != null && !projectsSection.trim().isEmpty()) {
             // Clean up the section
@@ -55,12 +64,21 @@ public class ProjectExtractor {
      * @return Number of projects found
      */
     public int countProjects(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        return countProjects(ResumeDocument.parse(text));
+    }
+
+    /**
+     * Count number of projects mentioned in an already normalized resume document.
+     * 
+     * @param document Normalized and segmented resume
+     * @return Number of projects found
+     */
+    public int countProjects(ResumeDocument document) {
+        if (document.isEmpty()) {
             return 0;
         }
 
-        String normalizedText = normalizeText(text);
-        String projectsSection = extractProjectsSection(normalizedText);
+        String projectsSection = extractProjectsSection(document);
 
         if (projectsSection == null) {
             return 0;
@@ -96,81 +114,52 @@ public class ProjectExtractor {
     }
 
     /**
-     * Extract projects section from resume text.
+     * Get projects section content, falling back to project mentions in the
+     * experience section.
      * 
-     * @param text Normalized resume text
+     * @param document Normalized and segmented resume
      * @return Projects section text or null
      */
-    private String extractProjectsSection(String text) {
-        // Pattern to find projects section
-        Pattern projectsSectionPattern = Pattern.compile(
-                "(?i)(?:projects?|personal\\s+projects?|side\\s+projects?|academic\\s+projects?|portfolio)[:;]?\\s*([^\\n]+(?:\\n[^\\n]+)*?)(?=\\n\\n|\\n[A-Z]|$)",
-                Pattern.MULTILINE
-        );
-
-        Matcher matcher = projectsSectionPattern.matcher(text);
-        if (matcher.find()) {
-            return matcher.group(1);
+    private String extractProjectsSection(ResumeDocument document) {
+        String projectsSection = document.getSection(ResumeDocument.Section.PROJECTS);
+        if (projectsSection != null) {
+            return projectsSection;
         }
 
         // Also try to find project mentions in experience section
-        return extractProjectsFromExperience(text);
+        return extractProjectsFromExperience(document.getSection(ResumeDocument.Section.EXPERIENCE));
     }
 
     /**
      * Extract project mentions from experience section.
      * 
-     * @param text Normalized resume text
+     * @param experienceSection Experience section content (can be null)
      * @return Project-related text or null
      */
-    private String extractProjectsFromExperience(String text) {
-        // Look for project mentions in experience/work section
-        Pattern experiencePattern = Pattern.compile(
-                "(?i)(?:experience|work\\s+experience)[:;]?\\s*([^\\n]+(?:\\n[^\\n]+)*?)(?=\\n\\n|\\n[A-Z]|$)",
-                Pattern.MULTILINE
-        );
+    private String extractProjectsFromExperience(String experienceSection) {
+        if (experienceSection == null) {
+            return null;
+        }
 
-        Matcher matcher = experiencePattern.matcher(text);
-        if (matcher.find()) {
-            String experienceSection = matcher.group(1);
-            
-            // Check if it contains project keywords
-            for (String keyword : PROJECT_KEYWORDS) {
-                if (experienceSection.toLowerCase().contains(keyword)) {
-                    // Extract sentences containing project keywords
-                    String[] sentences = experienceSection.split("[.!?]");
-                    StringBuilder projectText = new StringBuilder();
-                    
-                    for (String sentence : sentences) {
-                        if (sentence.toLowerCase().contains("project")) {
-                            projectText.append(sentence.trim()).append(". ");
-                        }
-                    }
-                    
-                    if (projectText.length() > 0) {
-                        return projectText.toString().trim();
+        // Check if it contains project keywords
+        for (String keyword : PROJECT_KEYWORDS) {
+            if (experienceSection.toLowerCase().contains(keyword)) {
+                // Extract sentences containing project keywords
+                String[] sentences = experienceSection.split("[.!?]");
+                StringBuilder projectText = new StringBuilder();
+
+                for (String sentence : sentences) {
+                    if (sentence.toLowerCase().contains("project")) {
+                        projectText.append(sentence.trim()).append(". ");
                     }
                 }
+
+                if (projectText.length() > 0) {
+                    return projectText.toString().trim();
+                }
             }
         }
 
         return null;
     }
-
-    /**
-     * Normalize text for better matching.
-     * 
-     * @param text Original text
-     * @return Normalized text
-     */
-    private String normalizeText(String text) {
-        if (text == null) {
-            return "";
-        }
-        
-        String normalized = text.replaceAll("\\s+", " ");
-        normalized = normalized.replaceAll("\\n+", "\n");
-        
-        return normalized;
-    }
 }
@@ -3,7 +3,8 @@ package com.example.resumescreener.utils;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * Utility class for calculating project relevance score.
@@ -29,20 +30,67 @@ public class ProjectScorer {
      * @return Project score (0-100)
      */
     public BigDecimal calculateProjectScore(String projectsSummary, String requiredSkills) {
+        return CentiPoints.toBigDecimal(calculateProjectPoints(projectsSummary, requiredSkills));
+    }
+
+    /**
+     * Calculate project relevance score in centi-points (0-10000).
+     * 
+     * @param projectsSummary Project summary from resume (can be null)
+     * @param requiredSkills Required skills from job (for relevance check)
+     * @return Project score in centi-points
+     */
+    public int calculateProjectPoints(String projectsSummary, String requiredSkills) {
+        // If no projects, return 0
+        if (projectsSummary == null || projectsSummary.trim().isEmpty()) {
+            return 0;
+        }
+
+        // Count projects and required skills mentioned in them
+        int projectCount = estimateProjectCount(projectsSummary);
+        int matchedSkills = countMentionedSkills(projectsSummary, requiredSkills);
+
+        return calculateProjectPoints(projectCount, matchedSkills);
+    }
+
+    /**
+     * Calculate project relevance score in centi-points against a compiled job,
+     * whose required skill terms are already parsed.
+     * 
+     * @param projectsSummary Project summary from resume (can be null)
+     * @param job Compiled job profile
+     * @return Project score in centi-points
+     */
+    public int calculateProjectPoints(String projectsSummary, JobProfile job) {
         // If no projects, return 0
         if (projectsSummary == null || projectsSummary.trim().isEmpty()) {
-            return BigDecimal.ZERO;
+            return 0;
         }
 
+        int projectCount = estimateProjectCount(projectsSummary);
+        int matchedSkills = countMentionedTerms(projectsSummary, job.getProjectTerms());
+
+        return calculateProjectPoints(projectCount, matchedSkills);
+    }
+
+    /**
+     * Calculate project relevance score in centi-points from precomputed project
+     * features. Used to score a resume whose project count and skill mentions
+     * are known, without re-reading its project summary.
+     * 
+     * @param projectCount Estimated number of projects (resume has projects)
+     * @param matchedSkills Number of required skills mentioned in the projects
+     * @return Project score in centi-points
+     */
+    public int calculateProjectPoints(int projectCount, int matchedSkills) {
         // Base score for having projects
         double baseScore = 50.0;
 
-        // Count projects (rough estimate based on length and structure)
-        int projectCount = estimateProjectCount(projectsSummary);
-        double countBonus = Math.min(30.0, projectCount * 5.0); // Max 30 points
+        // Count bonus: 5 points per project, max 30 points
+        double countBonus = Math.min(30.0, projectCount * 5.0);
 
-        // Relevance bonus (check if projects mention required skills)
-        double relevanceBonus = calculateRelevanceBonus(projectsSummary, requiredSkills);
+        // Relevance bonus: 5 points per matched skill, max 20 points
+        double relevanceBonus = Math.min(20.0, matchedSkills * 5.0);
 
         // Total score: Base + Count bonus + Relevance bonus
         double totalScore = baseScore + countBonus + relevanceBonus;
@@ -50,17 +98,16 @@ public class ProjectScorer {
         // Ensure score is between 0 and 100
         totalScore = Math.max(0.0, Math.min(100.0, totalScore));
 
-        return BigDecimal.valueOf(totalScore)
-                .setScale(2, RoundingMode.HALF_UP);
+        return CentiPoints.fromDouble(totalScore);
     }
 
     /**
      * Estimate number of projects from summary text.
      * 
      * @param projectsSummary Project summary text
-     * @return Estimated project count
+     * @return Estimated project count (0 if no projects, at most 10)
      */
-    private int estimateProjectCount(String projectsSummary) {
+    public int estimateProjectCount(String projectsSummary) {
         if (projectsSummary == null || projectsSummary.isEmpty()) {
             return 0;
         }
@@ -91,35 +138,58 @@ public class ProjectScorer {
     }
 
     /**
-     * Calculate relevance bonus based on required skills mentioned in projects.
+     * Split required skills into the terms searched for in project text:
+     * lowercased and trimmed, in order. Repeated skills are kept and count
+     * once per occurrence.
      * 
-     * @param projectsSummary Project summary text
      * @param requiredSkills Required skills (comma-separated)
-     * @return Relevance bonus (0-20)
+     * @return Search terms (empty if there are no requirements)
      */
-    private double calculateRelevanceBonus(String projectsSummary, String requiredSkills) {
+    public List<String> parseRequiredTerms(String requiredSkills) {
+        List<String> terms = new ArrayList<>();
         if (requiredSkills == null || requiredSkills.trim().isEmpty()) {
-            return 0.0; // No requirements, no relevance check
+            return terms; // No requirements, no relevance check
         }
 
-        if (projectsSummary == null || projectsSummary.isEmpty()) {
-            return 0.0;
+        for (String skill : requiredSkills.toLowerCase().split(",")) {
+            String trimmedSkill = skill.trim();
+            if (!trimmedSkill.isEmpty()) {
+                terms.add(trimmedSkill);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Count required skills mentioned in the project summary.
+     * 
+     * @param projectsSummary Project summary text
+     * @param requiredSkills Required skills (comma-separated)
+     * @return Number of required skills mentioned
+     */
+    private int countMentionedSkills(String projectsSummary, String requiredSkills) {
+        return countMentionedTerms(projectsSummary, parseRequiredTerms(requiredSkills));
+    }
+
+    /**
+     * Count search terms mentioned in the project summary.
+     * 
+     * @param projectsSummary Project summary text
+     * @param terms Terms from {@link #parseRequiredTerms(String)}
+     * @return Number of terms mentioned (repeated terms count each time)
+     */
+    private int countMentionedTerms(String projectsSummary, List<String> terms) {
+        if (terms.isEmpty()) {
+            return 0;
         }
 
         String lowerSummary = projectsSummary.toLowerCase();
-        String[] required = requiredSkills.toLowerCase().split(",");
-        
         int matchedSkills = 0;
-        for (String skill : required) {
-            String trimmedSkill = skill.trim();
-            if (!trimmedSkill.isEmpty() && lowerSummary.contains(trimmedSkill)) {
+        for (String term : terms) {
+            if (lowerSummary.contains(term)) {
                 matchedSkills++;
             }
         }
-
-        // Bonus: 5 points per matched skill, max 20 points
-        double bonus = Math.min(20.0, matchedSkills * 5.0);
-
-        return bonus;
+        return matchedSkills;
     }
 }
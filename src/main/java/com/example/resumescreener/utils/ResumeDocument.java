@@ -0,0 +1,203 @@
+package com.example.resumescreener.utils;
+
+import java.util.Arrays;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalized, segmented view of a resume's extracted text.
+ * Built once per parse and shared by all extractors, so the raw text is
+ * normalized and scanned for section headers only once.
+ *
+ * Normalization collapses every whitespace run into a single space and trims
+ * the result. A lowercase copy of the same length is kept alongside, so section
+ * offsets are valid for both.
+ *
+ * Sections are located by the first occurrence of their header keyword. Since
+ * the normalized text has no line structure left, a section's content runs from
+ * the end of its header to the end of the text; its body stops earlier, at the
+ * next header of another section.
+ */
+public final class ResumeDocument {
+
+    /**
+     * Resume sections recognized by the segmenter.
+     */
+    public enum Section {
+        SKILLS, EXPERIENCE, EDUCATION, PROJECTS
+    }
+
+    // One alternation per section (group index = Section ordinal + 1),
+    // followed by an optional separator that is not part of the content
+    private static final Pattern SECTION_HEADER_PATTERN = Pattern.compile(
+            "(?i)\\b(?:"
+                    + "(technical\\s+skills|core\\s+competencies|technologies|tech\\s+stack|programming\\s+languages|skills)"
+                    + "|((?:work\\s+)?experience)"
+                    + "|(education|academic\\s+background|qualifications)"
+                    + "|((?:personal\\s+|side\\s+|academic\\s+)?projects?|portfolio)"
+                    + ")\\b\\s*[:;|-]?\\s*");
+
+    private static final ResumeDocument EMPTY = new ResumeDocument("", "");
+
+    private final String text;
+    private final String lowerText;
+
+    // Content start offset per section (indexed by ordinal), -1 if absent
+    private final int[] sectionOffsets;
+
+    // Body end offset per section: start of the next header of another section
+    private final int[] sectionEnds;
+
+    private ResumeDocument(String text, String lowerText) {
+        this.text = text;
+        this.lowerText = lowerText;
+        this.sectionOffsets = new int[Section.values().length];
+        this.sectionEnds = new int[Section.values().length];
+        indexSections(text, sectionOffsets, sectionEnds);
+    }
+
+    /**
+     * Normalize and segment raw resume text.
+     *
+     * @param rawText Text as extracted from the uploaded file (can be null)
+     * @return ResumeDocument view of the text
+     */
+    public static ResumeDocument parse(String rawText) {
+        if (rawText == null || rawText.isEmpty()) {
+            return EMPTY;
+        }
+
+        // Single pass: collapse whitespace runs, trim, and build the lowercase copy
+        StringBuilder normalized = new StringBuilder(rawText.length());
+        StringBuilder lower = new StringBuilder(rawText.length());
+        boolean pendingSpace = false;
+
+        for (int i = 0; i < rawText.length(); i++) {
+            char c = rawText.charAt(i);
+            if (isWhitespace(c)) {
+                pendingSpace = normalized.length() > 0;
+                continue;
+            }
+            if (pendingSpace) {
+                normalized.append(' ');
+                lower.append(' ');
+                pendingSpace = false;
+            }
+            normalized.append(c);
+            lower.append(Character.toLowerCase(c));
+        }
+
+        if (normalized.length() == 0) {
+            return EMPTY;
+        }
+        return new ResumeDocument(normalized.toString(), lower.toString());
+    }
+
+    /**
+     * Locate the first header of each section, and the next header of another
+     * section after it, in one scan.
+     */
+    private static void indexSections(String text, int[] offsets, int[] ends) {
+        Section[] sections = Section.values();
+        Arrays.fill(offsets, -1);
+        Arrays.fill(ends, text.length());
+
+        // Sections not found yet, and found sections whose body end is not known
+        int unfound = sections.length;
+        int open = 0;
+        Matcher matcher = SECTION_HEADER_PATTERN.matcher(text);
+        while ((unfound > 0 || open > 0) && matcher.find()) {
+            int matched = 0;
+            while (matcher.start(matched + 1) < 0) {
+                matched++;
+            }
+
+            // This header ends the body of every other section still open
+            for (int i = 0; i < sections.length; i++) {
+                if (i != matched && offsets[i] >= 0 && ends[i] == text.length()) {
+                    ends[i] = matcher.start();
+                    open--;
+                }
+            }
+
+            // A header with nothing after it does not open a section
+            if (offsets[matched] < 0 && matcher.end() < text.length()) {
+                offsets[matched] = matcher.end();
+                unfound--;
+                open++;
+            }
+        }
+    }
+
+    /**
+     * Same character set as the regex \s class used by the extractors.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
+    }
+
+    /**
+     * @return true if the document has no text
+     */
+    public boolean isEmpty() {
+        return text.isEmpty();
+    }
+
+    /**
+     * @return Normalized text with original casing
+     */
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return Normalized text in lowercase
+     */
+    public String getLowerText() {
+        return lowerText;
+    }
+
+    /**
+     * Check whether a section header was found.
+     *
+     * @param section Section to check
+     * @return true if the section exists
+     */
+    public boolean hasSection(Section section) {
+        return sectionOffsets[section.ordinal()] >= 0;
+    }
+
+    /**
+     * Get section content with original casing.
+     *
+     * @param section Section to get
+     * @return Section content or null if the section was not found
+     */
+    public String getSection(Section section) {
+        int offset = sectionOffsets[section.ordinal()];
+        return offset >= 0 ? text.substring(offset) : null;
+    }
+
+    /**
+     * Get section body in lowercase: the content up to the next header of
+     * another section.
+     *
+     * @param section Section to get
+     * @return Lowercase section body or null if the section was not found
+     */
+    public String getLowerSectionBody(Section section) {
+        int offset = sectionOffsets[section.ordinal()];
+        return offset >= 0 ? lowerText.substring(offset, sectionEnds[section.ordinal()]) : null;
+    }
+
+    /**
+     * Get section content in lowercase.
+     *
+     * @param section Section to get
+     * @return Lowercase section content or null if the section was not found
+     */
+    public String getLowerSection(Section section) {
+        int offset = sectionOffsets[section.ordinal()];
+        return offset >= 0 ? lowerText.substring(offset) : null;
+    }
+}
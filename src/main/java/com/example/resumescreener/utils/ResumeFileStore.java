@@ -0,0 +1,254 @@
+package com.example.resumescreener.utils;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.regex.Pattern;
+
+/**
+ * Local storage for original uploaded resume files.
+ * Files are content-addressed: stored under their SHA-256 content hash, so an
+ * identical upload maps to the same file. The hash also picks two levels of
+ * shard directories ("ab/cd/abcd...") to keep directories small.
+ *
+ * Uploads are first written to a staging file and moved into place once their
+ * hash is known, so a stored file is always complete. Stored files are never
+ * modified and are read back through memory-mapped buffers, so re-extraction
+ * reads originals straight from the page cache without touching the database.
+ */
+@Component
+public class ResumeFileStore {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeFileStore.class);
+
+    private static final Pattern CONTENT_HASH = Pattern.compile("[0-9a-f]{64}");
+    private static final String STAGING_DIR = "staging";
+    private static final long TRANSFER_CHUNK_SIZE = 1024 * 1024;
+
+    @Value("${app.resume.storage-dir:${java.io.tmpdir}/resume-store}")
+    private String storageDir;
+
+    /**
+     * Create a staging file for an upload in progress.
+     *
+     * @return Path of the new, empty staging file
+     * @throws IOException if the storage directory cannot be written
+     */
+    public Path createStagingFile() throws IOException {
+        Path directory = Paths.get(storageDir, STAGING_DIR);
+        Files.createDirectories(directory);
+        return Files.createTempFile(directory, "staging-", ".upload");
+    }
+
+    /**
+     * Move a completed staging file to its content-addressed location.
+     * The staging file is flushed to disk first. If the content is already
+     * stored, the staging file is discarded.
+     *
+     * @param stagingFile Staging file with the complete upload
+     * @param contentHash SHA-256 content hash of the upload (hex)
+     * @return Path of the stored file
+     * @throws IOException if the file cannot be moved
+     */
+    public Path commit(Path stagingFile, String contentHash) throws IOException {
+        Path target = locate(contentHash);
+        if (Files.exists(target)) {
+            discard(stagingFile);
+            return target;
+        }
+
+        try (FileChannel channel = FileChannel.open(stagingFile, StandardOpenOption.WRITE)) {
+            channel.force(true);
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            return Files.move(stagingFile, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            // A concurrent upload of the same content may have won the move
+            if (Files.exists(target)) {
+                discard(stagingFile);
+                return target;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Store file content held in memory.
+     *
+     * @param contentHash SHA-256 content hash of the content (hex)
+     * @param content File bytes
+     * @return Path of the stored file
+     * @throws IOException if the file cannot be written
+     */
+    public Path store(String contentHash, byte[] content) throws IOException {
+        Path target = locate(contentHash);
+        if (Files.exists(target)) {
+            return target;
+        }
+
+        Path stagingFile = createStagingFile();
+        try {
+            try (FileChannel channel = FileChannel.open(stagingFile, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(content);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+            }
+            return commit(stagingFile, contentHash);
+        } catch (IOException | RuntimeException e) {
+            discard(stagingFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Store file content read from a stream. The stream is not closed.
+     *
+     * @param contentHash SHA-256 content hash of the content (hex), computed beforehand
+     * @param content File content
+     * @return Path of the stored file
+     * @throws IOException if the content cannot be read or the file cannot be written
+     */
+    public Path store(String contentHash, InputStream content) throws IOException {
+        Path target = locate(contentHash);
+        if (Files.exists(target)) {
+            return target;
+        }
+
+        Path stagingFile = createStagingFile();
+        try {
+            try (FileChannel channel = FileChannel.open(stagingFile, StandardOpenOption.WRITE)) {
+                ReadableByteChannel source = Channels.newChannel(content);
+                long position = 0;
+                long transferred;
+                // A blocking source transfers nothing only at end of stream
+                while ((transferred = channel.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+                    position += transferred;
+                }
+            }
+            return commit(stagingFile, contentHash);
+        } catch (IOException | RuntimeException e) {
+            discard(stagingFile);
+            throw e;
+        }
+    }
+
+    /**
+     * Delete a staging file. Failures are logged, not thrown.
+     *
+     * @param stagingFile Staging file
+     */
+    public void discard(Path stagingFile) {
+        try {
+            Files.deleteIfExists(stagingFile);
+        } catch (IOException e) {
+            log.warn("Failed to delete staging file {}", stagingFile, e);
+        }
+    }
+
+    /**
+     * Check whether the original file for a content hash is stored.
+     *
+     * @param contentHash SHA-256 content hash (hex)
+     * @return true if stored
+     */
+    public boolean contains(String contentHash) {
+        return Files.isRegularFile(locate(contentHash));
+    }
+
+    /**
+     * Map a stored file into memory (read-only).
+     *
+     * @param contentHash SHA-256 content hash (hex)
+     * @return Read-only buffer over the whole file
+     * @throws IOException if the file is not stored or cannot be mapped
+     */
+    public MappedByteBuffer map(String contentHash) throws IOException {
+        try (FileChannel channel = FileChannel.open(locate(contentHash), StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    /**
+     * Open a stored file as a stream over its memory-mapped content.
+     *
+     * @param contentHash SHA-256 content hash (hex)
+     * @return Stream over the stored file
+     * @throws IOException if the file is not stored or cannot be mapped
+     */
+    public InputStream openStream(String contentHash) throws IOException {
+        return new ByteBufferInputStream(map(contentHash));
+    }
+
+    /**
+     * Get the storage location of a content hash ("ab/cd/abcd...").
+     *
+     * @param contentHash SHA-256 content hash (hex)
+     * @return Path of the stored file (may not exist)
+     * @throws IllegalArgumentException if the hash is not a lowercase hex SHA-256
+     */
+    public Path locate(String contentHash) {
+        if (contentHash == null || !CONTENT_HASH.matcher(contentHash).matches()) {
+            throw new IllegalArgumentException("Invalid content hash: " + contentHash);
+        }
+        return Paths.get(storageDir, contentHash.substring(0, 2), contentHash.substring(2, 4), contentHash);
+    }
+
+    /**
+     * InputStream view of a byte buffer. Not thread-safe.
+     */
+    private static final class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public long skip(long n) {
+            int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
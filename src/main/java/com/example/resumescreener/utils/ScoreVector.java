@@ -0,0 +1,66 @@
+package com.example.resumescreener.utils;
+
+import java.math.BigDecimal;
+
+/**
+ * Component scores and the weighted final score of one resume-job pair, in
+ * centi-points (see {@link CentiPoints}). Each component is computed once and
+ * the final score is derived from them, so nothing is scored twice.
+ */
+public final class ScoreVector {
+
+    private final int skillPoints;
+    private final int experiencePoints;
+    private final int educationPoints;
+    private final int projectPoints;
+    private final int finalPoints;
+
+    public ScoreVector(int skillPoints, int experiencePoints, int educationPoints, int projectPoints, int finalPoints) {
+        this.skillPoints = skillPoints;
+        this.experiencePoints = experiencePoints;
+        this.educationPoints = educationPoints;
+        this.projectPoints = projectPoints;
+        this.finalPoints = finalPoints;
+    }
+
+    public int getSkillPoints() {
+        return skillPoints;
+    }
+
+    public int getExperiencePoints() {
+        return experiencePoints;
+    }
+
+    public int getEducationPoints() {
+        return educationPoints;
+    }
+
+    public int getProjectPoints() {
+        return projectPoints;
+    }
+
+    public int getFinalPoints() {
+        return finalPoints;
+    }
+
+    // BigDecimal views (scale 2) for entities and responses
+    public BigDecimal getSkillScore() {
+        return CentiPoints.toBigDecimal(skillPoints);
+    }
+
+    public BigDecimal getExperienceScore() {
+        return CentiPoints.toBigDecimal(experiencePoints);
+    }
+
+    public BigDecimal getEducationScore() {
+        return CentiPoints.toBigDecimal(educationPoints);
+    }
+
+    public BigDecimal getProjectScore() {
+        return CentiPoints.toBigDecimal(projectPoints);
+    }
+
+    public BigDecimal getFinalScore() {
+        return CentiPoints.toBigDecimal(finalPoints);
+    }
+}
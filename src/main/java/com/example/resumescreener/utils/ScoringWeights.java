@@ -0,0 +1,59 @@
+package com.example.resumescreener.utils;
+
+/**
+ * Weights of the four score components in the final score.
+ * Weights are non-negative and sum to 1, so final scores stay on the 0-100 scale.
+ */
+public final class ScoringWeights {
+
+    // Allows for decimal inputs such as 0.6 + 0.2 + 0.05 + 0.15
+    private static final double SUM_TOLERANCE = 1e-6;
+
+    private final double skillWeight;
+    private final double experienceWeight;
+    private final double educationWeight;
+    private final double projectWeight;
+
+    /**
+     * @throws IllegalArgumentException if a weight is negative or not finite,
+     *         or the weights do not sum to 1
+     */
+    public ScoringWeights(double skillWeight, double experienceWeight, double educationWeight, double projectWeight) {
+        requireValid("Skill", skillWeight);
+        requireValid("Experience", experienceWeight);
+        requireValid("Education", educationWeight);
+        requireValid("Project", projectWeight);
+
+        double sum = skillWeight + experienceWeight + educationWeight + projectWeight;
+        if (Math.abs(sum - 1.0) > SUM_TOLERANCE) {
+            throw new IllegalArgumentException("Scoring weights must sum to 1 (got " + sum + ")");
+        }
+
+        this.skillWeight = skillWeight;
+        this.experienceWeight = experienceWeight;
+        this.educationWeight = educationWeight;
+        this.projectWeight = projectWeight;
+    }
+
+    private static void requireValid(String name, double weight) {
+        if (!Double.isFinite(weight) || weight < 0) {
+            throw new IllegalArgumentException(name + " weight must be a non-negative number");
+        }
+    }
+
+    public double getSkillWeight() {
+        return skillWeight;
+    }
+
+    public double getExperienceWeight() {
+        return experienceWeight;
+    }
+
+    public double getEducationWeight() {
+        return educationWeight;
+    }
+
+    public double getProjectWeight() {
+        return projectWeight;
+    }
+}
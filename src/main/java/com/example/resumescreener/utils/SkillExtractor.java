@@ -64,6 +64,12 @@ public class SkillExtractor {
                 "apache spark", "hadoop", "apache kafka", "airflow", "tableau", "power bi"));
     }
 
+    // Aho-Corasick automaton over the skills database, built once and shared
+    private static final KeywordScanner SKILL_SCANNER = new KeywordScanner(TECHNICAL_SKILLS);
+
+    // Delimiters between entries of a "Skills" section: comma, bullet points, pipes
+    private static final Pattern SKILL_TOKEN_DELIMITER = Pattern.compile("[,;|•·\\n/]");
+
     // Skill synonyms map for normalization during extraction
     private static final Map<String, String> SKILL_SYNONYMS = new HashMap<>();
 
@@ -90,24 +96,33 @@ public class SkillExtractor {
      * @return Comma-separated string of extracted skills on lowercase
      */
     public String extractSkills(String text) {
-        if (text == null || text.trim().isEmpty()) {
+        return extractSkills(ResumeDocument.parse(text));
+    }
+
+    /**
+     * Extract skills from an already normalized resume document.
+     * 
+     * @param document Normalized and segmented resume
+     * @return Comma-separated string of extracted skills on lowercase
+     */
+    public String extractSkills(ResumeDocument document) {
+        if (document.isEmpty()) {
             return "";
         }
 
-        String normalizedText = normalizeText(text);
         Set<String> foundSkills = new LinkedHashSet<>();
 
-        // 1. Check for skills in specific "Skills" sections (High Confidence)
-        foundSkills.addAll(extractSkillsFromSection(normalizedText));
+        // 1. Check for skills in specific "Skills" sections (High Confidence),
+        // up to the next section header
+        String skillsSection = document.getLowerSectionBody(ResumeDocument.Section.SKILLS);
+        if (skillsSection != null) {
+            foundSkills.addAll(extractSkillsFromSection(skillsSection));
+        }
 
         // 2. Scan entire text for keywords (Broader Search)
-        // We iterate specifically over our defined tech skills to avoid false positives
-        for (String skill : TECHNICAL_SKILLS) {
-            // Optimization: Only regex search if simple contains check passes
-            if (normalizedText.contains(skill) && containsSkillCorrectly(normalizedText, skill)) {
-                foundSkills.add(skill);
-            }
-        }
+        // Single pass over the text; only our defined tech skills can match,
+        // and word boundaries are enforced to avoid false positives
+        foundSkills.addAll(SKILL_SCANNER.findWholeWords(document.getLowerText()));
 
         return foundSkills.stream()
                 .sorted()
@@ -115,74 +130,34 @@ public class SkillExtractor {
     }
 
     /**
-     * Check if text contains a skill using word boundaries.
-     * Prevents "java" matching inside "javascript" or "go" matching "google".
+     * Extract skills specifically from the content of a "Skills" header section.
+     * Only whole-token entries (after synonym normalization) are added here;
+     * versioned skills like "java 8" are already found as whole words by the
+     * full-text scan.
      */
-    private boolean containsSkillCorrectly(String text, String skill) {
-        // Escape special chars in skill name for regex (e.g., c++, .net)
-        String regexSkill = Pattern.quote(skill);
-        // Look for word boundaries. Special handling for skills ending in symbols like
-        // C++
-        String pattern = "\\b" + regexSkill + "(?!\\w)";
-        // Note: \\b matches start/end of word chars. For C++, the + are not word chars,
-        // so standard \\b at end might fail.
-        // Let's use a robust boundary check:
-        // Start: bound or start of line. End: bound or punctuation or whitespace.
-
-        // Simplified approach that works well for most tech terms:
-        // 1. If skill has special chars (c++, .net, node.js), simple boundary check
-        // logic is custom
-        if (skill.matches(".*[^a-z0-9].*")) {
-            return text.contains(skill); // Fallback to simple contains for complex terms to avoid regex issues,
-                                         // strictness handled by list
-        }
-
-        return Pattern.compile("\\b" + regexSkill + "\\b").matcher(text).find();
-    }
-
-    /**
-     * Extract skills specifically from a "Skills" header section.
-     */
-    private Set<String> extractSkillsFromSection(String text) {
+    private Set<String> extractSkillsFromSection(String sectionContent) {
         Set<String> skills = new HashSet<>();
 
-        // Advanced Regex to capture content under common Skill headers
-        // Captures text until double newline or next capitalized header
-        Pattern skillsSectionPattern = Pattern.compile(
-                "(?im)(?:^|\\n)\\s*(?:technical\\s+skills|core\\s+competencies|technologies|tech\\s+stack|programming\\s+languages|skills)\\s*[:|-]?\\s*\\n?([^\\n]+(?:\\n(?!\\s*[A-Z][a-z]+:)[^\\n]+)*)",
-                Pattern.MULTILINE);
-
-        java.util.regex.Matcher matcher = skillsSectionPattern.matcher(text);
-        while (matcher.find()) {
-            String sectionContent = matcher.group(1);
-            // Split by common delimiters: comma, bullet points, pipes
-            String[] tokens = sectionContent.split("[,;|•·\\n/]");
-
-            for (String token : tokens) {
-                String cleanToken = token.trim().toLowerCase();
-                // Normalize using synonym map
-                cleanToken = SKILL_SYNONYMS.getOrDefault(cleanToken, cleanToken);
-
-                if (TECHNICAL_SKILLS.contains(cleanToken)) {
-                    skills.add(cleanToken);
-                } else {
-                    // Startswith check for versioned skills like "java 8" -> "java"
-                    for (String tech : TECHNICAL_SKILLS) {
-                        if (cleanToken.startsWith(tech + " ")) {
-                            skills.add(tech);
-                        }
-                    }
-                }
+        for (String token : SKILL_TOKEN_DELIMITER.split(sectionContent)) {
+            String cleanToken = token.trim();
+            // Normalize using synonym map
+            cleanToken = SKILL_SYNONYMS.getOrDefault(cleanToken, cleanToken);
+
+            if (TECHNICAL_SKILLS.contains(cleanToken)) {
+                skills.add(cleanToken);
             }
         }
 
         return skills;
     }
 
-    private String normalizeText(String text) {
-        if (text == null)
-            return "";
-        return text.toLowerCase().replaceAll("\\s+", " ").trim();
+    /**
+     * Get the skills database used for extraction.
+     * 
+     * @return Unmodifiable set of known skills (lowercase)
+     */
+    public Set<String> getKnownSkills() {
+        return Collections.unmodifiableSet(TECHNICAL_SKILLS);
     }
 
     public Set<String> parseSkillsString(String skillsString) {
@@ -0,0 +1,160 @@
+package com.example.resumescreener.utils;
+
+import java.util.*;
+
+/**
+ * Dictionary that maps normalized skill names to dense int IDs and encodes
+ * skill sets as {@link SkillVector} bitsets.
+ *
+ * Known skills (the extractor's skills database and all synonym group members)
+ * get fixed IDs at construction, together with a precomputed bitset of the
+ * skills each one satisfies through synonyms. Skills outside the dictionary
+ * (e.g. free-text job requirements) get no ID: vectors carry them as names,
+ * they only ever match exactly, and the dictionary never grows.
+ *
+ * Instances are immutable and thread-safe.
+ */
+public class SkillIndex {
+
+    /**
+     * ID returned for skills outside the dictionary.
+     */
+    public static final int UNKNOWN = -1;
+
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final String[] knownNames;
+
+    // For each known skill: bitset of required skills it satisfies via synonyms
+    private final long[][] synonymReach;
+
+    /**
+     * Build the index.
+     *
+     * @param knownSkills   Skills database (normalized names)
+     * @param synonymGroups Synonym group lookup: normalized skill -> its group
+     */
+    public SkillIndex(Collection<String> knownSkills, Map<String, Set<String>> synonymGroups) {
+        Set<String> names = new TreeSet<>(knownSkills);
+        names.addAll(synonymGroups.keySet());
+        synonymGroups.values().forEach(names::addAll);
+
+        knownNames = names.toArray(new String[0]);
+        for (int id = 0; id < knownNames.length; id++) {
+            ids.put(knownNames[id], id);
+        }
+
+        // A resume skill s satisfies required skill r if s is in r's group
+        // or their groups overlap
+        synonymReach = new long[knownNames.length][];
+        for (int s = 0; s < knownNames.length; s++) {
+            Set<String> resumeGroup = synonymGroups.get(knownNames[s]);
+            long[] reach = new long[words(knownNames.length)];
+            for (int r = 0; r < knownNames.length; r++) {
+                Set<String> requiredGroup = synonymGroups.get(knownNames[r]);
+                if (requiredGroup == null) {
+                    continue;
+                }
+                if (requiredGroup.contains(knownNames[s])
+                        || (resumeGroup != null && !Collections.disjoint(requiredGroup, resumeGroup))) {
+                    setBit(reach, r);
+                }
+            }
+            synonymReach[s] = reach;
+        }
+    }
+
+    /**
+     * Get the ID of a normalized skill name.
+     *
+     * @param skill Normalized skill name
+     * @return Skill ID, or {@link #UNKNOWN} if the skill is not in the dictionary
+     */
+    public int idOf(String skill) {
+        return ids.getOrDefault(skill, UNKNOWN);
+    }
+
+    /**
+     * Get the skill name for an ID.
+     *
+     * @param id Skill ID
+     * @return Normalized skill name
+     */
+    public String nameOf(int id) {
+        return knownNames[id];
+    }
+
+    /**
+     * @return Names of the skills with fixed IDs (the dictionary), in ID order
+     */
+    public List<String> knownSkills() {
+        return List.of(knownNames);
+    }
+
+    /**
+     * Encode a collection of normalized skill names.
+     *
+     * @param skills Normalized skill names
+     * @return SkillVector with bits and synonym closure
+     */
+    public SkillVector encode(Collection<String> skills) {
+        if (skills.isEmpty()) {
+            return SkillVector.EMPTY;
+        }
+
+        long[] bits = new long[words(knownNames.length)];
+        long[] closure = new long[bits.length];
+        TreeSet<String> unknown = null;
+        for (String skill : skills) {
+            int id = idOf(skill);
+            if (id == UNKNOWN) {
+                if (unknown == null) {
+                    unknown = new TreeSet<>();
+                }
+                unknown.add(skill);
+                continue;
+            }
+
+            setBit(bits, id);
+            long[] reach = synonymReach[id];
+            for (int w = 0; w < reach.length; w++) {
+                closure[w] |= reach[w];
+            }
+        }
+        for (int w = 0; w < bits.length; w++) {
+            closure[w] |= bits[w];
+        }
+
+        String[] unknownSkills = unknown != null ? unknown.toArray(new String[0]) : SkillVector.NO_UNKNOWN_SKILLS;
+        return new SkillVector(bits, closure, unknownSkills);
+    }
+
+    static int words(int bitCount) {
+        return (bitCount + 63) >>> 6;
+    }
+
+    static void setBit(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    static boolean testBit(long[] bits, int index) {
+        int word = index >>> 6;
+        return word < bits.length && (bits[word] & (1L << index)) != 0;
+    }
+
+    static int cardinality(long[] bits) {
+        int count = 0;
+        for (long word : bits) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    static int countAnd(long[] a, long[] b) {
+        int count = 0;
+        int length = Math.min(a.length, b.length);
+        for (int w = 0; w < length; w++) {
+            count += Long.bitCount(a[w] & b[w]);
+        }
+        return count;
+    }
+}
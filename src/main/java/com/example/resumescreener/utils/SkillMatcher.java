@@ -16,6 +16,10 @@ import java.util.stream.Collectors;
  * - Missing skill handling
  * - Returns numeric skill score (0-100)
  * 
+ * Skills are mapped to dense int IDs by a {@link SkillIndex}, and skill sets
+ * are held as bitsets. Exact and synonym matching is an AND plus popcount over
+ * the required set and the resume set's synonym closure.
+ * 
  * BIAS CONTROL: This is a skill-first matching engine. It evaluates candidates
  * purely based on technical skills without considering any personal information
  * (name, gender, age, ethnicity, etc.). All matching is objective and based on
@@ -25,6 +29,7 @@ import java.util.stream.Collectors;
 public class SkillMatcher {
 
     private final SkillExtractor skillExtractor;
+    private final SkillIndex skillIndex;
 
     // Skill synonym map for partial matching
     // Key: skill variant, Value: canonical skill name
@@ -104,6 +109,27 @@ public class SkillMatcher {
     @Autowired
     public SkillMatcher(SkillExtractor skillExtractor) {
         this.skillExtractor = skillExtractor;
+        this.skillIndex = new SkillIndex(skillExtractor.getKnownSkills(), SKILL_SYNONYMS);
+    }
+
+    /**
+     * Encode a comma-separated skills string as a bitset skill vector.
+     * Vectors can be computed once and reused across many score calculations.
+     * 
+     * @param skillsString Comma-separated skills
+     * @return SkillVector of normalized skills
+     */
+    public SkillVector encode(String skillsString) {
+        return skillIndex.encode(parseSkills(skillsString));
+    }
+
+    /**
+     * Get the skill dictionary: known skills and all synonym group members.
+     * 
+     * @return Normalized skill names
+     */
+    public List<String> getKnownSkills() {
+        return skillIndex.knownSkills();
     }
 
     /**
@@ -122,116 +148,90 @@ public class SkillMatcher {
             return 0.0; // No skills in resume
         }
 
-        Set<String> resumeSkillSet = parseSkills(resumeSkills);
-        Set<String> requiredSkillSet = parseSkills(requiredSkills);
+        return calculateSkillScore(encode(resumeSkills), encode(requiredSkills));
+    }
 
-        if (requiredSkillSet.isEmpty()) {
-            return 100.0;
+    /**
+     * Calculate skill match score between resume skills and a compiled job.
+     * Same score as {@link #calculateSkillScore(String, String)} on the job's
+     * required skills, without encoding them again.
+     * 
+     * @param resumeSkills Comma-separated skills from resume
+     * @param job Compiled job profile
+     * @return Skill score (0-100)
+     */
+    public double calculateSkillScore(String resumeSkills, JobProfile job) {
+        if (!job.hasSkillRequirement()) {
+            return 100.0; // If no requirements, consider it a perfect match
         }
 
-        if (resumeSkillSet.isEmpty()) {
-            return 0.0;
+        if (resumeSkills == null || resumeSkills.trim().isEmpty()) {
+            return 0.0; // No skills in resume
         }
 
-        // Count matched skills
-        int matchedCount = countMatchedSkills(resumeSkillSet, requiredSkillSet);
-        
-        // Calculate score: (matched skills / total required skills) * 100
-        double score = (double) matchedCount / requiredSkillSet.size() * 100.0;
-        
-        // Ensure score is between 0 and 100
-        return Math.max(0.0, Math.min(100.0, score));
+        return calculateSkillScore(encode(resumeSkills), job.getRequiredSkills());
     }
 
     /**
-     * Count how many required skills are matched in resume skills.
-     * Uses exact match and synonym-based partial matching.
+     * Calculate skill match score between pre-encoded skill vectors.
+     * Does not allocate; suitable for scoring one job against many resumes.
      * 
-     * @param resumeSkillSet Set of skills from resume
-     * @param requiredSkillSet Set of required skills from job
-     * @return Number of matched skills
+     * @param resumeSkills Encoded resume skills
+     * @param requiredSkills Encoded required skills
+     * @return Skill score (0-100)
      */
-    private int countMatchedSkills(Set<String> resumeSkillSet, Set<String> requiredSkillSet) {
-        int matchedCount = 0;
-
-        for (String requiredSkill : requiredSkillSet) {
-            String normalizedRequired = normalizeSkill(requiredSkill);
-            
-            // Check exact match
-            if (resumeSkillSet.contains(normalizedRequired)) {
-                matchedCount++;
-                continue;
-            }
+    public double calculateSkillScore(SkillVector resumeSkills, SkillVector requiredSkills) {
+        if (requiredSkills.isEmpty()) {
+            return 100.0;
+        }
 
-            // Check synonym-based partial match
-            if (hasSynonymMatch(normalizedRequired, resumeSkillSet)) {
-                matchedCount++;
-            }
+        if (resumeSkills.isEmpty()) {
+            return 0.0;
         }
 
-        return matchedCount;
+        // Count matched skills (exact or synonym)
+        int matchedCount = resumeSkills.countCovered(requiredSkills);
+
+        return calculateSkillScore(matchedCount, requiredSkills.size());
     }
 
     /**
-     * Check if a required skill has a synonym match in resume skills.
+     * Calculate skill score from the number of required skills matched.
      * 
-     * @param requiredSkill Normalized required skill
-     * @param resumeSkillSet Set of resume skills
-     * @return true if synonym match found
+     * @param matchedCount Required skills covered by the resume
+     * @param requiredCount Total required skills
+     * @return Skill score (0-100)
      */
-    private boolean hasSynonymMatch(String requiredSkill, Set<String> resumeSkillSet) {
-        // Get synonyms for required skill
-        Set<String> requiredSynonyms = SKILL_SYNONYMS.get(requiredSkill);
-        if (requiredSynonyms == null) {
-            return false;
-        }
-
-        // Check if any resume skill matches any synonym
-        for (String resumeSkill : resumeSkillSet) {
-            String normalizedResume = normalizeSkill(resumeSkill);
-            
-            // Direct synonym match
-            if (requiredSynonyms.contains(normalizedResume)) {
-                return true;
-            }
-
-            // Check if resume skill has synonyms that overlap
-            Set<String> resumeSynonyms = SKILL_SYNONYMS.get(normalizedResume);
-            if (resumeSynonyms != null) {
-                // Check for intersection
-                Set<String> intersection = new HashSet<>(requiredSynonyms);
-                intersection.retainAll(resumeSynonyms);
-                if (!intersection.isEmpty()) {
-                    return true;
-                }
-            }
+    public double calculateSkillScore(int matchedCount, int requiredCount) {
+        if (requiredCount == 0) {
+            return 100.0;
         }
 
-        return false;
+        // Calculate score: (matched skills / total required skills) * 100
+        double score = (double) matchedCount / requiredCount * 100.0;
+        
+        // Ensure score is between 0 and 100
+        return Math.max(0.0, Math.min(100.0, score));
     }
 
     /**
      * Check for partial word match (e.g., "spring" matches "spring boot").
      * 
-     * @param requiredSkill Required skill
-     * @param resumeSkillSet Resume skills
+     * @param requiredSkill Normalized required skill
+     * @param resumeSkillSet Normalized resume skills
      * @return true if partial match found
      */
     private boolean hasPartialMatch(String requiredSkill, Set<String> resumeSkillSet) {
-        String normalizedRequired = normalizeSkill(requiredSkill);
-
         for (String resumeSkill : resumeSkillSet) {
-            String normalizedResume = normalizeSkill(resumeSkill);
-
             // Check if required skill is contained in resume skill
-            if (normalizedResume.contains(normalizedRequired) && 
-                normalizedResume.length() > normalizedRequired.length()) {
+            if (resumeSkill.contains(requiredSkill) && 
+                resumeSkill.length() > requiredSkill.length()) {
                 return true;
             }
 
             // Check if resume skill is contained in required skill
-            if (normalizedRequired.contains(normalizedResume) && 
-                normalizedRequired.length() > normalizedResume.length()) {
+            if (requiredSkill.contains(resumeSkill) && 
+                requiredSkill.length() > resumeSkill.length()) {
                 return true;
             }
         }
@@ -240,37 +240,93 @@ public class SkillMatcher {
     }
 
     /**
-     * Get list of missing skills (required but not found in resume).
+     * Match resume skills against required skills in one pass.
+     * Computes the skill score together with the matched and missing skill sets,
+     * so callers never need to parse the same pair of skill strings twice.
      * 
      * @param resumeSkills Comma-separated resume skills
      * @param requiredSkills Comma-separated required skills
-     * @return Set of missing skills
+     * @return MatchResult with score, matched skills and missing skills
      */
-    public Set<String> getMissingSkills(String resumeSkills, String requiredSkills) {
+    public MatchResult match(String resumeSkills, String requiredSkills) {
         if (requiredSkills == null || requiredSkills.trim().isEmpty()) {
-            return new HashSet<>();
+            return new MatchResult(100.0, new HashSet<>(), new HashSet<>());
+        }
+
+        if (resumeSkills == null || resumeSkills.trim().isEmpty()) {
+            return new MatchResult(0.0, new HashSet<>(), parseSkills(requiredSkills));
+        }
+
+        return match(encode(resumeSkills), encode(requiredSkills));
+    }
+
+    /**
+     * Match resume skills against a compiled job's required skills.
+     * Same result as {@link #match(String, String)} on the job's required skills.
+     * 
+     * @param resumeSkills Comma-separated resume skills
+     * @param job Compiled job profile
+     * @return MatchResult with score, matched skills and missing skills
+     */
+    public MatchResult match(String resumeSkills, JobProfile job) {
+        if (!job.hasSkillRequirement()) {
+            return new MatchResult(100.0, new HashSet<>(), new HashSet<>());
         }
 
         if (resumeSkills == null || resumeSkills.trim().isEmpty()) {
-            return parseSkills(requiredSkills);
+            return new MatchResult(0.0, new HashSet<>(), skillNames(job.getRequiredSkills()));
         }
 
-        Set<String> resumeSkillSet = parseSkills(resumeSkills);
-        Set<String> requiredSkillSet = parseSkills(requiredSkills);
+        return match(encode(resumeSkills), job.getRequiredSkills());
+    }
+
+    /**
+     * Match pre-encoded resume skills against pre-encoded required skills.
+     * 
+     * @param resumeSkills Encoded resume skills
+     * @param requiredSkills Encoded required skills
+     * @return MatchResult with score, matched skills and missing skills
+     */
+    public MatchResult match(SkillVector resumeSkills, SkillVector requiredSkills) {
+        double score = calculateSkillScore(resumeSkills, requiredSkills);
+        Set<String> resumeSkillSet = skillNames(resumeSkills);
+        Set<String> matchedSkills = new HashSet<>();
         Set<String> missingSkills = new HashSet<>();
 
-        for (String requiredSkill : requiredSkillSet) {
-            String normalizedRequired = normalizeSkill(requiredSkill);
-            
-            // Check if skill is missing (no exact or synonym match)
-            if (!resumeSkillSet.contains(normalizedRequired) && 
-                !hasSynonymMatch(normalizedRequired, resumeSkillSet) &&
-                !hasPartialMatch(normalizedRequired, resumeSkillSet)) {
+        for (int requiredId : requiredSkills.skillIds()) {
+            String requiredSkill = skillIndex.nameOf(requiredId);
+
+            // Matched if exact, synonym, or partial match; missing otherwise
+            if (resumeSkills.covers(requiredId) ||
+                hasPartialMatch(requiredSkill, resumeSkillSet)) {
+                matchedSkills.add(requiredSkill);
+            } else {
+                missingSkills.add(requiredSkill);
+            }
+        }
+
+        // Skills outside the dictionary have no synonyms: exact or partial match
+        for (String requiredSkill : requiredSkills.unknownSkills()) {
+            if (resumeSkills.containsUnknown(requiredSkill) ||
+                hasPartialMatch(requiredSkill, resumeSkillSet)) {
+                matchedSkills.add(requiredSkill);
+            } else {
                 missingSkills.add(requiredSkill);
             }
         }
 
-        return missingSkills;
+        return new MatchResult(score, matchedSkills, missingSkills);
+    }
+
+    /**
+     * Get list of missing skills (required but not found in resume).
+     * 
+     * @param resumeSkills Comma-separated resume skills
+     * @param requiredSkills Comma-separated required skills
+     * @return Set of missing skills
+     */
+    public Set<String> getMissingSkills(String resumeSkills, String requiredSkills) {
+        return match(resumeSkills, requiredSkills).getMissingSkills();
     }
 
     /**
@@ -281,30 +337,22 @@ public class SkillMatcher {
      * @return Set of matched skills
      */
     public Set<String> getMatchedSkills(String resumeSkills, String requiredSkills) {
-        if (requiredSkills == null || requiredSkills.trim().isEmpty()) {
-            return new HashSet<>();
-        }
-
-        if (resumeSkills == null || resumeSkills.trim().isEmpty()) {
-            return new HashSet<>();
-        }
-
-        Set<String> resumeSkillSet = parseSkills(resumeSkills);
-        Set<String> requiredSkillSet = parseSkills(requiredSkills);
-        Set<String> matchedSkills = new HashSet<>();
+        return match(resumeSkills, requiredSkills).getMatchedSkills();
+    }
 
-        for (String requiredSkill : requiredSkillSet) {
-            String normalizedRequired = normalizeSkill(requiredSkill);
-            
-            // Check if skill is matched (exact, synonym, or partial)
-            if (resumeSkillSet.contains(normalizedRequired) || 
-                hasSynonymMatch(normalizedRequired, resumeSkillSet) ||
-                hasPartialMatch(normalizedRequired, resumeSkillSet)) {
-                matchedSkills.add(requiredSkill);
-            }
+    /**
+     * Decode a skill vector back into skill names.
+     * 
+     * @param skills Encoded skills
+     * @return Set of normalized skill names
+     */
+    private Set<String> skillNames(SkillVector skills) {
+        Set<String> names = new HashSet<>();
+        for (int id : skills.skillIds()) {
+            names.add(skillIndex.nameOf(id));
         }
-
-        return matchedSkills;
+        names.addAll(Arrays.asList(skills.unknownSkills()));
+        return names;
     }
 
     /**
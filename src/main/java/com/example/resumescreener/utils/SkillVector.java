@@ -0,0 +1,136 @@
+package com.example.resumescreener.utils;
+
+import java.util.Arrays;
+
+/**
+ * Immutable set of skills encoded as bitsets over dense skill IDs from a
+ * {@link SkillIndex}.
+ *
+ * Besides the skills themselves, a vector carries the synonym closure of the
+ * set: every skill that counts as matched when this set is on the resume side.
+ * Exact and synonym matching against a required skill set is then a single
+ * AND plus popcount, with no allocation.
+ *
+ * Skills outside the index's dictionary have no ID; they are kept as sorted
+ * names and match only the same name on the other side.
+ */
+public final class SkillVector {
+
+    static final String[] NO_UNKNOWN_SKILLS = new String[0];
+
+    static final SkillVector EMPTY = new SkillVector(new long[0], new long[0], NO_UNKNOWN_SKILLS);
+
+    private final long[] bits;
+    private final long[] closure;
+    private final String[] unknownSkills;
+    private final int size;
+
+    SkillVector(long[] bits, long[] closure, String[] unknownSkills) {
+        this.bits = bits;
+        this.closure = closure;
+        this.unknownSkills = unknownSkills;
+        this.size = SkillIndex.cardinality(bits) + unknownSkills.length;
+    }
+
+    /**
+     * @return Number of distinct skills in the set
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true if the set has no skills
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Check whether a skill ID is in the set.
+     *
+     * @param skillId Skill ID
+     * @return true if present
+     */
+    public boolean contains(int skillId) {
+        return SkillIndex.testBit(bits, skillId);
+    }
+
+    /**
+     * Check whether a skill ID is covered by this set, exactly or via synonyms.
+     *
+     * @param skillId Skill ID
+     * @return true if covered
+     */
+    public boolean covers(int skillId) {
+        return SkillIndex.testBit(closure, skillId);
+    }
+
+    /**
+     * Count the skills of a required set that this (resume) set covers,
+     * exactly or via synonyms.
+     *
+     * @param required Required skill set
+     * @return Number of required skills covered
+     */
+    public int countCovered(SkillVector required) {
+        int count = SkillIndex.countAnd(required.bits, closure);
+        if (required.unknownSkills.length == 0 || unknownSkills.length == 0) {
+            return count;
+        }
+
+        // Both name arrays are sorted: merge
+        int i = 0;
+        int j = 0;
+        while (i < required.unknownSkills.length && j < unknownSkills.length) {
+            int cmp = required.unknownSkills[i].compareTo(unknownSkills[j]);
+            if (cmp == 0) {
+                count++;
+                i++;
+                j++;
+            } else if (cmp < 0) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Check whether a skill outside the dictionary is in the set.
+     *
+     * @param skill Normalized skill name
+     * @return true if present
+     */
+    public boolean containsUnknown(String skill) {
+        return Arrays.binarySearch(unknownSkills, skill) >= 0;
+    }
+
+    /**
+     * List the skills outside the dictionary, in ascending order.
+     *
+     * @return Normalized skill names (do not modify)
+     */
+    public String[] unknownSkills() {
+        return unknownSkills;
+    }
+
+    /**
+     * List the IDs of the dictionary skills in the set, in ascending order.
+     *
+     * @return Skill IDs
+     */
+    public int[] skillIds() {
+        int[] ids = new int[size - unknownSkills.length];
+        int i = 0;
+        for (int w = 0; w < bits.length; w++) {
+            long word = bits[w];
+            while (word != 0) {
+                ids[i++] = (w << 6) + Long.numberOfTrailingZeros(word);
+                word &= word - 1;
+            }
+        }
+        return ids;
+    }
+}
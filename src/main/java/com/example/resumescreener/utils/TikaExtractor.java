@@ -1,59 +1,313 @@
 package com.example.resumescreener.utils;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import org.apache.tika.Tika;
+import org.apache.tika.config.TikaConfig;
 import org.apache.tika.exception.TikaException;
+import org.apache.tika.fork.ForkParser;
+import org.apache.tika.fork.ParserFactoryFactory;
+import org.apache.tika.io.TikaInputStream;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.metadata.TikaCoreProperties;
+import org.apache.tika.parser.AutoDetectParser;
+import org.apache.tika.parser.AutoDetectParserFactory;
+import org.apache.tika.parser.ParseContext;
+import org.apache.tika.parser.Parser;
+import org.apache.tika.sax.BodyContentHandler;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.SAXException;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.List;
 
 /**
  * Utility class for extracting text from documents using Apache Tika.
- * Supports PDF, DOCX, DOC, and other document formats.
+ * Supports PDF, DOCX and DOC.
+ * 
+ * Tika is configured from app.tika.config (tika-config.xml on the classpath),
+ * which registers only the parsers and detectors for the accepted upload types
+ * instead of the full standard parser registry. At startup a background thread
+ * runs a few bundled sample documents through the extractor, so the first
+ * real upload does not pay for lazy parser initialization; {@link #isReady()}
+ * reports when that has finished.
+ * 
+ * By default documents are parsed inside the application JVM. With
+ * app.tika.fork.enabled, parsing runs in a pool of forked JVMs instead: each
+ * child has its own heap cap and a per-document timeout, and a child that
+ * crashes, runs out of memory or times out is killed and replaced. A hostile
+ * document then fails only its own upload. Type detection always runs
+ * in-process, since it reads just the leading bytes.
+ * 
+ * Extraction is bounded by app.tika.max-characters and app.tika.max-pages: the
+ * parse stops as soon as either is exceeded and the result is marked truncated.
+ * 
+ * DOCX files take a fast path through {@link DocxTextExtractor}, which streams
+ * the text runs out of the zip without building the POI object model. Anything
+ * it cannot handle falls back to Tika. The fast path is skipped in fork mode,
+ * where all parsing is meant to stay out of the application JVM.
  */
 @Component
 public class TikaExtractor {
 
-    private final Tika tika;
+    private static final Logger log = LoggerFactory.getLogger(TikaExtractor.class);
 
-    public TikaExtractor() {
-        this.tika = new Tika();
+    // Sample documents parsed once at startup to initialize the parsers
+    private static final String[] WARM_UP_SAMPLES = {"sample.pdf", "sample.docx"};
+
+    private TikaConfig tikaConfig;
+    private Tika tika;
+    private volatile boolean ready;
+
+    // Classpath location of the Tika configuration; if empty, all standard parsers are registered
+    @Value("${app.tika.config:tika-config.xml}")
+    private String configLocation;
+
+    @Value("${app.tika.warm-up:true}")
+    private boolean warmUp;
+
+    @Value("${app.tika.docx-fast-path:true}")
+    private boolean docxFastPath;
+
+    @Value("${app.tika.max-characters:100000}")
+    private int maxCharacters;
+
+    @Value("${app.tika.max-pages:50}")
+    private int maxPages;
+
+    @Value("${app.tika.fork.enabled:false}")
+    private boolean forkEnabled;
+
+    @Value("${app.tika.fork.pool-size:2}")
+    private int forkPoolSize;
+
+    @Value("${app.tika.fork.heap-mb:256}")
+    private int forkHeapMB;
+
+    @Value("${app.tika.fork.parse-timeout-ms:30000}")
+    private long forkParseTimeoutMillis;
+
+    @Value("${app.tika.fork.max-files-per-process:500}")
+    private int forkMaxFilesPerProcess;
+
+    @Value("${app.tika.fork.java-command:java}")
+    private String forkJavaCommand;
+
+    // Directory with the Tika jars for the child JVMs; if empty, classes are
+    // served to the children from the application class loader
+    @Value("${app.tika.fork.tika-bin:}")
+    private String forkTikaBin;
+
+    private ForkParser forkParser;
+
+    private final DocxTextExtractor docxTextExtractor = new DocxTextExtractor();
+
+    /**
+     * Load the Tika configuration, start the forked parser pool if enabled,
+     * and start the background warm-up.
+     * 
+     * @throws IllegalStateException if the Tika configuration cannot be loaded
+     */
+    @PostConstruct
+    public void init() {
+        tikaConfig = loadConfig();
+        tika = new Tika(tikaConfig);
+
+        if (forkEnabled) {
+            forkParser = createForkParser();
+        }
+
+        if (warmUp) {
+            Thread warmUpThread = new Thread(this::warmUp, "tika-warm-up");
+            warmUpThread.setDaemon(true);
+            warmUpThread.start();
+        } else {
+            ready = true;
+        }
     }
 
     /**
-     * Extract text content from a multipart file.
+     * @return true once the parsers have been initialized by the startup warm-up
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private TikaConfig loadConfig() {
+        if (configLocation == null || configLocation.isBlank()) {
+            return TikaConfig.getDefaultConfig();
+        }
+        try (InputStream config = TikaExtractor.class.getClassLoader().getResourceAsStream(configLocation)) {
+            if (config == null) {
+                throw new IllegalStateException("Tika configuration not found on classpath: " + configLocation);
+            }
+            return new TikaConfig(config);
+        } catch (IOException | TikaException | SAXException e) {
+            throw new IllegalStateException("Failed to load Tika configuration " + configLocation, e);
+        }
+    }
+
+    /**
+     * Run the bundled samples through detection and parsing (in fork mode this also
+     * starts a child JVM). Failures are logged; the extractor is usable either way.
+     */
+    private void warmUp() {
+        for (String sample : WARM_UP_SAMPLES) {
+            try (InputStream inputStream = TikaExtractor.class.getClassLoader()
+                    .getResourceAsStream("tika-warmup/" + sample)) {
+                if (inputStream != null) {
+                    extract(inputStream, sample);
+                }
+            } catch (Exception e) {
+                log.warn("Tika warm-up failed for {}", sample, e);
+            }
+        }
+        ready = true;
+    }
+
+    /**
+     * Create the forked parser pool. Child JVMs are launched lazily on first use.
+     */
+    private ForkParser createForkParser() {
+        ForkParser parser = forkTikaBin.isBlank()
+                ? new ForkParser(TikaExtractor.class.getClassLoader(), new AutoDetectParser(tikaConfig))
+                : new ForkParser(Paths.get(forkTikaBin),
+                        new ParserFactoryFactory(AutoDetectParserFactory.class.getName(), Collections.emptyMap()));
+        parser.setPoolSize(forkPoolSize);
+        parser.setJavaCommand(List.of(forkJavaCommand, "-Xmx" + forkHeapMB + "m", "-Djava.awt.headless=true"));
+        parser.setServerParseTimeoutMillis(forkParseTimeoutMillis);
+        parser.setMaxFilesProcessedPerServer(forkMaxFilesPerProcess);
+        return parser;
+    }
+
+    /**
+     * Shut down the forked parser pool (kills the child JVMs).
+     */
+    @PreDestroy
+    public void close() {
+        if (forkParser != null) {
+            forkParser.close();
+        }
+    }
+
+    /**
+     * Extract text and detect the MIME type of a multipart file in one read.
      * 
      * @param file Multipart file (PDF, DOCX, DOC, etc.)
-     * @return Extracted text as String
+     * @return Extracted text and detected MIME type
      * @throws IOException if file reading fails
      * @throws TikaException if text extraction fails
      */
-    public String extractText(MultipartFile file) throws IOException, TikaException {
+    public ExtractedDocument extract(MultipartFile file) throws IOException, TikaException {
         if (file == null || file.isEmpty()) {
             throw new IllegalArgumentException("File is null or empty");
         }
 
-        try (InputStream inputStream = file.getInputStream()) {
-            String extractedText = tika.parseToString(inputStream);
-            return extractedText != null ? extractedText.trim() : "";
-        }
+        return extract(file.getInputStream(), file.getOriginalFilename());
     }
 
     /**
-     * Detect MIME type of the file.
+     * Extract text and detect the MIME type of a file on disk in one read
+     * (e.g. an upload spooled for async processing).
      * 
-     * @param file Multipart file
-     * @return MIME type (e.g., "application/pdf")
+     * @param path Path to the document
+     * @param fileName Original file name (used as a detection hint)
+     * @return Extracted text and detected MIME type
      * @throws IOException if file reading fails
+     * @throws TikaException if text extraction fails
      */
-    public String detectMimeType(MultipartFile file) throws IOException {
-        if (file == null || file.isEmpty()) {
-            throw new IllegalArgumentException("File is null or empty");
+    public ExtractedDocument extract(Path path, String fileName) throws IOException, TikaException {
+        return extract(Files.newInputStream(path), fileName);
+    }
+
+    /**
+     * Extract text and detect the MIME type from a stream, reading it only once.
+     * Detection looks at the leading magic bytes through a mark/reset buffer, so
+     * the same stream then feeds the parser; the detected type is passed on as a
+     * hint. The stream is closed when done.
+     * 
+     * @param inputStream Document content
+     * @param fileName Original file name (used as a detection hint, can be null)
+     * @return Extracted text (within the extraction budget) and detected MIME type
+     * @throws IOException if stream reading fails
+     * @throws TikaException if text extraction fails
+     */
+    public ExtractedDocument extract(InputStream inputStream, String fileName) throws IOException, TikaException {
+        Metadata metadata = new Metadata();
+        if (fileName != null) {
+            metadata.set(TikaCoreProperties.RESOURCE_NAME_KEY, fileName);
         }
 
-        try (InputStream inputStream = file.getInputStream()) {
-            return tika.detect(inputStream, file.getOriginalFilename());
+        try (TikaInputStream stream = TikaInputStream.get(inputStream)) {
+            // Detect from the buffered prefix; the stream is reset afterwards
+            String mimeType = tika.detect(stream, metadata);
+            metadata.set(Metadata.CONTENT_TYPE, mimeType);
+
+            if (docxFastPath && forkParser == null && DocxTextExtractor.DOCX_MIME_TYPE.equals(mimeType)) {
+                ExtractedDocument document = extractDocx(stream);
+                if (document != null) {
+                    return document;
+                }
+            }
+
+            BoundedTextHandler handler = parse(stream, metadata);
+            return new ExtractedDocument(handler.toString().trim(), mimeType, handler.isTruncated());
+        }
+    }
+
+    /**
+     * Try the DOCX fast path. The stream is spooled to a temporary file (owned by
+     * the TikaInputStream) so the zip can be read by random access and the stream
+     * can still be parsed by Tika afterwards.
+     * 
+     * @return Extracted document, or null to fall back to Tika
+     */
+    private ExtractedDocument extractDocx(TikaInputStream stream) {
+        try {
+            ExtractedDocument document = docxTextExtractor.extract(stream.getPath(), maxCharacters);
+            // No text (e.g. strict OOXML namespaces): let Tika have a go
+            return document.getText().isEmpty() ? null : document;
+        } catch (IOException | RuntimeException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Stream the document through a bounded text handler, in-process or in the forked pool.
+     * 
+     * @throws TikaException if parsing fails (in fork mode also: times out or the child JVM dies)
+     */
+    private BoundedTextHandler parse(InputStream stream, Metadata metadata) throws IOException, TikaException {
+        BoundedTextHandler handler = new BoundedTextHandler(maxCharacters, maxPages);
+        ParseContext context = new ParseContext();
+        try {
+            if (forkParser != null) {
+                forkParser.parse(stream, new BodyContentHandler(handler), metadata, context);
+            } else {
+                // Same setup as Tika.parseToString: embedded documents use the same parser
+                context.set(Parser.class, tika.getParser());
+                tika.getParser().parse(stream, new BodyContentHandler(handler), metadata, context);
+            }
+        } catch (SAXException e) {
+            // Hitting the budget keeps the text read so far
+            if (!handler.isTruncated()) {
+                throw new TikaException("Unexpected SAX processing failure", e);
+            }
+        } catch (TikaException e) {
+            // Some parsers wrap handler exceptions
+            if (!handler.isTruncated()) {
+                throw e;
+            }
         }
+        return handler;
     }
 }
@@ -0,0 +1,209 @@
+package com.example.resumescreener.utils;
+
+import com.example.resumescreener.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Admission control for text extraction, on the request thread (sync upload,
+ * stream, reextract) as well as on the background pool (async uploads, bulk
+ * imports). Budgets both the number of concurrent extractions and the bytes in
+ * flight, so a burst of large PDFs cannot exhaust the heap shared with the
+ * ranking API.
+ *
+ * Requests that do not fit wait in a bounded FIFO queue. When the queue is full,
+ * or a request has waited too long, it is rejected with a
+ * {@link TooManyRequestsException} (429 with Retry-After; background work fails
+ * the affected file instead). A single upload larger than the whole byte budget
+ * is admitted on its own.
+ */
+@Component
+public class UploadAdmission {
+
+    private static final String REJECTION_MESSAGE = "Too many uploads are being processed. Please retry later.";
+
+    @Value("${app.resume.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.resume.admission.max-concurrent-extractions:4}")
+    private int maxConcurrentExtractions;
+
+    @Value("${app.resume.admission.max-in-flight-mb:64}")
+    private long maxInFlightMB;
+
+    @Value("${app.resume.admission.max-queued:32}")
+    private int maxQueued;
+
+    @Value("${app.resume.admission.queue-timeout-ms:10000}")
+    private long queueTimeoutMs;
+
+    @Value("${app.resume.admission.retry-after-seconds:5}")
+    private long retryAfterSeconds;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+    // Tickets of waiting requests, oldest first
+    private final Deque<Object> waiting = new ArrayDeque<>();
+
+    // Written under the lock; volatile so metrics can be read without it
+    private volatile int activeExtractions;
+    private volatile long inFlightBytes;
+    private volatile int queueDepth;
+    private volatile int peakQueueDepth;
+    private volatile long admittedCount;
+    private volatile long rejectedQueueFullCount;
+    private volatile long rejectedTimeoutCount;
+
+    /**
+     * Admit an upload, waiting in the queue if the budget is used up.
+     * Close the returned permit when extraction is done.
+     *
+     * @param bytes Size of the upload in bytes
+     * @return Permit holding the upload's share of the budget
+     * @throws TooManyRequestsException if the queue is full or the wait timed out
+     */
+    public Permit admit(long bytes) {
+        if (!enabled) {
+            return new Permit(0);
+        }
+        // At least 1 so every upload counts; at most the budget so oversized uploads can run alone
+        long weight = Math.max(1, Math.min(bytes, maxInFlightBytes()));
+
+        lock.lock();
+        try {
+            // Do not overtake requests that are already waiting
+            if (waiting.isEmpty() && hasRoom(weight)) {
+                return acquire(weight);
+            }
+            if (waiting.size() >= maxQueued) {
+                rejectedQueueFullCount++;
+                throw new TooManyRequestsException(REJECTION_MESSAGE, retryAfterSeconds);
+            }
+
+            Object ticket = new Object();
+            waiting.addLast(ticket);
+            queueDepth = waiting.size();
+            peakQueueDepth = Math.max(peakQueueDepth, queueDepth);
+            try {
+                long remainingNanos = TimeUnit.MILLISECONDS.toNanos(queueTimeoutMs);
+                while (waiting.peekFirst() != ticket || !hasRoom(weight)) {
+                    if (remainingNanos <= 0) {
+                        rejectedTimeoutCount++;
+                        throw new TooManyRequestsException(REJECTION_MESSAGE, retryAfterSeconds);
+                    }
+                    remainingNanos = released.awaitNanos(remainingNanos);
+                }
+                return acquire(weight);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejectedTimeoutCount++;
+                throw new TooManyRequestsException(REJECTION_MESSAGE, retryAfterSeconds);
+            } finally {
+                // Let the next waiter re-check, whether this one was admitted or gave up
+                waiting.remove(ticket);
+                queueDepth = waiting.size();
+                released.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean hasRoom(long weight) {
+        return activeExtractions < maxConcurrentExtractions && inFlightBytes + weight <= maxInFlightBytes();
+    }
+
+    private Permit acquire(long weight) {
+        activeExtractions++;
+        inFlightBytes += weight;
+        admittedCount++;
+        return new Permit(weight);
+    }
+
+    private void release(long weight) {
+        lock.lock();
+        try {
+            activeExtractions--;
+            inFlightBytes -= weight;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long maxInFlightBytes() {
+        return maxInFlightMB * 1024 * 1024; // Convert MB to bytes
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public int getMaxConcurrentExtractions() {
+        return maxConcurrentExtractions;
+    }
+
+    public long getMaxInFlightBytes() {
+        return maxInFlightBytes();
+    }
+
+    public int getMaxQueued() {
+        return maxQueued;
+    }
+
+    public int getActiveExtractions() {
+        return activeExtractions;
+    }
+
+    public long getInFlightBytes() {
+        return inFlightBytes;
+    }
+
+    public int getQueueDepth() {
+        return queueDepth;
+    }
+
+    public int getPeakQueueDepth() {
+        return peakQueueDepth;
+    }
+
+    public long getAdmittedCount() {
+        return admittedCount;
+    }
+
+    public long getRejectedQueueFullCount() {
+        return rejectedQueueFullCount;
+    }
+
+    public long getRejectedTimeoutCount() {
+        return rejectedTimeoutCount;
+    }
+
+    /**
+     * An admitted upload's share of the budget. Closing it more than once has no effect.
+     */
+    public final class Permit implements AutoCloseable {
+
+        private final long weight;
+        private boolean closed;
+
+        private Permit(long weight) {
+            this.weight = weight;
+        }
+
+        @Override
+        public void close() {
+            if (closed || weight == 0) {
+                return;
+            }
+            closed = true;
+            release(weight);
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.resumescreener.utils;
+
+/**
+ * Priority class of background work on the shared {@link PriorityTaskExecutor}.
+ * INTERACTIVE is work a user is waiting for (e.g. an async upload from the UI),
+ * BULK is large imports, and MAINTENANCE is housekeeping such as parse retries.
+ */
+public enum WorkClass {
+    INTERACTIVE,
+    BULK,
+    MAINTENANCE
+}
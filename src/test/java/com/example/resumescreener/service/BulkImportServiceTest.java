@@ -0,0 +1,149 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.dto.BulkImportResponse;
+import com.example.resumescreener.dto.BulkImportResult;
+import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.ProcessingStatus;
+import com.example.resumescreener.repository.ResumeRepository;
+import com.example.resumescreener.utils.ContentHasher;
+import com.example.resumescreener.utils.ExtractedDocument;
+import com.example.resumescreener.utils.PriorityTaskExecutor;
+import com.example.resumescreener.utils.ResumeFileStore;
+import com.example.resumescreener.utils.TikaExtractor;
+import com.example.resumescreener.utils.UploadAdmission;
+import com.example.resumescreener.utils.WorkClass;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Checks that a batch which cannot be saved because another request stored one
+ * of its files meanwhile still imports every other file, and reports that file
+ * as a duplicate of the concurrently stored resume.
+ *
+ * Not transactional, so each save commits the way it does in the running
+ * application.
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BulkImportServiceTest {
+
+    private static final String CONCURRENT_FILE = "resume-3.pdf";
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    private PriorityTaskExecutor executor;
+    private BulkImportService bulkImportService;
+    // ID of the resume saved by the "other request" while the import was running
+    private volatile Long concurrentId;
+
+    @BeforeEach
+    void createService() {
+        executor = new PriorityTaskExecutor("bulk-test-", 2);
+        executor.configureClass(WorkClass.BULK, 1, 16, true);
+        executor.initialize();
+
+        bulkImportService = new BulkImportService(
+                resumeRepository,
+                new ConcurrentUploadTikaExtractor(),
+                mock(ResumeParserService.class),
+                executor.forClass(WorkClass.BULK),
+                mock(ResumeFileStore.class),
+                mock(ParseQueueService.class),
+                // Not configured, so admission is disabled
+                new UploadAdmission());
+        ReflectionTestUtils.setField(bulkImportService, "allowedFileTypes", "application/pdf");
+        ReflectionTestUtils.setField(bulkImportService, "maxFileSizeMB", 10L);
+        ReflectionTestUtils.setField(bulkImportService, "batchSize", 50);
+        ReflectionTestUtils.setField(bulkImportService, "maxFiles", 5000);
+        ReflectionTestUtils.setField(bulkImportService, "maxInFlightMB", 64L);
+    }
+
+    @AfterEach
+    void cleanUp() throws InterruptedException {
+        executor.destroy();
+        resumeRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentDuplicateInTheMiddleOfABatchFailsOnlyThatFile() {
+        List<MultipartFile> files = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            String fileName = "resume-" + i + ".pdf";
+            files.add(new MockMultipartFile("files", fileName, "application/pdf",
+                    ("Resume " + i + " Java Spring Boot").getBytes(StandardCharsets.UTF_8)));
+        }
+
+        // All six files fit in one batch, whose save fails on the third
+        BulkImportResponse response = bulkImportService.importResumes(files);
+
+        assertNotNull(concurrentId);
+        assertEquals(6, response.getTotal());
+        assertEquals(5, response.getImported());
+        assertEquals(1, response.getDuplicates());
+        assertEquals(0, response.getFailed());
+
+        Set<Long> importedIds = new HashSet<>();
+        for (BulkImportResult result : response.getResults()) {
+            if (result.getFileName().equals(CONCURRENT_FILE)) {
+                assertEquals(BulkImportResult.STATUS_DUPLICATE, result.getStatus());
+                assertEquals(concurrentId, result.getResumeId());
+            } else {
+                assertEquals(BulkImportResult.STATUS_IMPORTED, result.getStatus(), result.getFileName());
+                assertTrue(resumeRepository.existsById(result.getResumeId()), result.getFileName());
+                importedIds.add(result.getResumeId());
+            }
+        }
+        assertEquals(5, importedIds.size());
+        // The five imported resumes and the concurrently stored one
+        assertEquals(6, resumeRepository.count());
+    }
+
+    /**
+     * Extractor that returns the file content as text, and while extracting
+     * {@link #CONCURRENT_FILE} stores a resume with the same content, as a
+     * concurrent upload of that file would after the import checked for it.
+     */
+    private class ConcurrentUploadTikaExtractor extends TikaExtractor {
+
+        @Override
+        public ExtractedDocument extract(InputStream inputStream, String fileName) {
+            byte[] content;
+            try {
+                content = inputStream.readAllBytes();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+
+            if (fileName.equals(CONCURRENT_FILE)) {
+                CandidateResume concurrent = new CandidateResume(fileName, "application/pdf", (long) content.length);
+                concurrent.setContentHash(ContentHasher.sha256Hex(content));
+                concurrent.setExtractedText(new String(content, StandardCharsets.UTF_8));
+                concurrent.setProcessingStatus(ProcessingStatus.COMPLETED);
+                concurrentId = resumeRepository.save(concurrent).getId();
+            }
+            return new ExtractedDocument(new String(content, StandardCharsets.UTF_8), "application/pdf", false);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.model.ParseWorkItem;
+import com.example.resumescreener.model.WorkItemStatus;
+import com.example.resumescreener.repository.ParseWorkItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that several workers draining one backlog claim every item exactly
+ * once. Each worker is a ParseQueueService with its own instance ID and its own
+ * connections, so for the database they behave like separate instances.
+ *
+ * Needs a database with SELECT ... FOR UPDATE SKIP LOCKED (H2 has none), so it
+ * only runs when pointed at one, e.g. an empty MySQL 8 schema:
+ *
+ * mvn test -Dtest=ParseQueueConcurrencyTest -Dparse-queue.concurrency-test=true
+ *   -Dspring.datasource.url=jdbc:mysql://localhost:3306/resume_screener_test?createDatabaseIfNotExist=true
+ *   -Dspring.datasource.driver-class-name=com.mysql.cj.jdbc.Driver
+ *   -Dspring.datasource.username=... -Dspring.datasource.password=...
+ *   -Dspring.jpa.properties.hibernate.dialect=org.hibernate.dialect.MySQLDialect
+ */
+@DataJpaTest(properties = {
+        "app.parse-queue.batch-size=5",
+        "app.parse-queue.backoff-base-seconds=0"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@EnabledIfSystemProperty(named = "parse-queue.concurrency-test", matches = "true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ParseQueueConcurrencyTest {
+
+    private static final int WORKERS = 4;
+    private static final int BACKLOG = 500;
+
+    @Autowired
+    private ParseWorkItemRepository workItemRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @AfterEach
+    void deleteAll() {
+        workItemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void workersDrainBacklogClaimingEachItemOnce() throws Exception {
+        List<ParseQueueService> workers = new ArrayList<>();
+        for (int i = 0; i < WORKERS; i++) {
+            workers.add(applicationContext.getAutowireCapableBeanFactory().createBean(ParseQueueService.class));
+        }
+        // With no backoff, queued items are due at once
+        for (long resumeId = 1; resumeId <= BACKLOG; resumeId++) {
+            workers.get(0).enqueue(resumeId, "Parsing failed");
+        }
+
+        // Item ID -> worker that claimed it
+        Map<Long, String> claimedBy = new ConcurrentHashMap<>();
+        AtomicInteger claimedTwice = new AtomicInteger();
+        AtomicInteger lostLeases = new AtomicInteger();
+
+        ExecutorService threads = Executors.newFixedThreadPool(WORKERS);
+        try {
+            List<Future<?>> running = new ArrayList<>();
+            for (ParseQueueService worker : workers) {
+                running.add(threads.submit(() -> {
+                    List<ParseWorkItem> claimed;
+                    while (!(claimed = worker.claim()).isEmpty()) {
+                        for (ParseWorkItem item : claimed) {
+                            if (claimedBy.putIfAbsent(item.getId(), worker.getInstanceId()) != null) {
+                                claimedTwice.incrementAndGet();
+                            }
+                            if (!worker.complete(item)) {
+                                lostLeases.incrementAndGet();
+                            }
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : running) {
+                future.get();
+            }
+        } finally {
+            threads.shutdown();
+        }
+
+        assertEquals(0, claimedTwice.get(), "items claimed by more than one worker");
+        assertEquals(0, lostLeases.get(), "leases lost while completing");
+        assertEquals(BACKLOG, claimedBy.size());
+        assertEquals(BACKLOG, workItemRepository.countByStatus(WorkItemStatus.DONE));
+        // The workers claimed side by side instead of one at a time
+        assertTrue(claimedBy.values().stream().distinct().count() > 1, "only one worker claimed items");
+    }
+}
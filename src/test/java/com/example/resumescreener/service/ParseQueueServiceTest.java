@@ -0,0 +1,191 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.model.ParseWorkItem;
+import com.example.resumescreener.model.WorkItemStatus;
+import com.example.resumescreener.repository.ParseWorkItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the lease protocol of the parse work queue with two workers, each a
+ * ParseQueueService with its own instance ID: claiming, completing and failing
+ * with backoff, reclaiming an expired lease, and a worker that lost its lease
+ * changing nothing.
+ *
+ * Not transactional, so every claim and lease update commits the way it does in
+ * the running application. Time is moved forward by editing the stored item.
+ */
+@DataJpaTest(properties = {
+        "app.parse-queue.max-attempts=2",
+        "app.parse-queue.lease-seconds=300",
+        "app.parse-queue.backoff-base-seconds=60",
+        "app.parse-queue.backoff-max-seconds=3600"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ParseQueueServiceTest {
+
+    private static final long RESUME_ID = 42L;
+
+    @Autowired
+    private ParseWorkItemRepository workItemRepository;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    private ParseQueueService workerA;
+    private ParseQueueService workerB;
+
+    @BeforeEach
+    void createWorkers() {
+        // Separate beans, so each gets its own generated instance ID
+        workerA = applicationContext.getAutowireCapableBeanFactory().createBean(ParseQueueService.class);
+        workerB = applicationContext.getAutowireCapableBeanFactory().createBean(ParseQueueService.class);
+    }
+
+    @AfterEach
+    void deleteAll() {
+        workItemRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void claimedItemIsCompleted() {
+        workerA.enqueue(RESUME_ID, "Parsing failed");
+        // A second failure of the same resume is covered by the open item
+        workerA.enqueue(RESUME_ID, "Parsing failed again");
+        assertEquals(1, workItemRepository.count());
+
+        // Not due until the first backoff has passed
+        assertTrue(workerA.claim().isEmpty());
+        ParseWorkItem item = onlyItem();
+        assertTrue(item.getAvailableAt().isAfter(LocalDateTime.now().plusSeconds(50)));
+
+        update(item.getId(), due -> due.setAvailableAt(LocalDateTime.now().minusSeconds(1)));
+        List<ParseWorkItem> claimed = workerA.claim();
+        assertEquals(1, claimed.size());
+        ParseWorkItem leased = onlyItem();
+        assertEquals(WorkItemStatus.LEASED, leased.getStatus());
+        assertEquals(workerA.getInstanceId(), leased.getLeaseOwner());
+        assertEquals(1, leased.getAttempts());
+
+        // Leased items are not handed to another worker
+        assertTrue(workerB.claim().isEmpty());
+
+        assertTrue(workerA.complete(claimed.get(0)));
+        ParseWorkItem done = onlyItem();
+        assertEquals(WorkItemStatus.DONE, done.getStatus());
+        assertNull(done.getLeaseOwner());
+        assertNull(done.getLeaseExpiresAt());
+
+        // Once the item has ended, the resume can be queued again
+        workerA.enqueue(RESUME_ID, "Parsing failed");
+        assertEquals(1, workItemRepository.countByStatus(WorkItemStatus.PENDING));
+    }
+
+    @Test
+    void failedItemIsRetriedAfterBackoffUntilAttemptsRunOut() {
+        ParseWorkItem item = claimDueItem(workerA);
+
+        LocalDateTime failedAt = LocalDateTime.now();
+        assertTrue(workerA.fail(item, "Parser crashed", true));
+        ParseWorkItem retry = onlyItem();
+        assertEquals(WorkItemStatus.PENDING, retry.getStatus());
+        assertEquals("Parser crashed", retry.getLastError());
+        assertNull(retry.getLeaseOwner());
+        // Second attempt waits base * 2 = 120 seconds (plus jitter)
+        assertFalse(retry.getAvailableAt().isBefore(failedAt.plusSeconds(120)));
+        assertTrue(workerA.claim().isEmpty());
+
+        // The last attempt fails for good
+        ParseWorkItem lastAttempt = claimDueItem(workerB);
+        assertEquals(2, lastAttempt.getAttempts());
+        assertTrue(workerB.fail(lastAttempt, "Parser crashed again", true));
+        assertEquals(WorkItemStatus.FAILED, onlyItem().getStatus());
+        assertTrue(workerA.claim().isEmpty());
+    }
+
+    @Test
+    void notRetryableFailureEndsItem() {
+        ParseWorkItem item = claimDueItem(workerA);
+
+        assertTrue(workerA.fail(item, "Resume not found", false));
+        ParseWorkItem failed = onlyItem();
+        assertEquals(WorkItemStatus.FAILED, failed.getStatus());
+        assertEquals(1, failed.getAttempts());
+    }
+
+    @Test
+    void expiredLeaseIsReclaimedAndOldOwnerChangesNothing() {
+        ParseWorkItem claimedByA = claimDueItem(workerA);
+
+        // Worker A stalls past its lease
+        update(claimedByA.getId(), leased -> leased.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1)));
+        List<ParseWorkItem> reclaimed = workerB.claim();
+        assertEquals(1, reclaimed.size());
+        ParseWorkItem claimedByB = reclaimed.get(0);
+        assertEquals(workerB.getInstanceId(), onlyItem().getLeaseOwner());
+        assertEquals(2, claimedByB.getAttempts());
+
+        // A lost its lease: neither completing nor failing touches B's claim
+        assertFalse(workerA.complete(claimedByA));
+        assertFalse(workerA.fail(claimedByA, "Too late", true));
+        ParseWorkItem stillLeased = onlyItem();
+        assertEquals(WorkItemStatus.LEASED, stillLeased.getStatus());
+        assertEquals(workerB.getInstanceId(), stillLeased.getLeaseOwner());
+
+        assertTrue(workerB.complete(claimedByB));
+        assertEquals(WorkItemStatus.DONE, onlyItem().getStatus());
+    }
+
+    @Test
+    void leaseExpiredOnFinalAttemptFailsItem() {
+        ParseWorkItem first = claimDueItem(workerA);
+        update(first.getId(), leased -> leased.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1)));
+        assertEquals(1, workerB.claim().size());
+
+        // The worker on the final attempt died too
+        update(first.getId(), leased -> leased.setLeaseExpiresAt(LocalDateTime.now().minusSeconds(1)));
+        assertTrue(workerA.claim().isEmpty());
+        ParseWorkItem failed = onlyItem();
+        assertEquals(WorkItemStatus.FAILED, failed.getStatus());
+        assertNull(failed.getLeaseOwner());
+        assertTrue(failed.getLastError().startsWith("Lease expired on final attempt"));
+    }
+
+    /**
+     * Queue the resume if it has no open item, make the item due and claim it.
+     */
+    private ParseWorkItem claimDueItem(ParseQueueService worker) {
+        worker.enqueue(RESUME_ID, "Parsing failed");
+        update(onlyItem().getId(), due -> due.setAvailableAt(LocalDateTime.now().minusSeconds(1)));
+        List<ParseWorkItem> claimed = worker.claim();
+        assertEquals(1, claimed.size());
+        return claimed.get(0);
+    }
+
+    private ParseWorkItem onlyItem() {
+        List<ParseWorkItem> items = workItemRepository.findAll();
+        assertEquals(1, items.size());
+        return items.get(0);
+    }
+
+    private void update(Long itemId, Consumer<ParseWorkItem> change) {
+        ParseWorkItem item = workItemRepository.findById(itemId).orElseThrow();
+        change.accept(item);
+        workItemRepository.save(item);
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.JobPost;
+import com.example.resumescreener.model.ProcessingStatus;
+import com.example.resumescreener.repository.JobRepository;
+import com.example.resumescreener.repository.ResumeRepository;
+import com.example.resumescreener.repository.ResumeScoreRepository;
+import com.example.resumescreener.utils.EducationScorer;
+import com.example.resumescreener.utils.ExperienceScorer;
+import com.example.resumescreener.utils.ProjectScorer;
+import com.example.resumescreener.utils.SkillExtractor;
+import com.example.resumescreener.utils.SkillMatcher;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks that ranking a job issues the same statements whatever the size of the
+ * candidate pool: existing scores are loaded in one query and new scores are
+ * written in JDBC batches, with no per-candidate queries.
+ *
+ * Not transactional, so saved resumes are committed and reach the candidate
+ * feature store the way they do in the running application.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({
+        RankingService.class,
+        ScoringService.class,
+        JobProfileCache.class,
+        CandidateFeatureStore.class,
+        SkillExtractor.class,
+        SkillMatcher.class,
+        ExperienceScorer.class,
+        EducationScorer.class,
+        ProjectScorer.class
+})
+class RankingServiceQueryCountTest {
+
+    // hibernate.jdbc.batch_size in application.yml
+    private static final int BATCH_SIZE = 50;
+
+    @Autowired
+    private RankingService rankingService;
+
+    @Autowired
+    private CandidateFeatureStore featureStore;
+
+    @Autowired
+    private JobRepository jobRepository;
+
+    @Autowired
+    private ResumeRepository resumeRepository;
+
+    @Autowired
+    private ResumeScoreRepository scoreRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @AfterEach
+    void deleteAll() {
+        scoreRepository.deleteAllInBatch();
+        resumeRepository.deleteAll();
+        jobRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void rankingStatementCountDoesNotDependOnPoolSize() {
+        PoolCounts small = rankPool(10);
+        deleteAll();
+        PoolCounts large = rankPool(500);
+
+        // First ranking: the same queries, and no lazy fetches per candidate
+        assertEquals(small.firstQueries, large.firstQueries, "queries when scoring a new pool");
+        assertEquals(small.firstFetches, large.firstFetches, "entity fetches when scoring a new pool");
+        assertEquals(500, large.inserted, "new scores stored");
+
+        // New scores go out in batches: at most an insert and a sequence call per batch
+        long extraStatements = large.firstStatements - small.firstStatements;
+        assertTrue(extraStatements <= 2L * (500 / BATCH_SIZE),
+                () -> "500 new scores took " + extraStatements + " more statements than 10");
+
+        // Once scores are stored, ranking is a fixed number of statements
+        assertEquals(small.repeatStatements, large.repeatStatements, "statements when ranking a scored pool");
+    }
+
+    /**
+     * Store a job and a pool of resumes, then rank it twice: once scoring every
+     * pair, once from the stored scores.
+     */
+    private PoolCounts rankPool(int poolSize) {
+        JobPost job = new JobPost("Backend Developer", "Builds services", "Java, Spring Boot, Docker, SQL", 3);
+        job.setEducationLevel("Bachelor");
+        Long jobId = jobRepository.save(job).getId();
+
+        String[] skills = {"java,spring boot", "python,docker", "java,sql,docker", "react,javascript", ""};
+        List<CandidateResume> resumes = new ArrayList<>();
+        for (int i = 0; i < poolSize; i++) {
+            CandidateResume resume = new CandidateResume("resume-" + i + ".pdf", "application/pdf", 1024L);
+            resume.setProcessingStatus(ProcessingStatus.COMPLETED);
+            resume.setParsedSkills(skills[i % skills.length]);
+            resume.setExperienceYears(i % 8);
+            resume.setEducationLevel(i % 2 == 0 ? "Bachelor" : "Master");
+            resume.setProjectsSummary("1. Built a java service with docker");
+            resumes.add(resume);
+        }
+        resumeRepository.saveAll(resumes);
+
+        // Load the feature store up front, so neither ranking pays for it
+        featureStore.read(columns -> columns.size);
+
+        Statistics statistics = statistics();
+        PoolCounts counts = new PoolCounts();
+
+        statistics.clear();
+        assertEquals(poolSize, rankingService.getRankedResumes(jobId).size());
+        counts.firstStatements = statistics.getPrepareStatementCount();
+        counts.firstQueries = statistics.getQueryExecutionCount();
+        counts.firstFetches = statistics.getEntityFetchCount();
+        counts.inserted = statistics.getEntityInsertCount();
+
+        statistics.clear();
+        assertEquals(poolSize, rankingService.getRankedResumes(jobId).size());
+        counts.repeatStatements = statistics.getPrepareStatementCount();
+
+        return counts;
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    private static final class PoolCounts {
+        long firstStatements;
+        long firstQueries;
+        long firstFetches;
+        long inserted;
+        long repeatStatements;
+    }
+}
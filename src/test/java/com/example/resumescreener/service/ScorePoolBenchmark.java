@@ -0,0 +1,162 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.JobPost;
+import com.example.resumescreener.model.ProcessingStatus;
+import com.example.resumescreener.repository.ResumeRepository;
+import com.example.resumescreener.utils.EducationScorer;
+import com.example.resumescreener.utils.ExperienceScorer;
+import com.example.resumescreener.utils.PoolScores;
+import com.example.resumescreener.utils.ProjectScorer;
+import com.example.resumescreener.utils.SkillExtractor;
+import com.example.resumescreener.utils.SkillMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Times scoring one job against a candidate feature store of one million
+ * resumes. The store is loaded through its normal path from a repository that
+ * returns generated COMPLETED resumes; after warm-up, the median of the timed
+ * runs must stay under one second.
+ *
+ * Not run by {@code mvn test} (the class name does not end in Test). Run it with:
+ *
+ * mvn test -Dtest=ScorePoolBenchmark
+ */
+class ScorePoolBenchmark {
+
+    private static final int POOL_SIZE = 1_000_000;
+    // Distinct resumes the pool is built from; resume i uses profile i % PROFILES
+    private static final int PROFILES = 4096;
+    private static final int WARM_UP_ITERATIONS = 5;
+    private static final int MEASURED_ITERATIONS = 11;
+    private static final long MAX_MEDIAN_MS = 1000;
+
+    private static final String[] EDUCATION_LEVELS = {null, "PhD", "Master", "Bachelor", "Diploma", "Associate"};
+
+    private ScoringService scoringService;
+    private CandidateFeatureStore featureStore;
+
+    @BeforeEach
+    void createPool() {
+        SkillMatcher skillMatcher = new SkillMatcher(new SkillExtractor());
+        ExperienceScorer experienceScorer = new ExperienceScorer();
+        EducationScorer educationScorer = new EducationScorer();
+        ProjectScorer projectScorer = new ProjectScorer();
+
+        ResumeRepository resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.findByProcessingStatus(ProcessingStatus.COMPLETED))
+                .thenReturn(generatedResumes(skillMatcher.getKnownSkills()));
+        featureStore = new CandidateFeatureStore(resumeRepository, skillMatcher, projectScorer);
+
+        JobProfileCache jobProfiles = new JobProfileCache(
+                skillMatcher, experienceScorer, educationScorer, projectScorer, featureStore);
+        scoringService = new ScoringService(
+                skillMatcher, experienceScorer, educationScorer, projectScorer, featureStore, jobProfiles);
+        // Weights from application.yml
+        ReflectionTestUtils.setField(scoringService, "skillWeight", 0.50);
+        ReflectionTestUtils.setField(scoringService, "experienceWeight", 0.30);
+        ReflectionTestUtils.setField(scoringService, "educationWeight", 0.10);
+        ReflectionTestUtils.setField(scoringService, "projectWeight", 0.10);
+    }
+
+    @Test
+    void scorePoolOfOneMillionResumes() {
+        JobPost job = new JobPost("Backend Developer", "Builds services",
+                "Java, Spring Boot, MySQL, Docker, Kubernetes, AWS", 4);
+        job.setEducationLevel("Bachelor");
+        job.setJobType("backend");
+
+        // The first call loads the store
+        long loadStart = System.nanoTime();
+        PoolScores first = scoringService.scorePool(job);
+        long loadMs = (System.nanoTime() - loadStart) / 1_000_000;
+        assertNotNull(first);
+        assertEquals(POOL_SIZE, first.size());
+
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            scoringService.scorePool(job);
+        }
+
+        long[] runs = new long[MEASURED_ITERATIONS];
+        for (int i = 0; i < MEASURED_ITERATIONS; i++) {
+            long start = System.nanoTime();
+            PoolScores pool = scoringService.scorePool(job);
+            runs[i] = (System.nanoTime() - start) / 1_000_000;
+            assertEquals(POOL_SIZE, pool.size());
+        }
+        Arrays.sort(runs);
+        long medianMs = runs[MEASURED_ITERATIONS / 2];
+
+        System.out.printf("scorePool over %,d resumes: best %d ms, median %d ms, worst %d ms (first call with load %d ms)%n",
+                featureStore.size(), runs[0], medianMs, runs[MEASURED_ITERATIONS - 1], loadMs);
+        assertTrue(medianMs < MAX_MEDIAN_MS, "median " + medianMs + " ms");
+    }
+
+    /**
+     * One million COMPLETED resumes, created as the store's load reads them so
+     * the list itself holds no entities.
+     */
+    private static List<CandidateResume> generatedResumes(List<String> knownSkills) {
+        Random random = new Random(42);
+        String[] skills = new String[PROFILES];
+        Integer[] years = new Integer[PROFILES];
+        String[] educationLevels = new String[PROFILES];
+        String[] projects = new String[PROFILES];
+        for (int p = 0; p < PROFILES; p++) {
+            skills[p] = randomSkills(random, knownSkills, 3 + random.nextInt(10));
+            years[p] = random.nextInt(10) == 0 ? null : random.nextInt(26);
+            educationLevels[p] = EDUCATION_LEVELS[random.nextInt(EDUCATION_LEVELS.length)];
+            int projectCount = random.nextInt(5);
+            StringBuilder summary = new StringBuilder();
+            for (int i = 1; i <= projectCount; i++) {
+                summary.append(i).append(". Built a service with ")
+                        .append(randomSkills(random, knownSkills, 2)).append('\n');
+            }
+            projects[p] = projectCount == 0 ? null : summary.toString();
+        }
+
+        return new AbstractList<>() {
+            @Override
+            public CandidateResume get(int index) {
+                int p = index % PROFILES;
+                CandidateResume resume = new CandidateResume("resume-" + index + ".pdf", "application/pdf", 1024L);
+                resume.setId((long) index + 1);
+                resume.setProcessingStatus(ProcessingStatus.COMPLETED);
+                resume.setParsedSkills(skills[p]);
+                resume.setExperienceYears(years[p]);
+                resume.setEducationLevel(educationLevels[p]);
+                resume.setProjectsSummary(projects[p]);
+                return resume;
+            }
+
+            @Override
+            public int size() {
+                return POOL_SIZE;
+            }
+        };
+    }
+
+    private static String randomSkills(Random random, List<String> knownSkills, int count) {
+        StringBuilder skills = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            if (i > 0) {
+                skills.append(", ");
+            }
+            skills.append(knownSkills.get(random.nextInt(knownSkills.size())));
+        }
+        return skills.toString();
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.resumescreener.service;
+
+import com.example.resumescreener.model.CandidateResume;
+import com.example.resumescreener.model.JobPost;
+import com.example.resumescreener.model.ProcessingStatus;
+import com.example.resumescreener.repository.ResumeRepository;
+import com.example.resumescreener.utils.EducationScorer;
+import com.example.resumescreener.utils.ExperienceScorer;
+import com.example.resumescreener.utils.PoolScores;
+import com.example.resumescreener.utils.ProjectScorer;
+import com.example.resumescreener.utils.ScoreVector;
+import com.example.resumescreener.utils.SkillExtractor;
+import com.example.resumescreener.utils.SkillMatcher;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Checks that scoring a job against the whole candidate feature store gives
+ * every resume exactly the scores of the per-resume {@code score()} path.
+ */
+class ScoringServicePoolTest {
+
+    private final Map<Long, CandidateResume> resumes = new HashMap<>();
+    private ScoringService scoringService;
+
+    @BeforeEach
+    void createPool() {
+        SkillMatcher skillMatcher = new SkillMatcher(new SkillExtractor());
+        ExperienceScorer experienceScorer = new ExperienceScorer();
+        EducationScorer educationScorer = new EducationScorer();
+        ProjectScorer projectScorer = new ProjectScorer();
+
+        String[] skills = {
+                "Java, Spring Boot, MySQL", "python, django, aws, docker", "React, Node.js, TypeScript, git",
+                "java, kubernetes, docker, aws, sql", "Cobol, weird skill", "", null
+        };
+        Integer[] years = {null, 0, 1, 3, 5, 8, 12, 75};
+        String[] educationLevels = {null, "", "PhD", "Master", "Bachelor", "Diploma", "bachelor of arts"};
+        String[] projects = {
+                null, "   ", "1. Built a payment service with Java and Spring Boot",
+                "Project: Django API on AWS\nProject: React dashboard with TypeScript\n3. Docker tooling",
+                "Side projects in Go"
+        };
+
+        List<CandidateResume> completed = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            CandidateResume resume = new CandidateResume("resume-" + i + ".pdf", "application/pdf", 1024L);
+            resume.setId((long) i + 1);
+            resume.setProcessingStatus(ProcessingStatus.COMPLETED);
+            resume.setParsedSkills(skills[i % skills.length]);
+            resume.setExperienceYears(years[i % years.length]);
+            resume.setEducationLevel(educationLevels[i % educationLevels.length]);
+            resume.setProjectsSummary(projects[i % projects.length]);
+            completed.add(resume);
+            resumes.put(resume.getId(), resume);
+        }
+
+        ResumeRepository resumeRepository = mock(ResumeRepository.class);
+        when(resumeRepository.findByProcessingStatus(ProcessingStatus.COMPLETED)).thenReturn(completed);
+        CandidateFeatureStore featureStore = new CandidateFeatureStore(resumeRepository, skillMatcher, projectScorer);
+
+        JobProfileCache jobProfiles = new JobProfileCache(
+                skillMatcher, experienceScorer, educationScorer, projectScorer, featureStore);
+        scoringService = new ScoringService(
+                skillMatcher, experienceScorer, educationScorer, projectScorer, featureStore, jobProfiles);
+        // Weights from application.yml
+        ReflectionTestUtils.setField(scoringService, "skillWeight", 0.50);
+        ReflectionTestUtils.setField(scoringService, "experienceWeight", 0.30);
+        ReflectionTestUtils.setField(scoringService, "educationWeight", 0.10);
+        ReflectionTestUtils.setField(scoringService, "projectWeight", 0.10);
+    }
+
+    @Test
+    void poolScoresMatchPerResumeScores() {
+        assertPoolMatchesPerResume(job("Java, Spring Boot, MySQL, Docker", 3, "Bachelor", "backend"));
+        assertPoolMatchesPerResume(job("python, django, aws", 0, "PhD", "fullstack"));
+        assertPoolMatchesPerResume(job("react, node.js, typescript, git, kubernetes", 5, "Master", "frontend"));
+        assertPoolMatchesPerResume(job("", null, null, null));
+    }
+
+    @Test
+    void jobWithSkillsOutsideTheDictionaryIsNotPoolScored() {
+        assertNull(scoringService.scorePool(job("Java, weird skill", 2, "Bachelor", null)));
+    }
+
+    private void assertPoolMatchesPerResume(JobPost job) {
+        PoolScores pool = scoringService.scorePool(job);
+        assertNotNull(pool);
+        assertEquals(resumes.size(), pool.size());
+
+        for (int slot = 0; slot < pool.size(); slot++) {
+            CandidateResume resume = resumes.get(pool.getResumeIds()[slot]);
+            ScoreVector expected = scoringService.score(resume, job);
+            ScoreVector actual = pool.get(slot);
+            String context = job.getRequiredSkills() + " / resume " + resume.getId();
+
+            assertEquals(expected.getSkillPoints(), actual.getSkillPoints(), "skill points: " + context);
+            assertEquals(expected.getExperiencePoints(), actual.getExperiencePoints(), "experience points: " + context);
+            assertEquals(expected.getEducationPoints(), actual.getEducationPoints(), "education points: " + context);
+            assertEquals(expected.getProjectPoints(), actual.getProjectPoints(), "project points: " + context);
+            assertEquals(expected.getFinalPoints(), actual.getFinalPoints(), "final points: " + context);
+        }
+    }
+
+    private static JobPost job(String requiredSkills, Integer minExperienceYears, String educationLevel, String jobType) {
+        JobPost job = new JobPost("Developer", "Builds software", requiredSkills, minExperienceYears);
+        job.setEducationLevel(educationLevel);
+        job.setJobType(jobType);
+        return job;
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.resumescreener.utils;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Checks that centi-point scoring rounds exactly like the BigDecimal scoring it
+ * replaced: {@code BigDecimal.valueOf(score).setScale(2, HALF_UP)}, first for
+ * the conversion itself, then for each scorer against its previous formula.
+ */
+class CentiPointsTest {
+
+    private static final String[] EDUCATION_LEVELS = {
+            "PhD", "Master", "Bachelor", "Diploma", "Certificate", "Associate",
+            "Bachelor of Science", "High School"
+    };
+
+    private static final Integer[] EDUCATION_RANKS = {5, 4, 3, 2, 1, 2, null, null};
+
+    @Test
+    void fromDoubleRoundsMidpointsAndTheirNeighboursLikeBigDecimal() {
+        for (int n = 0; n < CentiPoints.MAX; n++) {
+            // Midpoints between two centi-points, and the hundredths themselves
+            assertRoundsLikeBigDecimal((2.0 * n + 1.0) / 200.0);
+            assertRoundsLikeBigDecimal(n / 100.0);
+        }
+        for (int n = 0; n <= 100000; n++) {
+            assertRoundsLikeBigDecimal(n / 1000.0);
+        }
+    }
+
+    @Test
+    void fromDoubleRoundsRandomScoresLikeBigDecimal() {
+        Random random = new Random(42);
+        for (int i = 0; i < 1000000; i++) {
+            assertRoundsLikeBigDecimal(random.nextDouble() * 100.0);
+        }
+        assertRoundsLikeBigDecimal(-1.005);
+        assertRoundsLikeBigDecimal(-0.125);
+    }
+
+    @Test
+    void bigDecimalConversionsKeepScaleTwo() {
+        for (int points = 0; points <= CentiPoints.MAX; points++) {
+            BigDecimal score = CentiPoints.toBigDecimal(points);
+            assertEquals(2, score.scale());
+            assertEquals(points, CentiPoints.fromBigDecimal(score));
+            assertEquals(score.doubleValue(), CentiPoints.toDouble(points));
+        }
+        assertEquals(101, CentiPoints.fromBigDecimal(new BigDecimal("1.005")));
+        assertEquals(7550, CentiPoints.fromBigDecimal(BigDecimal.valueOf(75.5)));
+    }
+
+    @Test
+    void skillPointsMatchBigDecimalFormula() {
+        SkillMatcher skillMatcher = new SkillMatcher(new SkillExtractor());
+        for (int required = 0; required <= 60; required++) {
+            for (int matched = 0; matched <= required; matched++) {
+                double score = skillMatcher.calculateSkillScore(matched, required);
+                double expected = required == 0 ? 100.0 : (double) matched / required * 100.0;
+                assertEquals(bigDecimalPoints(expected), CentiPoints.fromDouble(score),
+                        matched + " of " + required + " skills");
+            }
+        }
+    }
+
+    @Test
+    void experiencePointsMatchBigDecimalFormula() {
+        ExperienceScorer experienceScorer = new ExperienceScorer();
+        // Job type, resume job type and the role relevance bonus they earn
+        Object[][] jobTypes = {
+                {null, null, 0.0},
+                {"Backend", "backend", 20.0},
+                {"Full Stack", "backend", 10.0},
+                {"backend", "fullstack", 15.0},
+                {"Backend Developer", "backend engineer", 15.0},
+                {"frontend", "backend", 0.0}
+        };
+
+        for (Object[] types : jobTypes) {
+            String jobType = (String) types[0];
+            String resumeJobType = (String) types[1];
+            double bonus = (Double) types[2];
+
+            for (int required = 1; required <= 30; required++) {
+                for (int years = 0; years <= 40; years++) {
+                    double expected = yearsMatchScore(years, required) * 0.80 + bonus * 0.20;
+                    int actual = experienceScorer.calculateExperiencePoints(years, required, jobType, resumeJobType);
+                    String context = years + " of " + required + " years, " + jobType + "/" + resumeJobType;
+                    assertEquals(bigDecimalPoints(expected), actual, context);
+                }
+            }
+            // No experience, or no requirement
+            assertEquals(0, experienceScorer.calculateExperiencePoints(null, 3, jobType, resumeJobType));
+            assertEquals(CentiPoints.MAX, experienceScorer.calculateExperiencePoints(4, null, jobType, resumeJobType));
+            assertEquals(CentiPoints.MAX, experienceScorer.calculateExperiencePoints(4, 0, jobType, resumeJobType));
+        }
+    }
+
+    @Test
+    void educationPointsMatchBigDecimalFormula() {
+        EducationScorer educationScorer = new EducationScorer();
+        // Resume field, required field and the field bonus they earn
+        Object[][] fields = {
+                {null, null, 0.0},
+                {"Computer Science", "computer science", 20.0},
+                {"Computer Science", "Science", 15.0},
+                {"Computer Science", "Software Engineering", 10.0},
+                {"Biology", "History", 0.0}
+        };
+
+        for (Object[] field : fields) {
+            String resumeField = (String) field[0];
+            String requiredField = (String) field[1];
+            double bonus = (Double) field[2];
+
+            for (int r = 0; r < EDUCATION_LEVELS.length; r++) {
+                for (int j = 0; j < EDUCATION_LEVELS.length; j++) {
+                    double expected = levelScore(r, j) * 0.80 + bonus * 0.20;
+                    int actual = educationScorer.calculateEducationPoints(
+                            EDUCATION_LEVELS[r], resumeField, EDUCATION_LEVELS[j], requiredField);
+                    String context = EDUCATION_LEVELS[r] + " for " + EDUCATION_LEVELS[j] + ", " + resumeField;
+                    assertEquals(bigDecimalPoints(expected), actual, context);
+                }
+            }
+            // No requirement, or no education
+            assertEquals(CentiPoints.MAX, educationScorer.calculateEducationPoints("Master", resumeField, " ", requiredField));
+            assertEquals(0, educationScorer.calculateEducationPoints(null, resumeField, "Master", requiredField));
+        }
+    }
+
+    @Test
+    void projectPointsMatchBigDecimalFormula() {
+        ProjectScorer projectScorer = new ProjectScorer();
+        for (int projects = 0; projects <= 12; projects++) {
+            for (int matched = 0; matched <= 12; matched++) {
+                double expected = 50.0 + Math.min(30.0, projects * 5.0) + Math.min(20.0, matched * 5.0);
+                assertEquals(bigDecimalPoints(expected), projectScorer.calculateProjectPoints(projects, matched),
+                        projects + " projects, " + matched + " skills");
+            }
+        }
+        assertEquals(0, projectScorer.calculateProjectPoints(null, "Java"));
+        assertEquals(0, projectScorer.calculateProjectPoints("  ", "Java"));
+    }
+
+    private static void assertRoundsLikeBigDecimal(double score) {
+        for (double value : new double[] {Math.nextDown(score), score, Math.nextUp(score)}) {
+            assertEquals(bigDecimalPoints(value), CentiPoints.fromDouble(value), () -> Double.toString(value));
+        }
+    }
+
+    /**
+     * The previous rounding: clamp to 0-100, then BigDecimal HALF_UP to scale 2
+     * (the clamp is skipped for negative inputs used to test the sign).
+     */
+    private static int bigDecimalPoints(double score) {
+        double clamped = score < 0 ? score : Math.min(100.0, score);
+        return BigDecimal.valueOf(clamped)
+                .setScale(2, RoundingMode.HALF_UP)
+                .unscaledValue()
+                .intValueExact();
+    }
+
+    /**
+     * Years match score of the BigDecimal ExperienceScorer.
+     */
+    private static double yearsMatchScore(int years, int required) {
+        if (years >= required) {
+            return years - required > 5 ? 95.0 : 100.0;
+        }
+        double ratio = (double) years / required;
+        if (ratio < 0.5) {
+            return ratio * 60.0;
+        }
+        return ratio < 0.75 ? ratio * 80.0 : ratio * 90.0;
+    }
+
+    /**
+     * Level match score of the BigDecimal EducationScorer.
+     */
+    private static double levelScore(int resumeIndex, int requiredIndex) {
+        Integer resumeRank = EDUCATION_RANKS[resumeIndex];
+        Integer requiredRank = EDUCATION_RANKS[requiredIndex];
+        if (resumeRank == null || requiredRank == null) {
+            String resume = EDUCATION_LEVELS[resumeIndex].toLowerCase();
+            String required = EDUCATION_LEVELS[requiredIndex].toLowerCase();
+            return resume.contains(required) || required.contains(resume) ? 80.0 : 50.0;
+        }
+        if (resumeRank >= requiredRank) {
+            return 100.0;
+        }
+        double ratio = (double) resumeRank / requiredRank;
+        if (ratio >= 0.8) {
+            return 70.0;
+        }
+        return ratio >= 0.6 ? 50.0 : 30.0;
+    }
+}
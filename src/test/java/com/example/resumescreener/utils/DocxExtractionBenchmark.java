@@ -0,0 +1,119 @@
+package com.example.resumescreener.utils;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Times DOCX extraction with the fast path against Tika's OOXML parser over the
+ * committed resumes in src/test/resources/docx-corpus. Each file goes through
+ * {@link TikaExtractor#extract(InputStream, String)} the way an upload does
+ * (detection, spooling and extraction), once with the fast path and once
+ * without; both must yield the same text.
+ *
+ * Not run by {@code mvn test} (the class name does not end in Test). Run it with:
+ *
+ * mvn test -Dtest=DocxExtractionBenchmark
+ */
+class DocxExtractionBenchmark {
+
+    private static final String[] CORPUS = {
+            "resume-short.docx", "resume-tables.docx", "resume-senior.docx", "resume-long.docx"
+    };
+    private static final int MAX_CHARACTERS = 100000;
+    private static final int WARM_UP_ITERATIONS = 100;
+    private static final int MEASURED_ROUNDS = 5;
+    private static final int ITERATIONS_PER_ROUND = 50;
+
+    private TikaExtractor fastPathExtractor;
+    private TikaExtractor tikaOnlyExtractor;
+
+    @BeforeEach
+    void createExtractors() {
+        fastPathExtractor = createExtractor(true);
+        tikaOnlyExtractor = createExtractor(false);
+    }
+
+    @Test
+    void fastPathAgainstTika() throws Exception {
+        System.out.printf("%-20s %8s %12s %12s %8s%n", "file", "bytes", "fast ms/doc", "tika ms/doc", "speedup");
+        double fastTotal = 0;
+        double tikaTotal = 0;
+        for (String fileName : CORPUS) {
+            byte[] content = load(fileName);
+
+            ExtractedDocument fast = fastPathExtractor.extract(new ByteArrayInputStream(content), fileName);
+            ExtractedDocument tika = tikaOnlyExtractor.extract(new ByteArrayInputStream(content), fileName);
+            assertFalse(fast.getText().isEmpty(), fileName);
+            assertEquals(lines(tika.getText()), lines(fast.getText()), fileName);
+
+            double fastMs = msPerDocument(fastPathExtractor, fileName, content);
+            double tikaMs = msPerDocument(tikaOnlyExtractor, fileName, content);
+            fastTotal += fastMs;
+            tikaTotal += tikaMs;
+            System.out.printf("%-20s %8d %12.3f %12.3f %7.1fx%n",
+                    fileName, content.length, fastMs, tikaMs, tikaMs / fastMs);
+        }
+        System.out.printf("%-20s %8s %12.3f %12.3f %7.1fx%n", "all", "", fastTotal, tikaTotal, tikaTotal / fastTotal);
+    }
+
+    /**
+     * Median time of one extraction over several measured rounds, after warm-up.
+     */
+    private static double msPerDocument(TikaExtractor extractor, String fileName, byte[] content) throws Exception {
+        for (int i = 0; i < WARM_UP_ITERATIONS; i++) {
+            extractor.extract(new ByteArrayInputStream(content), fileName);
+        }
+
+        double[] rounds = new double[MEASURED_ROUNDS];
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS_PER_ROUND; i++) {
+                extractor.extract(new ByteArrayInputStream(content), fileName);
+            }
+            rounds[round] = (System.nanoTime() - start) / 1_000_000.0 / ITERATIONS_PER_ROUND;
+        }
+        Arrays.sort(rounds);
+        return rounds[MEASURED_ROUNDS / 2];
+    }
+
+    private static TikaExtractor createExtractor(boolean docxFastPath) {
+        TikaExtractor extractor = new TikaExtractor();
+        ReflectionTestUtils.setField(extractor, "configLocation", "tika-config.xml");
+        ReflectionTestUtils.setField(extractor, "warmUp", false);
+        ReflectionTestUtils.setField(extractor, "docxFastPath", docxFastPath);
+        ReflectionTestUtils.setField(extractor, "maxCharacters", MAX_CHARACTERS);
+        ReflectionTestUtils.setField(extractor, "maxPages", 50);
+        ReflectionTestUtils.setField(extractor, "forkEnabled", false);
+        extractor.init();
+        return extractor;
+    }
+
+    private static byte[] load(String fileName) throws Exception {
+        try (InputStream inputStream = DocxExtractionBenchmark.class.getClassLoader()
+                .getResourceAsStream("docx-corpus/" + fileName)) {
+            if (inputStream == null) {
+                throw new IllegalStateException("Missing fixture docx-corpus/" + fileName);
+            }
+            return inputStream.readAllBytes();
+        }
+    }
+
+    /**
+     * Non-blank lines, trimmed at the end (as in DocxTextExtractorTest).
+     */
+    private static String lines(String text) {
+        return Arrays.stream(text.split("\n"))
+                .map(String::stripTrailing)
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,162 @@
+package com.example.resumescreener.utils;
+
+import org.apache.poi.xwpf.model.XWPFHeaderFooterPolicy;
+import org.apache.poi.xwpf.usermodel.XWPFDocument;
+import org.apache.poi.xwpf.usermodel.XWPFFooter;
+import org.apache.poi.xwpf.usermodel.XWPFHeader;
+import org.apache.poi.xwpf.usermodel.XWPFParagraph;
+import org.apache.poi.xwpf.usermodel.XWPFRun;
+import org.apache.poi.xwpf.usermodel.XWPFTable;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compares the StAX DOCX fast path with Tika's OOXML parser on the same files.
+ * Both must yield the same lines of text; only blank lines and whitespace at
+ * line ends may differ.
+ */
+class DocxTextExtractorTest {
+
+    private static final int MAX_CHARACTERS = 100000;
+
+    @TempDir
+    Path tempDir;
+
+    private final DocxTextExtractor docxTextExtractor = new DocxTextExtractor();
+    private TikaExtractor tikaExtractor;
+
+    @BeforeEach
+    void createTikaExtractor() {
+        tikaExtractor = new TikaExtractor();
+        ReflectionTestUtils.setField(tikaExtractor, "configLocation", "tika-config.xml");
+        ReflectionTestUtils.setField(tikaExtractor, "warmUp", false);
+        // Tika's own OOXML parser is the reference
+        ReflectionTestUtils.setField(tikaExtractor, "docxFastPath", false);
+        ReflectionTestUtils.setField(tikaExtractor, "maxCharacters", MAX_CHARACTERS);
+        ReflectionTestUtils.setField(tikaExtractor, "maxPages", 50);
+        ReflectionTestUtils.setField(tikaExtractor, "forkEnabled", false);
+        tikaExtractor.init();
+    }
+
+    @Test
+    void bundledSampleMatchesTika() throws Exception {
+        Path sample = tempDir.resolve("sample.docx");
+        try (InputStream inputStream = TikaExtractor.class.getClassLoader()
+                .getResourceAsStream("tika-warmup/sample.docx")) {
+            Files.copy(inputStream, sample, StandardCopyOption.REPLACE_EXISTING);
+        }
+
+        assertSameTextAsTika(sample);
+    }
+
+    @Test
+    void resumeWithHeaderFooterTableAndBreaksMatchesTika() throws Exception {
+        Path docx = tempDir.resolve("resume.docx");
+        try (XWPFDocument document = new XWPFDocument()) {
+            XWPFHeaderFooterPolicy policy = document.createHeaderFooterPolicy();
+            XWPFHeader header = policy.createHeader(XWPFHeaderFooterPolicy.DEFAULT);
+            header.createParagraph().createRun().setText("Jane Doe - Curriculum Vitae");
+            XWPFFooter footer = policy.createFooter(XWPFHeaderFooterPolicy.DEFAULT);
+            footer.createParagraph().createRun().setText("jane.doe@example.com");
+
+            paragraph(document, "SKILLS");
+            paragraph(document, "Java, Spring Boot, Docker, SQL");
+
+            XWPFParagraph experience = document.createParagraph();
+            XWPFRun run = experience.createRun();
+            run.setText("Senior Developer");
+            run.addTab();
+            run.setText("2018 - 2023");
+            run.addBreak();
+            run.setText("Built payment services in Java");
+
+            XWPFTable table = document.createTable(2, 2);
+            table.getRow(0).getCell(0).setText("Degree");
+            table.getRow(0).getCell(1).setText("School");
+            table.getRow(1).getCell(0).setText("Bachelor of Computer Science");
+            table.getRow(1).getCell(1).setText("State University");
+
+            paragraph(document, "PROJECTS");
+            XWPFParagraph project = document.createParagraph();
+            project.createRun().setText("Resume screener: ");
+            project.createRun().setText("ranking with Spring Boot");
+
+            try (OutputStream outputStream = Files.newOutputStream(docx)) {
+                document.write(outputStream);
+            }
+        }
+
+        assertSameTextAsTika(docx);
+    }
+
+    @Test
+    void characterBudgetTruncates() throws Exception {
+        Path docx = tempDir.resolve("long.docx");
+        try (XWPFDocument document = new XWPFDocument()) {
+            for (int i = 0; i < 200; i++) {
+                paragraph(document, "Paragraph " + i + " of a very long resume");
+            }
+            try (OutputStream outputStream = Files.newOutputStream(docx)) {
+                document.write(outputStream);
+            }
+        }
+
+        ExtractedDocument truncated = docxTextExtractor.extract(docx, 100);
+        assertTrue(truncated.isTruncated());
+        assertTrue(truncated.getText().length() <= 100);
+        assertFalse(docxTextExtractor.extract(docx, MAX_CHARACTERS).isTruncated());
+    }
+
+    @Test
+    void fileWithoutMainDocumentPartIsRejected() throws Exception {
+        Path notDocx = tempDir.resolve("empty.docx");
+        try (OutputStream outputStream = Files.newOutputStream(notDocx);
+             ZipOutputStream zip = new ZipOutputStream(outputStream)) {
+            zip.putNextEntry(new ZipEntry("word/other.xml"));
+            zip.closeEntry();
+        }
+
+        assertThrows(IOException.class, () -> docxTextExtractor.extract(notDocx, MAX_CHARACTERS));
+    }
+
+    private void assertSameTextAsTika(Path docx) throws Exception {
+        ExtractedDocument fast = docxTextExtractor.extract(docx, MAX_CHARACTERS);
+        ExtractedDocument tika = tikaExtractor.extract(docx, docx.getFileName().toString());
+
+        assertEquals(tika.getMimeType(), fast.getMimeType());
+        assertFalse(fast.getText().isEmpty());
+        assertEquals(lines(tika.getText()), lines(fast.getText()));
+    }
+
+    private static void paragraph(XWPFDocument document, String text) {
+        document.createParagraph().createRun().setText(text);
+    }
+
+    /**
+     * Non-blank lines, trimmed at the end.
+     */
+    private static String lines(String text) {
+        return Arrays.stream(text.split("\n"))
+                .map(String::stripTrailing)
+                .filter(line -> !line.isEmpty())
+                .collect(Collectors.joining("\n"));
+    }
+}
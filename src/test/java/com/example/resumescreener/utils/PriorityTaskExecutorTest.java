@@ -0,0 +1,206 @@
+package com.example.resumescreener.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks how the executor picks tasks. Most tests use a single worker held by a
+ * gated task while the tasks under test are queued, so releasing the gate lets
+ * the worker pick them one by one and the pick order can be asserted exactly.
+ */
+class PriorityTaskExecutorTest {
+
+    private PriorityTaskExecutor executor;
+    private final List<String> ran = new CopyOnWriteArrayList<>();
+    private final CountDownLatch gateStarted = new CountDownLatch(1);
+    private final CountDownLatch gateReleased = new CountDownLatch(1);
+
+    @AfterEach
+    void stopExecutor() throws InterruptedException {
+        gateReleased.countDown();
+        if (executor != null) {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void classesSharePoolByWeight() throws Exception {
+        executor = new PriorityTaskExecutor("wrr-test-", 1);
+        executor.configureClass(WorkClass.INTERACTIVE, 2, 100, false);
+        executor.configureClass(WorkClass.BULK, 1, 100, false);
+        executor.setMaxWaitMs(60_000);
+        executor.initialize();
+        holdWorker(WorkClass.MAINTENANCE);
+
+        for (int i = 1; i <= 3; i++) {
+            submit(WorkClass.BULK, "B" + i);
+        }
+        for (int i = 1; i <= 6; i++) {
+            submit(WorkClass.INTERACTIVE, "I" + i);
+        }
+        releaseAndAwait(9);
+
+        // Two interactive picks per bulk pick, interleaved rather than in bursts
+        assertEquals(List.of("I1", "B1", "I2", "I3", "B2", "I4", "I5", "B3", "I6"), ran);
+    }
+
+    @Test
+    void taskPastMaxWaitIsPickedBeforeWeighting() throws Exception {
+        executor = new PriorityTaskExecutor("starve-test-", 1);
+        executor.configureClass(WorkClass.INTERACTIVE, 10, 100, false);
+        executor.configureClass(WorkClass.BULK, 1, 100, false);
+        executor.setMaxWaitMs(200);
+        executor.initialize();
+        holdWorker(WorkClass.MAINTENANCE);
+
+        submit(WorkClass.BULK, "B1");
+        Thread.sleep(300);
+        submit(WorkClass.INTERACTIVE, "I1");
+        submit(WorkClass.INTERACTIVE, "I2");
+        submit(WorkClass.INTERACTIVE, "I3");
+        submit(WorkClass.BULK, "B2");
+        releaseAndAwait(5);
+
+        // By weight the interactive tasks would go first, but B1 waited too long
+        assertEquals(List.of("B1", "I1", "I2", "I3", "B2"), ran);
+    }
+
+    @Test
+    void zeroMaxWaitPicksInArrivalOrder() throws Exception {
+        executor = new PriorityTaskExecutor("fifo-test-", 1);
+        executor.configureClass(WorkClass.INTERACTIVE, 10, 100, false);
+        executor.configureClass(WorkClass.BULK, 1, 100, false);
+        executor.setMaxWaitMs(0);
+        executor.initialize();
+        holdWorker(WorkClass.MAINTENANCE);
+
+        submit(WorkClass.BULK, "B1");
+        submit(WorkClass.BULK, "B2");
+        submit(WorkClass.INTERACTIVE, "I1");
+        submit(WorkClass.BULK, "B3");
+        releaseAndAwait(4);
+
+        // Every task is past the maximum wait, so the oldest always goes first
+        assertEquals(List.of("B1", "B2", "I1", "B3"), ran);
+    }
+
+    @Test
+    void reservedThreadRunsOnlyInteractiveWork() throws Exception {
+        executor = new PriorityTaskExecutor("reserve-test-", 2);
+        executor.configureClass(WorkClass.INTERACTIVE, 1, 100, false);
+        executor.configureClass(WorkClass.BULK, 1, 100, false);
+        executor.setReservedInteractiveThreads(1);
+        executor.initialize();
+        holdWorker(WorkClass.BULK);
+
+        // The second thread is free but reserved, so this bulk task waits
+        submit(WorkClass.BULK, "B1");
+        Thread.sleep(200);
+        assertEquals(1, executor.getQueueDepth(WorkClass.BULK));
+        assertEquals(1, executor.getActiveCount(WorkClass.BULK));
+        assertTrue(ran.isEmpty());
+
+        // An interactive task runs on the reserved thread at once
+        submit(WorkClass.INTERACTIVE, "I1");
+        awaitCompleted(WorkClass.INTERACTIVE, 1);
+        assertEquals(List.of("I1"), ran);
+        assertEquals(1, executor.getQueueDepth(WorkClass.BULK));
+
+        releaseAndAwait(2);
+        assertEquals(List.of("I1", "B1"), ran);
+    }
+
+    @Test
+    void fullQueueRunsTaskOnCaller() throws Exception {
+        executor = new PriorityTaskExecutor("caller-runs-test-", 1);
+        executor.configureClass(WorkClass.BULK, 1, 1, true);
+        executor.initialize();
+        holdWorker(WorkClass.MAINTENANCE);
+
+        submit(WorkClass.BULK, "queued");
+        Thread caller = Thread.currentThread();
+        List<Thread> ranOn = new CopyOnWriteArrayList<>();
+        executor.forClass(WorkClass.BULK).execute(() -> {
+            ranOn.add(Thread.currentThread());
+            ran.add("overflow");
+        });
+
+        // Ran before returning, on the submitting thread
+        assertEquals(List.of("overflow"), ran);
+        assertSame(caller, ranOn.get(0));
+        assertEquals(1, executor.getCallerRunsCount(WorkClass.BULK));
+        assertEquals(1, executor.getSubmittedCount(WorkClass.BULK));
+        assertEquals(1, executor.getQueueDepth(WorkClass.BULK));
+
+        releaseAndAwait(2);
+        assertEquals(List.of("overflow", "queued"), ran);
+    }
+
+    @Test
+    void fullQueueRejectsTask() throws Exception {
+        executor = new PriorityTaskExecutor("reject-test-", 1);
+        executor.configureClass(WorkClass.INTERACTIVE, 1, 1, false);
+        executor.initialize();
+        holdWorker(WorkClass.MAINTENANCE);
+
+        submit(WorkClass.INTERACTIVE, "queued");
+        assertThrows(TaskRejectedException.class, () -> submit(WorkClass.INTERACTIVE, "rejected"));
+        assertEquals(1, executor.getRejectedCount(WorkClass.INTERACTIVE));
+        assertEquals(0, executor.getCallerRunsCount(WorkClass.INTERACTIVE));
+
+        releaseAndAwait(1);
+        assertEquals(List.of("queued"), ran);
+
+        // Nothing is accepted once the executor is shut down
+        executor.destroy();
+        assertThrows(TaskRejectedException.class, () -> submit(WorkClass.INTERACTIVE, "late"));
+        assertEquals(2, executor.getRejectedCount(WorkClass.INTERACTIVE));
+    }
+
+    /**
+     * Occupy a worker with a task that blocks until the gate is released.
+     */
+    private void holdWorker(WorkClass workClass) throws InterruptedException {
+        executor.forClass(workClass).execute(() -> {
+            gateStarted.countDown();
+            try {
+                gateReleased.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(gateStarted.await(5, TimeUnit.SECONDS), "gate task did not start");
+    }
+
+    private void submit(WorkClass workClass, String name) {
+        executor.forClass(workClass).execute(() -> ran.add(name));
+    }
+
+    private void releaseAndAwait(int taskCount) throws InterruptedException {
+        gateReleased.countDown();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (ran.size() < taskCount) {
+            assertTrue(System.currentTimeMillis() < deadline, "only " + ran + " ran");
+            Thread.sleep(5);
+        }
+    }
+
+    private void awaitCompleted(WorkClass workClass, long count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (executor.getCompletedCount(workClass) < count) {
+            assertTrue(System.currentTimeMillis() < deadline, workClass + " tasks did not complete");
+            Thread.sleep(5);
+        }
+    }
+}
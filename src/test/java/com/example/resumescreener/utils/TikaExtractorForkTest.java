@@ -0,0 +1,94 @@
+package com.example.resumescreener.utils;
+
+import org.apache.tika.exception.TikaException;
+import org.apache.tika.metadata.Metadata;
+import org.apache.tika.mime.MediaType;
+import org.apache.tika.parser.AbstractParser;
+import org.apache.tika.parser.ParseContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.xml.sax.ContentHandler;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Checks that in fork mode a document that kills its parser fails only its own
+ * extraction: the application JVM survives and the pool replaces the child.
+ */
+class TikaExtractorForkTest {
+
+    private TikaExtractor extractor;
+
+    @BeforeEach
+    void startForkedPool() {
+        extractor = new TikaExtractor();
+        ReflectionTestUtils.setField(extractor, "configLocation", "tika-fork-test-config.xml");
+        ReflectionTestUtils.setField(extractor, "warmUp", false);
+        ReflectionTestUtils.setField(extractor, "docxFastPath", true);
+        ReflectionTestUtils.setField(extractor, "maxCharacters", 100000);
+        ReflectionTestUtils.setField(extractor, "maxPages", 50);
+        ReflectionTestUtils.setField(extractor, "forkEnabled", true);
+        // A single child, so the parse after the crash must run in a new process
+        ReflectionTestUtils.setField(extractor, "forkPoolSize", 1);
+        ReflectionTestUtils.setField(extractor, "forkHeapMB", 128);
+        ReflectionTestUtils.setField(extractor, "forkParseTimeoutMillis", 30000L);
+        ReflectionTestUtils.setField(extractor, "forkMaxFilesPerProcess", 500);
+        ReflectionTestUtils.setField(extractor, "forkJavaCommand",
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        ReflectionTestUtils.setField(extractor, "forkTikaBin", "");
+        extractor.init();
+    }
+
+    @AfterEach
+    void stopForkedPool() {
+        extractor.close();
+    }
+
+    @Test
+    void crashingParserFailsOnlyItsOwnDocument() throws Exception {
+        String before = extractSample();
+
+        InputStream crash = new ByteArrayInputStream("crash".getBytes(StandardCharsets.US_ASCII));
+        assertThrows(TikaException.class, () -> extractor.extract(crash, "crash.txt"));
+
+        // The dead child was replaced: the next document parses as before
+        assertEquals(before, extractSample());
+    }
+
+    private String extractSample() throws Exception {
+        try (InputStream sample = TikaExtractor.class.getClassLoader()
+                .getResourceAsStream("tika-warmup/sample.pdf")) {
+            ExtractedDocument document = extractor.extract(sample, "sample.pdf");
+            assertEquals("application/pdf", document.getMimeType());
+            assertFalse(document.getText().isEmpty());
+            return document.getText();
+        }
+    }
+
+    /**
+     * Parser for plain text that halts the JVM it runs in, like a parser bug
+     * that crashes the process.
+     */
+    public static class CrashingParser extends AbstractParser {
+
+        @Override
+        public Set<MediaType> getSupportedTypes(ParseContext context) {
+            return Set.of(MediaType.TEXT_PLAIN);
+        }
+
+        @Override
+        public void parse(InputStream stream, ContentHandler handler, Metadata metadata, ParseContext context) {
+            Runtime.getRuntime().halt(1);
+        }
+    }
+}
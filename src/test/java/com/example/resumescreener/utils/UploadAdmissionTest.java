@@ -0,0 +1,158 @@
+package com.example.resumescreener.utils;
+
+import com.example.resumescreener.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks admission control: waiting requests are admitted in arrival order,
+ * requests are rejected when the queue is full or their wait times out, and an
+ * upload larger than the byte budget is admitted on its own.
+ */
+class UploadAdmissionTest {
+
+    private static final long MB = 1024 * 1024;
+
+    private UploadAdmission admission;
+    private ExecutorService requests;
+
+    @BeforeEach
+    void createAdmission() {
+        admission = new UploadAdmission();
+        ReflectionTestUtils.setField(admission, "enabled", true);
+        ReflectionTestUtils.setField(admission, "maxConcurrentExtractions", 2);
+        ReflectionTestUtils.setField(admission, "maxInFlightMB", 10L);
+        ReflectionTestUtils.setField(admission, "maxQueued", 2);
+        ReflectionTestUtils.setField(admission, "queueTimeoutMs", 10000L);
+        ReflectionTestUtils.setField(admission, "retryAfterSeconds", 7L);
+        requests = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void stopRequests() {
+        requests.shutdownNow();
+    }
+
+    @Test
+    void waitingRequestsAreAdmittedInArrivalOrder() throws Exception {
+        UploadAdmission.Permit running = admission.admit(8 * MB);
+        List<String> admitted = new CopyOnWriteArrayList<>();
+
+        // Does not fit next to the running upload
+        Future<?> large = requests.submit(() -> admitAndRecord(5 * MB, "large", admitted));
+        awaitQueueDepth(1);
+        // Would fit, but must not overtake the large upload
+        Future<?> small = requests.submit(() -> admitAndRecord(1 * MB, "small", admitted));
+        awaitQueueDepth(2);
+        assertTrue(admitted.isEmpty());
+
+        running.close();
+        large.get(5, TimeUnit.SECONDS);
+        small.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of("large", "small"), admitted);
+        assertEquals(0, admission.getActiveExtractions());
+        assertEquals(0, admission.getInFlightBytes());
+        assertEquals(0, admission.getQueueDepth());
+        assertEquals(2, admission.getPeakQueueDepth());
+    }
+
+    @Test
+    void requestIsRejectedWhenQueueIsFull() throws Exception {
+        UploadAdmission.Permit first = admission.admit(1 * MB);
+        UploadAdmission.Permit second = admission.admit(1 * MB);
+        Future<?> waiting1 = requests.submit(() -> admission.admit(1 * MB).close());
+        Future<?> waiting2 = requests.submit(() -> admission.admit(1 * MB).close());
+        awaitQueueDepth(2);
+
+        TooManyRequestsException rejected = assertThrows(TooManyRequestsException.class,
+                () -> admission.admit(1 * MB));
+        assertEquals(7, rejected.getRetryAfterSeconds());
+        assertEquals(1, admission.getRejectedQueueFullCount());
+
+        first.close();
+        second.close();
+        waiting1.get(5, TimeUnit.SECONDS);
+        waiting2.get(5, TimeUnit.SECONDS);
+        assertEquals(4, admission.getAdmittedCount());
+    }
+
+    @Test
+    void requestIsRejectedWhenItsWaitTimesOut() {
+        ReflectionTestUtils.setField(admission, "queueTimeoutMs", 50L);
+        UploadAdmission.Permit running = admission.admit(10 * MB);
+
+        assertThrows(TooManyRequestsException.class, () -> admission.admit(1 * MB));
+        assertEquals(1, admission.getRejectedTimeoutCount());
+        assertEquals(0, admission.getQueueDepth());
+
+        // The timed out request left no trace in the budget
+        running.close();
+        admission.admit(10 * MB).close();
+        assertEquals(0, admission.getInFlightBytes());
+    }
+
+    @Test
+    void oversizedUploadRunsAlone() throws Exception {
+        // Larger than the whole byte budget: admitted, counted as the full budget
+        UploadAdmission.Permit oversized = admission.admit(50 * MB);
+        assertEquals(10 * MB, admission.getInFlightBytes());
+
+        List<String> admitted = new CopyOnWriteArrayList<>();
+        Future<?> next = requests.submit(() -> admitAndRecord(1, "next", admitted));
+        awaitQueueDepth(1);
+        assertTrue(admitted.isEmpty());
+
+        oversized.close();
+        next.get(5, TimeUnit.SECONDS);
+        assertEquals(List.of("next"), admitted);
+    }
+
+    @Test
+    void permitIsReleasedOnlyOnce() {
+        UploadAdmission.Permit permit = admission.admit(3 * MB);
+        permit.close();
+        permit.close();
+
+        assertEquals(0, admission.getActiveExtractions());
+        assertEquals(0, admission.getInFlightBytes());
+    }
+
+    @Test
+    void disabledAdmissionAdmitsEverything() {
+        ReflectionTestUtils.setField(admission, "enabled", false);
+        for (int i = 0; i < 10; i++) {
+            admission.admit(50 * MB);
+        }
+        assertEquals(0, admission.getActiveExtractions());
+        assertFalse(admission.isEnabled());
+    }
+
+    private void admitAndRecord(long bytes, String name, List<String> admitted) {
+        try (UploadAdmission.Permit ignored = admission.admit(bytes)) {
+            admitted.add(name);
+        }
+    }
+
+    private void awaitQueueDepth(int depth) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (admission.getQueueDepth() != depth) {
+            assertTrue(System.currentTimeMillis() < deadline, "queue depth did not reach " + depth);
+            Thread.sleep(5);
+        }
+    }
+}